@@ -0,0 +1,20 @@
+package com.example.smoketests;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
+
+/**
+ * Smoke tests to bootstrap Spring Data Cassandra components to verify they are functional.
+ */
+class CassandraSmokeTests {
+
+	@Test
+	void cassandra() {
+
+		CassandraMappingContext context = new CassandraMappingContext();
+		assertThat(context).isNotNull();
+	}
+}
@@ -0,0 +1,20 @@
+package com.example.smoketests;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+
+/**
+ * Smoke tests to bootstrap Spring Data Elasticsearch components to verify they are functional.
+ */
+class ElasticsearchSmokeTests {
+
+	@Test
+	void elasticsearch() {
+
+		SimpleElasticsearchMappingContext context = new SimpleElasticsearchMappingContext();
+		assertThat(context).isNotNull();
+	}
+}
@@ -0,0 +1,19 @@
+package com.example.smoketests;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+
+/**
+ * Smoke tests to bootstrap Spring Data JDBC components to verify they are functional.
+ */
+class JdbcSmokeTests {
+
+	@Test
+	void jdbc() {
+		JdbcMappingContext context = new JdbcMappingContext();
+		assertThat(context).isNotNull();
+	}
+}
@@ -0,0 +1,18 @@
+package com.example.smoketests;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.jpa.domain.JpaSort;
+
+/**
+ * Smoke tests to bootstrap Spring Data JPA components to verify they are functional.
+ */
+class JpaSmokeTests {
+
+	@Test
+	void jpa() {
+		assertThat(JpaSort.unsafe("hello")).isNotNull();
+	}
+}
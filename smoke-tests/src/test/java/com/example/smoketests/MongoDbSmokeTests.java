@@ -0,0 +1,20 @@
+package com.example.smoketests;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+/**
+ * Smoke tests to bootstrap Spring Data MongoDB components to verify they are functional.
+ */
+class MongoDbSmokeTests {
+
+	@Test
+	void mongo() {
+
+		MongoMappingContext context = new MongoMappingContext();
+		assertThat(context).isNotNull();
+	}
+}
@@ -0,0 +1,642 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.build;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.io.FileUtils;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.release.model.Project;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+import org.xmlbeam.XBProjector;
+
+/**
+ * Content-addressed cache of successful Maven executions. An execution is identified by a hash over the files of the
+ * project checkout (excluding build output and VCS metadata), the goals and non-secret arguments of the command line,
+ * the Java runtime, the resolved versions of external {@code SNAPSHOT} artifacts referenced by the checkout POMs and the
+ * most recent cache keys of the project's dependencies, so that a change in an upstream module invalidates its
+ * downstream modules. Entries keep the Maven output of the execution along with the artifacts the execution installed
+ * into the local repository. A cache hit verifies the installed artifacts and restores missing or modified ones; an
+ * entry whose artifacts cannot be restored is a miss.
+ * <p>
+ * The cache is opt-in and persisted in {@link MavenProperties#getBuildCache()}. Executions using the {@code release}
+ * profile or the {@code deploy} goal are never cached. {@code SNAPSHOT} versions are resolved through the
+ * {@code maven-metadata*.xml} files in {@link MavenProperties#getLocalRepository()}, so updated snapshots invalidate
+ * entries only once Maven has downloaded them.
+ *
+ * @author Mark Paluch
+ */
+@Slf4j
+@Component
+public class BuildCache {
+
+	private static final Set<String> EXCLUDED_DIRECTORIES = Set.of("target", "node_modules");
+	private static final Pattern INSTALLED = Pattern.compile("Installing (.+?) to (.+)$");
+	private static final Pattern PROPERTY = Pattern.compile("\\$\\{(.+)}");
+
+	private final @Nullable File directory;
+	private final @Nullable File localRepository;
+	private final XBProjector projector;
+	private final Map<String, String> index = new TreeMap<>();
+
+	@Autowired
+	public BuildCache(MavenProperties properties, XBProjector projector) {
+		this(properties.getBuildCache(), properties.getLocalRepository(), projector);
+	}
+
+	BuildCache(@Nullable File directory, @Nullable File localRepository, XBProjector projector) {
+
+		this.directory = directory;
+		this.localRepository = localRepository;
+		this.projector = projector;
+
+		if (directory != null) {
+			load();
+		}
+	}
+
+	/**
+	 * Returns whether executions of the given {@link CommandLine} are subject to caching. Caching requires a configured
+	 * cache directory and is never applied to release builds or deployments.
+	 *
+	 * @param arguments must not be {@literal null}.
+	 * @return
+	 */
+	public boolean isEnabled(CommandLine arguments) {
+
+		Assert.notNull(arguments, "Arguments must not be null!");
+
+		return directory != null && !arguments.getGoals().contains(CommandLine.Goal.DEPLOY)
+				&& arguments.getArguments().stream().noneMatch(BuildCache::isReleaseProfile);
+	}
+
+	/**
+	 * Computes the cache key for executing {@link CommandLine} in the checkout directory of the given {@link Project}.
+	 *
+	 * @param project must not be {@literal null}.
+	 * @param checkout must not be {@literal null}.
+	 * @param arguments must not be {@literal null}.
+	 * @param runtime identifier of the Java runtime, must not be {@literal null}.
+	 * @return
+	 */
+	public String getKey(Project project, File checkout, CommandLine arguments, String runtime) {
+
+		Assert.notNull(project, "Project must not be null!");
+		Assert.notNull(checkout, "Checkout directory must not be null!");
+		Assert.notNull(arguments, "Arguments must not be null!");
+		Assert.notNull(runtime, "Runtime must not be null!");
+
+		MessageDigest digest = getDigest();
+
+		update(digest, getCacheableCommandLine(arguments));
+		update(digest, runtime);
+
+		synchronized (this) {
+			for (Project dependency : new TreeSet<>(project.getDependencies())) {
+				update(digest, dependency.getName() + "=" + index.getOrDefault(getLatestKey(dependency, arguments), ""));
+			}
+		}
+
+		List<Path> files = getFiles(checkout.toPath());
+
+		getResolvedSnapshots(files).forEach((artifact, resolved) -> update(digest, artifact + "=" + resolved));
+
+		for (Path file : files) {
+
+			update(digest, checkout.toPath().relativize(file).toString().replace(File.separatorChar, '/'));
+
+			try {
+				digest.update(Files.readAllBytes(file));
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	/**
+	 * Looks up the Maven output of a previous execution with the given key and records a cache hit or miss for the
+	 * given {@link Project}. Artifacts installed by the previous execution are verified and restored if they were
+	 * removed or modified since.
+	 *
+	 * @param project must not be {@literal null}.
+	 * @param key must not be {@literal null}.
+	 * @return the file containing the recorded Maven output or {@link Optional#empty()} if there is no cache entry or its
+	 *         artifacts cannot be restored.
+	 */
+	public Optional<File> get(Project project, String key) {
+
+		Assert.notNull(project, "Project must not be null!");
+		Assert.notNull(key, "Key must not be null!");
+
+		File entry = getEntry(key);
+		boolean hit = entry != null && entry.exists() && restoreArtifacts(key);
+
+		synchronized (this) {
+			index.merge(getStatisticsKey(project, hit ? "hits" : "misses"), "1", BuildCache::increment);
+			save();
+		}
+
+		return hit ? Optional.of(entry) : Optional.empty();
+	}
+
+	/**
+	 * Records the Maven output of a successful execution along with the artifacts it installed as reported by
+	 * {@code Installing … to …} lines of the output.
+	 *
+	 * @param project must not be {@literal null}.
+	 * @param arguments must not be {@literal null}.
+	 * @param key must not be {@literal null}.
+	 * @param output must not be {@literal null}.
+	 */
+	public void put(Project project, CommandLine arguments, String key, Stream<String> output) {
+
+		Assert.notNull(project, "Project must not be null!");
+		Assert.notNull(arguments, "Arguments must not be null!");
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(output, "Output must not be null!");
+
+		File entry = getEntry(key);
+
+		if (entry != null) {
+
+			entry.getParentFile().mkdirs();
+
+			Properties artifacts = new Properties();
+
+			try (Writer writer = Files.newBufferedWriter(entry.toPath(), StandardCharsets.UTF_8)) {
+
+				for (String line : (Iterable<String>) output::iterator) {
+
+					writer.write(line);
+					writer.write(System.lineSeparator());
+
+					Matcher matcher = INSTALLED.matcher(line);
+
+					if (matcher.find()) {
+						storeArtifact(new File(matcher.group(1).trim()), new File(matcher.group(2).trim()), artifacts);
+					}
+				}
+
+				try (OutputStream os = new FileOutputStream(getArtifacts(key))) {
+					artifacts.store(os, "Installed artifacts");
+				}
+			} catch (IOException | UncheckedIOException e) {
+				log.warn("Cannot write build cache entry {}: {}", entry, e.getMessage());
+				FileUtils.deleteQuietly(entry);
+				FileUtils.deleteQuietly(getArtifacts(key));
+			}
+		}
+
+		synchronized (this) {
+			index.put(getLatestKey(project, arguments), key);
+			save();
+		}
+	}
+
+	/**
+	 * Returns cache hits and misses per project.
+	 *
+	 * @return
+	 */
+	public synchronized List<Statistics> getStatistics() {
+
+		Map<String, Statistics> statistics = new TreeMap<>();
+
+		index.forEach((key, value) -> {
+
+			if (!key.startsWith("statistics.")) {
+				return;
+			}
+
+			String[] segments = key.split("\\.");
+			Statistics current = statistics.getOrDefault(segments[1], new Statistics(segments[1], 0, 0));
+			long count = Long.parseLong(value);
+
+			statistics.put(segments[1], "hits".equals(segments[2]) ? new Statistics(current.project, count, current.misses)
+					: new Statistics(current.project, current.hits, count));
+		});
+
+		return new ArrayList<>(statistics.values());
+	}
+
+	/**
+	 * Removes all cache entries and statistics.
+	 */
+	public synchronized void clear() {
+
+		index.clear();
+
+		if (directory != null) {
+			FileUtils.deleteQuietly(directory);
+		}
+	}
+
+	/**
+	 * Renders the goals and arguments of the given {@link CommandLine} that contribute to the cache key. Secrets such as
+	 * the GPG passphrase contribute their name only so that they are not hashed into keys persisted on disk.
+	 *
+	 * @param arguments must not be {@literal null}.
+	 * @return
+	 */
+	static String getCacheableCommandLine(CommandLine arguments) {
+
+		Stream<String> goals = arguments.getGoals().stream().map(CommandLine.Goal::getGoal);
+		Stream<String> values = arguments.getArguments().stream()
+				.map(it -> it.isSecret() ? it.getName() : it.toString());
+
+		return Stream.concat(goals, values).collect(Collectors.joining(" "));
+	}
+
+	/**
+	 * Resolves external {@code SNAPSHOT} artifacts (parents, dependencies, imported BOMs, plugins) referenced by the
+	 * given POM files against the local repository. Artifacts built by the checkout itself are not considered external.
+	 *
+	 * @param files files of the checkout.
+	 * @return resolved {@code maven-metadata*.xml} checksums keyed by artifact coordinates.
+	 */
+	private Map<String, String> getResolvedSnapshots(List<Path> files) {
+
+		List<Pom> poms = files.stream().filter(it -> it.getFileName().toString().equals("pom.xml"))
+				.map(it -> readPom(it.toFile())).toList();
+		Set<String> reactor = poms.stream().map(Pom::getArtifactId).collect(Collectors.toSet());
+		Map<String, String> snapshots = new TreeMap<>();
+
+		for (Pom pom : poms) {
+
+			List<Pom.Artifact> artifacts = new ArrayList<>(pom.getArtifactReferences());
+
+			if (pom.getParent() != null) {
+				artifacts.add(pom.getParent());
+			}
+
+			for (Pom.Artifact artifact : artifacts) {
+
+				String groupId = artifact.getRawGroupId();
+				String version = resolveProperty(pom, poms, artifact.getVersion());
+
+				if (groupId == null || version == null || !version.endsWith("-SNAPSHOT")
+						|| reactor.contains(artifact.getArtifactId())) {
+					continue;
+				}
+
+				snapshots.computeIfAbsent(String.join(":", groupId, artifact.getArtifactId(), version),
+						it -> getSnapshotMetadataChecksum(groupId, artifact.getArtifactId(), version));
+			}
+		}
+
+		return snapshots;
+	}
+
+	@Nullable
+	private static String resolveProperty(Pom pom, List<Pom> poms, @Nullable String value) {
+
+		Matcher matcher = value == null ? null : PROPERTY.matcher(value.trim());
+
+		if (matcher == null || !matcher.matches()) {
+			return value == null ? null : value.trim();
+		}
+
+		String resolved = pom.getProperty(matcher.group(1));
+
+		for (int i = 0; i < poms.size() && !StringUtils.hasText(resolved); i++) {
+			resolved = poms.get(i).getProperty(matcher.group(1));
+		}
+
+		return StringUtils.hasText(resolved) ? resolved.trim() : null;
+	}
+
+	private String getSnapshotMetadataChecksum(String groupId, String artifactId, String version) {
+
+		File versionDirectory = localRepository == null ? null
+				: new File(localRepository, String.join("/", groupId.replace('.', '/'), artifactId, version));
+		File[] metadata = versionDirectory == null ? null
+				: versionDirectory.listFiles((dir, name) -> name.startsWith("maven-metadata") && name.endsWith(".xml"));
+
+		if (metadata == null || metadata.length == 0) {
+			return "unresolved";
+		}
+
+		MessageDigest digest = getDigest();
+
+		Arrays.stream(metadata).sorted().forEach(it -> {
+			update(digest, it.getName());
+			update(digest, sha256(it));
+		});
+
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private Pom readPom(File file) {
+
+		try {
+			return projector.io().file(file).read(Pom.class);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static boolean isReleaseProfile(CommandLine.Argument argument) {
+
+		String name = argument.getName();
+
+		return name.startsWith("-P") && Arrays.asList(name.substring(2).split(",")).contains("release");
+	}
+
+	/**
+	 * Stores the installed artifact by its content and registers it for restoration in the local repository and, if it
+	 * was packaged into a build output directory, in the checkout.
+	 */
+	private void storeArtifact(File source, File installed, Properties artifacts) throws IOException {
+
+		if (!installed.isFile()) {
+			return;
+		}
+
+		String checksum = sha256(installed);
+		File blob = getBlob(checksum);
+
+		if (!blob.exists()) {
+
+			blob.getParentFile().mkdirs();
+
+			File temp = new File(blob.getParentFile(), blob.getName() + ".tmp" + Thread.currentThread().getId());
+			Files.copy(installed.toPath(), temp.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			Files.move(temp.toPath(), blob.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+
+		artifacts.setProperty(installed.getAbsolutePath(), checksum);
+
+		File parent = source.getAbsoluteFile().getParentFile();
+
+		if (source.isFile() && parent != null && parent.getName().equals("target")) {
+			artifacts.setProperty(source.getAbsolutePath(), checksum);
+		}
+	}
+
+	/**
+	 * Verifies the artifacts recorded for the given key and restores missing or modified ones from the cache.
+	 *
+	 * @return {@literal true} if all artifacts are in place, {@literal false} if the entry predates artifact recording or
+	 *         an artifact cannot be restored.
+	 */
+	private boolean restoreArtifacts(String key) {
+
+		File file = getArtifacts(key);
+
+		if (!file.exists()) {
+			return false;
+		}
+
+		Properties artifacts = new Properties();
+
+		try (InputStream is = new FileInputStream(file)) {
+
+			artifacts.load(is);
+
+			for (String path : artifacts.stringPropertyNames()) {
+
+				File artifact = new File(path);
+				String checksum = artifacts.getProperty(path);
+
+				if (artifact.isFile() && sha256(artifact).equals(checksum)) {
+					continue;
+				}
+
+				File blob = getBlob(checksum);
+
+				if (!blob.isFile()) {
+					log.warn("Cannot restore {} from build cache, content {} is missing", artifact, checksum);
+					return false;
+				}
+
+				artifact.getParentFile().mkdirs();
+				Files.copy(blob.toPath(), artifact.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (IOException | UncheckedIOException e) {
+			log.warn("Cannot restore artifacts of build cache entry {}: {}", key, e.getMessage());
+			return false;
+		}
+
+		return true;
+	}
+
+	private static String sha256(File file) {
+
+		MessageDigest digest = getDigest();
+
+		try (InputStream is = Files.newInputStream(file.toPath())) {
+
+			byte[] buffer = new byte[8192];
+
+			for (int read = is.read(buffer); read != -1; read = is.read(buffer)) {
+				digest.update(buffer, 0, read);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private static List<Path> getFiles(Path root) {
+
+		if (!Files.isDirectory(root)) {
+			return Collections.emptyList();
+		}
+
+		List<Path> files = new ArrayList<>();
+
+		try {
+			Files.walkFileTree(root, new SimpleFileVisitor<>() {
+
+				@Override
+				public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+
+					if (dir.equals(root)) {
+						return FileVisitResult.CONTINUE;
+					}
+
+					String name = dir.getFileName().toString();
+
+					// keep .mvn as it contains Maven configuration and extensions
+					boolean excluded = EXCLUDED_DIRECTORIES.contains(name) || (name.startsWith(".") && !name.equals(".mvn"));
+
+					return excluded ? FileVisitResult.SKIP_SUBTREE : FileVisitResult.CONTINUE;
+				}
+
+				@Override
+				public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+
+					if (attrs.isRegularFile()) {
+						files.add(file);
+					}
+
+					return FileVisitResult.CONTINUE;
+				}
+			});
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		Collections.sort(files);
+
+		return files;
+	}
+
+	private static MessageDigest getDigest() {
+
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		digest.update(value.getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+	}
+
+	private static String increment(String previous, String ignored) {
+		return Long.toString(Long.parseLong(previous) + 1);
+	}
+
+	private static String getLatestKey(Project project, CommandLine arguments) {
+		return "latest." + project.getName() + "."
+				+ arguments.getGoals().stream().map(CommandLine.Goal::getGoal).collect(Collectors.joining("-"));
+	}
+
+	private static String getStatisticsKey(Project project, String kind) {
+		return "statistics." + project.getName() + "." + kind;
+	}
+
+	@Nullable
+	private File getEntry(String key) {
+		return directory == null ? null : new File(directory, "entries/" + key + ".log");
+	}
+
+	private File getArtifacts(String key) {
+		return new File(directory, "entries/" + key + ".artifacts");
+	}
+
+	private File getBlob(String checksum) {
+		return new File(directory, "artifacts/" + checksum);
+	}
+
+	private void load() {
+
+		File file = new File(directory, "index.properties");
+
+		if (!file.exists()) {
+			return;
+		}
+
+		Properties properties = new Properties();
+
+		try (InputStream is = new FileInputStream(file)) {
+			properties.load(is);
+		} catch (IOException e) {
+			log.warn("Cannot read build cache index from {}: {}", file, e.getMessage());
+			return;
+		}
+
+		properties.forEach((key, value) -> index.put(key.toString(), value.toString()));
+	}
+
+	private void save() {
+
+		if (directory == null) {
+			return;
+		}
+
+		Properties properties = new Properties();
+		properties.putAll(index);
+
+		File file = new File(directory, "index.properties");
+		directory.mkdirs();
+
+		try (OutputStream os = new FileOutputStream(file)) {
+			properties.store(os, "Build cache index");
+		} catch (IOException e) {
+			log.warn("Cannot write build cache index to {}: {}", file, e.getMessage());
+		}
+	}
+
+	/**
+	 * Cache hits and misses of a project.
+	 */
+	@Value
+	public static class Statistics {
+
+		String project;
+		long hits;
+		long misses;
+
+		/**
+		 * Returns the ratio of cache hits to lookups.
+		 *
+		 * @return
+		 */
+		public double getHitRate() {
+			return hits + misses == 0 ? 0 : (double) hits / (hits + misses);
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%-14s - %d hits, %d misses (%.0f%% hit rate)", project, hits, misses, getHitRate() * 100);
+		}
+	}
+}
@@ -21,7 +21,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.apache.commons.io.IOUtils;
 
 import org.springframework.data.release.CliComponent;
 import org.springframework.data.release.TimedCommand;
@@ -47,6 +51,7 @@ import org.springframework.util.Assert;
 class BuildCommands extends TimedCommand {
 
 	@NonNull BuildOperations build;
+	@NonNull BuildCache cache;
 	@NonNull Workspace workspace;
 	@NonNull Logger logger;
 
@@ -63,6 +68,39 @@ class BuildCommands extends TimedCommand {
 
 		workspace.purge(build.getLocalRepository(),
 				path -> build.getLocalRepository().relativize(path).startsWith("org/springframework/data"));
+
+		// cached executions refer to artifacts in the local repository
+		cache.clear();
+	}
+
+	/**
+	 * Reports build cache hits and misses per project.
+	 */
+	@CliCommand("build cache report")
+	public String cacheReport() {
+
+		List<BuildCache.Statistics> statistics = cache.getStatistics();
+
+		if (statistics.isEmpty()) {
+			return "Build cache is empty.";
+		}
+
+		long hits = statistics.stream().mapToLong(BuildCache.Statistics::getHits).sum();
+		long misses = statistics.stream().mapToLong(BuildCache.Statistics::getMisses).sum();
+
+		return statistics.stream().map(Object::toString).collect(Collectors.joining(IOUtils.LINE_SEPARATOR))
+				+ IOUtils.LINE_SEPARATOR + new BuildCache.Statistics("Total", hits, misses);
+	}
+
+	/**
+	 * Removes all cached build executions.
+	 */
+	@CliCommand("build cache clear")
+	public void cacheClear() {
+
+		cache.clear();
+
+		logger.log("Build", "Build cache cleared.");
 	}
 
 	/**
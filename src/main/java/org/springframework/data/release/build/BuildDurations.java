@@ -0,0 +1,166 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.build;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.release.model.Project;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+/**
+ * History of Maven execution durations per {@link Project} and {@link CommandLine.Goal goals}. Durations are smoothed
+ * across runs and, if configured, persisted to {@link MavenProperties#getBuildHistory()} so that subsequent runs can
+ * schedule the longest chain of modules first. Without a history file, durations are kept for the current run only.
+ *
+ * @author Mark Paluch
+ */
+@Slf4j
+@Component
+public class BuildDurations {
+
+	private final @Nullable File historyFile;
+	private final Map<String, Long> durations = new ConcurrentHashMap<>();
+
+	@Autowired
+	public BuildDurations(MavenProperties properties) {
+		this(properties.getBuildHistory());
+	}
+
+	BuildDurations(@Nullable File historyFile) {
+
+		this.historyFile = historyFile;
+
+		if (historyFile != null && historyFile.exists()) {
+			load(historyFile);
+		}
+	}
+
+	/**
+	 * Records the duration of executing {@code goals} for the given {@link Project}.
+	 *
+	 * @param project must not be {@literal null}.
+	 * @param goals must not be {@literal null}.
+	 * @param duration must not be {@literal null}.
+	 */
+	public void record(Project project, List<CommandLine.Goal> goals, Duration duration) {
+
+		Assert.notNull(project, "Project must not be null!");
+		Assert.notNull(goals, "Goals must not be null!");
+		Assert.notNull(duration, "Duration must not be null!");
+
+		durations.merge(getKey(project, goals), duration.toMillis(), (previous, current) -> (previous + current) / 2);
+
+		save();
+	}
+
+	/**
+	 * Returns the recorded duration of executing {@code goals} for the given {@link Project} or {@link Duration#ZERO} if
+	 * no duration was recorded yet.
+	 *
+	 * @param project must not be {@literal null}.
+	 * @param goals must not be {@literal null}.
+	 * @return
+	 */
+	public Duration getDuration(Project project, List<CommandLine.Goal> goals) {
+
+		Assert.notNull(project, "Project must not be null!");
+		Assert.notNull(goals, "Goals must not be null!");
+
+		return Duration.ofMillis(durations.getOrDefault(getKey(project, goals), 0L));
+	}
+
+	/**
+	 * Returns the estimated cost of running a build step for the given {@link Project}. The estimate is the longest
+	 * recorded duration across all goals for the project as a proxy for the relative size of the project.
+	 *
+	 * @param project must not be {@literal null}.
+	 * @return
+	 */
+	public Duration estimate(Project project) {
+
+		Assert.notNull(project, "Project must not be null!");
+
+		String prefix = project.getName() + ".";
+
+		return Duration.ofMillis(durations.entrySet().stream() //
+				.filter(it -> it.getKey().startsWith(prefix)) //
+				.mapToLong(Map.Entry::getValue) //
+				.max() //
+				.orElse(0L));
+	}
+
+	private static String getKey(Project project, List<CommandLine.Goal> goals) {
+		return project.getName() + "." + goals.stream().map(CommandLine.Goal::getGoal).collect(Collectors.joining("-"));
+	}
+
+	private void load(File file) {
+
+		Properties properties = new Properties();
+
+		try (InputStream is = new FileInputStream(file)) {
+			properties.load(is);
+		} catch (IOException e) {
+			log.warn("Cannot read build history from {}: {}", file, e.getMessage());
+			return;
+		}
+
+		properties.forEach((key, value) -> {
+			try {
+				durations.put(key.toString(), Long.parseLong(value.toString()));
+			} catch (NumberFormatException e) {
+				log.warn("Ignoring invalid build history entry {}={}", key, value);
+			}
+		});
+	}
+
+	private synchronized void save() {
+
+		if (historyFile == null) {
+			return;
+		}
+
+		Properties properties = new Properties();
+		durations.forEach((key, value) -> properties.setProperty(key, value.toString()));
+
+		File parent = historyFile.getParentFile();
+
+		if (parent != null && !parent.exists()) {
+			parent.mkdirs();
+		}
+
+		try (OutputStream os = new FileOutputStream(historyFile)) {
+			properties.store(os, "Maven execution durations in milliseconds");
+		} catch (IOException e) {
+			log.warn("Cannot write build history to {}: {}", historyFile, e.getMessage());
+		}
+	}
+}
@@ -18,11 +18,19 @@ package org.springframework.data.release.build;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
+import lombok.Value;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -30,8 +38,9 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
@@ -46,6 +55,7 @@ import org.springframework.data.release.model.ProjectAware;
 import org.springframework.data.release.model.SupportedProject;
 import org.springframework.data.release.utils.ListWrapperCollector;
 import org.springframework.data.util.Streamable;
+import org.springframework.lang.Nullable;
 import org.springframework.plugin.core.PluginRegistry;
 import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
@@ -60,12 +70,16 @@ import org.springframework.util.Assert;
 class BuildExecutor {
 
 	private final @NonNull PluginRegistry<BuildSystem, SupportedProject> buildSystems;
-	private final ExecutorService executor;
+	private final BuildScheduler scheduler;
 	private final Workspace workspace;
+	private final BuildDurations durations;
+	private final Map<File, CiProperties> ciProperties = new ConcurrentHashMap<>();
 
 	/**
 	 * Selects the build system for each module contained in the given iteration and executes the given function for it
-	 * considering pre-requites, honoring the order.
+	 * considering pre-requites, honoring the order. Each module is scheduled as soon as all of its dependencies have
+	 * completed so that independent modules run concurrently as far as the resource budget permits. Modules on the
+	 * longest chain of dependent modules obtain free execution slots first.
 	 *
 	 * @param iteration must not be {@literal null}.
 	 * @param function must not be {@literal null}.
@@ -89,56 +103,166 @@ class BuildExecutor {
 		return doWithBuildSystem(iteration, function, false);
 	}
 
-	private <T, M extends ProjectAware> Summary<T> doWithBuildSystem(Streamable<M> iteration,
-			BiFunction<BuildSystem, M, T> function, boolean considerDependencyOrder) {
+	/**
+	 * Runs the given {@link Pipeline} for each module contained in the given iteration. Each module passes through the
+	 * stages on its own; only stages declared to run after upstream modules wait for the module's dependencies.
+	 *
+	 * @param iteration must not be {@literal null}.
+	 * @param pipeline must not be {@literal null}.
+	 * @return
+	 */
+	public <M extends ProjectAware> Summary<M> doWithPipeline(Streamable<M> iteration, Pipeline<M> pipeline) {
 
-		Map<Project, CompletableFuture<T>> results = new ConcurrentHashMap<>();
+		Assert.notNull(pipeline, "Pipeline must not be null!");
 
-		// Add here projects that should be skipped because of a partial deployment to e.g. Sonatype.
-		Set<Project> skip = new HashSet<>(Arrays.asList());
+		return execute(iteration, pipeline);
+	}
 
-		skip.forEach(it -> results.put(it, CompletableFuture.completedFuture(null)));
+	/**
+	 * Runs the given function once for all modules contained in the given iteration, e.g. to build all modules within a
+	 * single reactor, and reports the outcome per module. The function is admitted through the {@link BuildScheduler}
+	 * weighing as much as all modules combined and the time spent per module is recorded in {@link BuildDurations}.
+	 * Modules depending on a failed module are reported as {@link Skipped}. All modules must require the same Java
+	 * version.
+	 *
+	 * @param iteration must not be {@literal null}.
+	 * @param function must not be {@literal null}, returns the {@link ReactorResult}.
+	 * @param result must not be {@literal null}, provides the result for a successful module.
+	 * @return
+	 */
+	public <T, M extends ProjectAware> Summary<T> doWithReactor(Streamable<M> iteration,
+			BiFunction<BuildSystem, List<M>, ReactorResult> function, Function<M, T> result) {
 
-		for (M moduleIteration : iteration) {
+		Assert.notNull(iteration, "Iteration must not be null!");
+		Assert.notNull(function, "Function must not be null!");
+		Assert.notNull(result, "Result function must not be null!");
+
+		List<M> modules = iteration.toList();
+
+		Assert.notEmpty(modules, "Iteration must contain at least one module!");
+
+		Set<String> javaVersions = modules.stream() //
+				.map(it -> detectJavaVersion(it.getSupportedProject()).getName()) //
+				.collect(Collectors.toCollection(LinkedHashSet::new));
+
+		if (javaVersions.size() > 1) {
+			throw new IllegalStateException(
+					String.format("Modules require different Java versions %s and cannot be built in a single reactor",
+							javaVersions));
+		}
+
+		ReactorResult reactor = runReactor(modules, function);
+		Map<Project, Throwable> failures = reactor.getFailures();
+
+		reactor.getDurations().forEach((project, duration) -> {
+			if (!failures.containsKey(project)) {
+				durations.record(project, reactor.getGoals(), duration);
+			}
+		});
+
+		return modules.stream().map(module -> {
+
+			Project project = module.getProject();
+			Throwable failure = failures.get(project);
 
-			if (skip.contains(moduleIteration.getProject())) {
-				continue;
+			if (failure != null) {
+				return new ExecutionResult<T>(project, failure);
 			}
 
-			if (considerDependencyOrder) {
-				Set<Project> dependencies = moduleIteration.getProject().getDependencies();
-				for (Project dependency : dependencies) {
+			return failures.keySet().stream() //
+					.filter(project::dependsOn) //
+					.findFirst() //
+					.map(it -> new ExecutionResult<T>(project,
+							new Skipped(String.format("upstream %s failed", it.getName())))) //
+					.orElseGet(() -> new ExecutionResult<>(project, result.apply(module)));
 
-					CompletableFuture<T> futureResult = results.get(dependency);
+		}).collect(toSummaryCollector());
+	}
 
-					if (futureResult == null) {
+	/**
+	 * Submits the reactor build to the {@link BuildScheduler} and awaits its outcome. Interrupting the calling thread
+	 * cancels the build.
+	 */
+	private <M extends ProjectAware> ReactorResult runReactor(List<M> modules,
+			BiFunction<BuildSystem, List<M>, ReactorResult> function) {
 
-						if (!iteration.stream().map(ProjectAware::getSupportedProject)
-								.anyMatch(project -> project.equals(dependency))) {
-							throw new IllegalStateException(moduleIteration.getSupportedProject().getName() + " requires "
-									+ dependency.getName() + " which is not part of the Iteration. Please fix Projects/Iterations setup");
-						}
+		List<Project> projects = modules.stream().map(ProjectAware::getProject).toList();
+		Duration priority = projects.stream().map(this::estimate).reduce(Duration.ZERO, Duration::plus);
+		BuildSystem buildSystem = getBuildSystem(modules.get(0));
+		CompletableFuture<ReactorResult> outcome = new CompletableFuture<>();
 
-						throw new IllegalStateException("No future result for " + dependency.getName() + ", required by "
-								+ moduleIteration.getSupportedProject().getName());
-					}
+		BuildScheduler.Submission submission = scheduler.submit(projects, priority, () -> {
 
-					futureResult.join();
-				}
+			try {
+				outcome.complete(function.apply(buildSystem, modules));
+			} catch (Exception e) {
+				outcome.completeExceptionally(e);
 			}
+		});
+
+		submission.getCompletion().whenComplete((ignored, e) -> {
+
+			if (e instanceof RejectedExecutionException) {
+				outcome.completeExceptionally(e);
+			}
+		});
+
+		try {
+			return outcome.get();
+		} catch (InterruptedException e) {
+
+			submission.cancel();
+			Thread.currentThread().interrupt();
+
+			throw new IllegalStateException("Interrupted while building reactor", e);
+		} catch (ExecutionException e) {
+
+			if (e.getCause() instanceof RuntimeException exception) {
+				throw exception;
+			}
+
+			throw new IllegalStateException(e.getCause());
+		}
+	}
 
-			CompletableFuture<T> result = run(moduleIteration, function);
+	private <T, M extends ProjectAware> Summary<T> doWithBuildSystem(Streamable<M> iteration,
+			BiFunction<BuildSystem, M, T> function, boolean considerDependencyOrder) {
+
+		Assert.notNull(function, "Function must not be null!");
+
+		return execute(iteration,
+				Pipeline.of("Build", module -> function.apply(getBuildSystem(module), module), considerDependencyOrder));
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T, M extends ProjectAware> Summary<T> execute(Streamable<M> iteration, Pipeline<M> pipeline) {
 
-			results.put(moduleIteration.getProject(), result);
+		Assert.notNull(iteration, "Iteration must not be null!");
+
+		Map<Project, M> modules = new LinkedHashMap<>();
+		iteration.forEach(it -> modules.put(it.getProject(), it));
+
+		Map<Project, Duration> priorities = pipeline.hasUpstreamStages() ? getCriticalPaths(modules.keySet())
+				: modules.keySet().stream().collect(Collectors.toMap(it -> it, this::estimate));
+
+		Execution<M> execution = new Execution<>(modules, priorities, pipeline.getStages());
+
+		// Add here projects that should be skipped because of a partial deployment to e.g. Sonatype.
+		Set<Project> skip = new HashSet<>(Arrays.asList());
+
+		skip.forEach(execution::complete);
+
+		for (M moduleIteration : iteration) {
+			execution.schedule(moduleIteration);
 		}
 
 		return iteration.stream()//
 				.map(module -> {
 
-					CompletableFuture<T> future = results.get(module.getProject());
+					CompletableFuture<Object> future = execution.getResult(module.getProject());
 
 					try {
-						return new ExecutionResult<T>(module.getProject(), future.get());
+						return new ExecutionResult<T>(module.getProject(), (T) future.get());
 					}
 
 				catch (InterruptedException | ExecutionException e) {
@@ -149,33 +273,294 @@ class BuildExecutor {
 				.collect(toSummaryCollector());
 	}
 
-	private <T, M extends ProjectAware> CompletableFuture<T> run(M module, BiFunction<BuildSystem, M, T> function) {
+	/**
+	 * Computes the critical path for each of the given projects, that is the estimated duration of the project itself
+	 * plus the longest chain of projects (within the given ones) that depend on it.
+	 *
+	 * @param projects must not be {@literal null}.
+	 * @return
+	 */
+	Map<Project, Duration> getCriticalPaths(Collection<Project> projects) {
+
+		Map<Project, Duration> paths = new HashMap<>();
+		projects.forEach(it -> getCriticalPath(it, projects, paths));
+
+		return paths;
+	}
+
+	private Duration getCriticalPath(Project project, Collection<Project> projects, Map<Project, Duration> paths) {
 
-		Assert.notNull(module, "Module must not be null!");
+		Duration path = paths.get(project);
+
+		if (path != null) {
+			return path;
+		}
+
+		Duration downstream = projects.stream() //
+				.filter(it -> it.getDependencies().contains(project)) //
+				.map(it -> getCriticalPath(it, projects, paths)) //
+				.max(Comparator.naturalOrder()) //
+				.orElse(Duration.ZERO);
+
+		path = estimate(project).plus(downstream);
+		paths.put(project, path);
+
+		return path;
+	}
+
+	/**
+	 * Returns the estimated duration for the given {@link Project}. Projects without recorded history count as one
+	 * second so that the length of a chain still determines its priority.
+	 *
+	 * @param project must not be {@literal null}.
+	 * @return
+	 */
+	private Duration estimate(Project project) {
+
+		Duration estimate = durations.estimate(project);
+
+		return estimate.isZero() ? Duration.ofSeconds(1) : estimate;
+	}
+
+	private BuildSystem getBuildSystem(ProjectAware module) {
 
-		CompletableFuture<T> result = new CompletableFuture<>();
 		Supplier<IllegalStateException> exception = () -> new IllegalStateException(
 				String.format("No build system plugin found for project %s!", module.getSupportedProject()));
 
-		BuildSystem buildSystem = buildSystems //
+		return buildSystems //
 				.getPluginFor(module.getSupportedProject(), exception) //
 				.withJavaVersion(detectJavaVersion(module.getSupportedProject()));
+	}
 
-		Runnable runnable = () -> {
+	/**
+	 * Execution of {@link Pipeline.Stage stages} across modules. A failing stage aborts the work that depends on it:
+	 * stages of modules depending on the failed module that did not complete yet are marked as {@link Skipped}, pending
+	 * stages are discarded and running stages are interrupted, terminating their Maven processes. Independent modules
+	 * run to completion so that their results and failures are reported as well.
+	 */
+	@RequiredArgsConstructor
+	private class Execution<M extends ProjectAware> {
+
+		private final Map<Project, M> modules;
+		private final Map<Project, Duration> priorities;
+		private final List<Pipeline.Stage<M>> stages;
+
+		private final Map<StageKey, CompletableFuture<Object>> results = new ConcurrentHashMap<>();
+		private final Map<StageKey, BuildScheduler.Submission> submissions = new ConcurrentHashMap<>();
+		private final Set<Project> failed = ConcurrentHashMap.newKeySet();
+
+		/**
+		 * Marks all stages of the given {@link Project} as completed.
+		 *
+		 * @param project must not be {@literal null}.
+		 */
+		void complete(Project project) {
+
+			for (int i = 0; i < stages.size(); i++) {
+				results.put(new StageKey(project, i), CompletableFuture.completedFuture(null));
+			}
+		}
 
-			try {
+		/**
+		 * Returns the result of the last stage for the given {@link Project}.
+		 *
+		 * @param project must not be {@literal null}.
+		 * @return
+		 */
+		CompletableFuture<Object> getResult(Project project) {
+			return results.get(new StageKey(project, stages.size() - 1));
+		}
 
-				result.complete(function.apply(buildSystem, module));
-			} catch (Exception e) {
-				result.completeExceptionally(e);
+		/**
+		 * Schedules all stages of the given module for execution.
+		 *
+		 * @param module must not be {@literal null}.
+		 */
+		void schedule(M module) {
+			schedule(module, stages.size() - 1);
+		}
+
+		/**
+		 * Schedules the given stage of the module for execution. The stage is chained onto the completion of the module's
+		 * previous stage and, if the stage runs after upstream modules, onto the completion of the same stage of the
+		 * module's dependencies (scheduling them first if necessary) instead of blocking the calling thread.
+		 *
+		 * @param module must not be {@literal null}.
+		 * @param stage index of the stage.
+		 * @return
+		 */
+		private CompletableFuture<Object> schedule(M module, int stage) {
+
+			StageKey key = new StageKey(module.getProject(), stage);
+			CompletableFuture<Object> scheduled = results.get(key);
+
+			if (scheduled != null) {
+				return scheduled;
+			}
+
+			CompletableFuture<Object> previous = stage > 0 ? schedule(module, stage - 1) : null;
+			List<CompletableFuture<Object>> prerequisites = new ArrayList<>();
+
+			if (stages.get(stage).isAfterUpstream()) {
+
+				for (Project dependency : module.getProject().getDependencies()) {
+
+					CompletableFuture<Object> prerequisite = results.get(new StageKey(dependency, stage));
+
+					if (prerequisite == null) {
+
+						M dependencyModule = modules.get(dependency);
+
+						if (dependencyModule == null) {
+							throw new IllegalStateException(module.getSupportedProject().getName() + " requires "
+									+ dependency.getName() + " which is not part of the Iteration. Please fix Projects/Iterations setup");
+						}
+
+						prerequisite = schedule(dependencyModule, stage);
+					}
+
+					prerequisites.add(prerequisite);
+				}
+			}
+
+			CompletableFuture<Object> result;
+
+			if (previous == null && prerequisites.isEmpty()) {
+				result = run(module, stage);
+			} else {
+
+				// a failed upstream module has already aborted its downstream modules so run(…) reports this stage as skipped
+				// while a failure of the module's previous stage propagates as-is
+				CompletableFuture<Object> upstream = CompletableFuture
+						.allOf(prerequisites.toArray(new CompletableFuture<?>[0])).handle((it, e) -> null);
+
+				result = (previous == null ? upstream : previous.thenCombine(upstream, (it, e) -> it))
+						.thenCompose(it -> run(module, stage));
+			}
+
+			results.putIfAbsent(key, result);
+
+			return result;
+		}
+
+		private CompletableFuture<Object> run(M module, int stage) {
+
+			Assert.notNull(module, "Module must not be null!");
+
+			Project project = module.getProject();
+
+			Project upstream = getFailedUpstream(project);
+
+			if (upstream != null) {
+				return CompletableFuture.failedFuture(skip(upstream));
 			}
-		};
 
-		executor.execute(runnable);
+			CompletableFuture<Object> result = new CompletableFuture<>();
+			Pipeline.Stage<M> definition = stages.get(stage);
+			Function<M, ?> action = definition.getAction();
+
+			Runnable runnable = () -> {
+
+				try {
+
+					result.complete(action.apply(module));
+				} catch (Exception e) {
+
+					Project failure = getFailedUpstream(project);
+
+					// interrupted as an upstream module failed
+					if (failure != null) {
+						result.completeExceptionally(skip(failure));
+						return;
+					}
+
+					// abort before completing so that dependents are reported as skipped
+					abort(project, e);
+					result.completeExceptionally(e);
+				}
+			};
+
+			Duration priority = priorities.getOrDefault(project, Duration.ZERO);
+			BuildScheduler.Submission submission = definition.isBuild() ? scheduler.submit(project, priority, runnable)
+					: scheduler.submit(priority, runnable);
+			submissions.put(new StageKey(project, stage), submission);
+
+			submission.getCompletion().whenComplete((ignored, e) -> {
+
+				// the executor did not accept the task, e.g. as it is shutting down
+				if (e instanceof RejectedExecutionException rejected && !result.isDone()) {
+					abort(project, rejected);
+					result.completeExceptionally(rejected);
+				}
+			});
+
+			// an upstream module failed while submitting
+			Project failure = getFailedUpstream(project);
+
+			if (failure != null) {
+				submission.cancel();
+				result.completeExceptionally(skip(failure));
+			}
 
-		return result;
+			return result;
+		}
+
+		/**
+		 * Aborts the stages of modules that depend on the failed {@link Project}. Modules that do not depend on the failed
+		 * module are not affected.
+		 *
+		 * @param project the failed project.
+		 * @param exception the failure.
+		 */
+		private void abort(Project project, Exception exception) {
+
+			failed.add(project);
+
+			results.forEach((key, result) -> {
+
+				if (result.isDone()) {
+					return;
+				}
+
+				if (key.project == project) {
+					result.completeExceptionally(exception);
+				} else if (key.project.dependsOn(project)) {
+					result.completeExceptionally(skip(project));
+				}
+			});
+
+			submissions.forEach((key, submission) -> {
+
+				if (key.project.dependsOn(project)) {
+					submission.cancel();
+				}
+			});
+		}
+
+		@Nullable
+		private Project getFailedUpstream(Project project) {
+			return failed.stream().filter(project::dependsOn).findFirst().orElse(null);
+		}
+
+		private Skipped skip(Project failed) {
+			return new Skipped(String.format("upstream %s failed", failed.getName()));
+		}
 	}
 
+	@Value
+	private static class StageKey {
+
+		Project project;
+		int stage;
+	}
+
+	/**
+	 * Detects the {@link JavaVersion} required by the given project from its {@link InfrastructureOperations#CI_PROPERTIES
+	 * CI properties}. The detected version is cached until the properties file changes.
+	 *
+	 * @param project must not be {@literal null}.
+	 * @return
+	 */
 	@SneakyThrows
 	public JavaVersion detectJavaVersion(SupportedProject project) {
 
@@ -185,13 +570,40 @@ class BuildExecutor {
 			throw new IllegalStateException(String.format("Cannot find %s for project %s", ciProperties, project));
 		}
 
+		CiProperties cached = this.ciProperties.get(ciProperties);
+
+		if (cached != null && cached.isCurrent(ciProperties)) {
+			return cached.getJavaVersion();
+		}
+
+		// capture the file state before reading so that concurrent changes invalidate the cached version
+		long lastModified = ciProperties.lastModified();
+		long length = ciProperties.length();
 		Properties properties = new Properties();
 
 		try (FileInputStream fis = new FileInputStream(ciProperties)) {
 			properties.load(fis);
 		}
 
-		return JavaVersion.fromDockerTag(properties.getProperty("java.main.tag"));
+		JavaVersion javaVersion = JavaVersion.fromDockerTag(properties.getProperty("java.main.tag"));
+		this.ciProperties.put(ciProperties, new CiProperties(lastModified, length, javaVersion));
+
+		return javaVersion;
+	}
+
+	/**
+	 * Java version parsed from CI properties along with the file state it was parsed from.
+	 */
+	@Value
+	private static class CiProperties {
+
+		long lastModified;
+		long length;
+		JavaVersion javaVersion;
+
+		boolean isCurrent(File file) {
+			return lastModified == file.lastModified() && length == file.length();
+		}
 	}
 
 	/**
@@ -228,13 +640,26 @@ class BuildExecutor {
 
 		@Override
 		public String toString() {
-			return String.format("%-14s - %s", project.getName(),
-					isSuccessful() ? "🆗 Successful" : "🧨 Error: " + failure.getMessage());
+			if (isSuccessful()) {
+				return String.format("%-14s - %s", project.getName(), "🆗 Successful");
+			}
+
+			return String.format("%-14s - %s", project.getName(), isSkipped() ? "⏭️ Skipped (" + failure.getMessage() + ")"
+					: "🧨 Error: " + failure.getMessage());
 		}
 
 		public boolean isSuccessful() {
 			return this.failure == null;
 		}
+
+		/**
+		 * Returns whether the execution was skipped because another module failed.
+		 *
+		 * @return
+		 */
+		public boolean isSkipped() {
+			return this.failure instanceof Skipped;
+		}
 	}
 
 	public static class Summary<T> {
@@ -269,6 +694,16 @@ class BuildExecutor {
 		}
 	}
 
+	/**
+	 * Signals that a module was not executed (or its execution was cancelled) because another module failed.
+	 */
+	static class Skipped extends RuntimeException {
+
+		public Skipped(String message) {
+			super(message, null, false, false);
+		}
+	}
+
 	static class BuildFailed extends RuntimeException {
 
 		public BuildFailed(Summary<?> summary) {
@@ -23,13 +23,18 @@ import lombok.SneakyThrows;
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
-import org.assertj.core.util.VisibleForTesting;
-
+import org.springframework.data.release.deployment.DefaultDeploymentInformation;
+import org.springframework.data.release.deployment.DeployedArtifacts;
 import org.springframework.data.release.deployment.DeploymentInformation;
+import org.springframework.data.release.deployment.DeploymentOperations;
+import org.springframework.data.release.deployment.DeploymentProperties;
 import org.springframework.data.release.deployment.MavenPublisher;
 import org.springframework.data.release.deployment.StagingRepository;
 import org.springframework.data.release.git.BranchMapping;
@@ -61,6 +66,8 @@ public class BuildOperations {
 	private final @NonNull MavenProperties properties;
 	private final @NonNull BuildExecutor executor;
 	private final @NonNull MavenPublisher publisher;
+	private final @NonNull DeploymentProperties deploymentProperties;
+	private final @NonNull DeploymentOperations deployment;
 	private final Workspace workspace;
 
 	/**
@@ -83,6 +90,23 @@ public class BuildOperations {
 		logger.log(iteration, "Update Project Descriptors done: %s", summary);
 	}
 
+	/**
+	 * Updates the inter-project dependencies of the given {@link ModuleIteration} based on the release {@link Phase}.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @param phase must not be {@literal null}.
+	 * @return
+	 */
+	public ModuleIteration updateProjectDescriptors(ModuleIteration module, Phase phase) {
+
+		Assert.notNull(module, "Module iteration must not be null!");
+		Assert.notNull(phase, "Phase must not be null!");
+
+		UpdateInformation updateInformation = UpdateInformation.of(module.getTrainIteration(), phase);
+
+		return doWithBuildSystem(module, (system, it) -> system.updateProjectDescriptors(it, updateInformation));
+	}
+
 	public void updateBuildConfig(TrainIteration iteration, BranchMapping branches) throws Exception {
 
 		Assert.notNull(iteration, "Train iteration must not be null!");
@@ -117,7 +141,6 @@ public class BuildOperations {
 	 * @param phase must not be {@literal null}.
 	 * @return
 	 */
-	@VisibleForTesting
 	public ModuleIteration prepareVersion(ModuleIteration iteration, Phase phase) {
 
 		Assert.notNull(iteration, "Module iteration must not be null!");
@@ -134,6 +157,15 @@ public class BuildOperations {
 	 */
 	public void build(TrainIteration iteration) {
 
+		if (isAggregate(iteration)) {
+
+			BuildExecutor.Summary<ModuleIteration> summary = executor.doWithReactor(iteration,
+					BuildSystem::triggerReactorBuild, it -> it);
+
+			logger.log(iteration, "Build: %s", summary);
+			return;
+		}
+
 		executor.doWithBuildSystemOrdered(iteration, (it, l) -> it.triggerBuild(l));
 
 		logger.log(iteration, "Build finished");
@@ -187,14 +219,43 @@ public class BuildOperations {
 	 * @return
 	 */
 	public List<DeploymentInformation> performRelease(TrainIteration iteration) {
+		return performRelease(iteration, it -> {});
+	}
+
+	/**
+	 * Performs the release build for all modules in the given {@link TrainIteration} notifying the given
+	 * {@link Consumer} about each module whose deployment has completed. Modules deployed to Artifactory are reported as
+	 * soon as their own deployment completes while other modules are still building. Modules of public releases are
+	 * reported once the Maven Central deployment containing all modules is published.
+	 *
+	 * @param iteration must not be {@literal null}.
+	 * @param deploymentCompleted must not be {@literal null}.
+	 * @return
+	 */
+	public List<DeploymentInformation> performRelease(TrainIteration iteration,
+			Consumer<DeploymentInformation> deploymentCompleted) {
+
+		Assert.notNull(iteration, "Train iteration must not be null!");
+		Assert.notNull(deploymentCompleted, "Deployment callback must not be null!");
 
 		StagingRepository localStaging = iteration.isPublic() ? initializeStagingRepository() : StagingRepository.EMPTY;
 		StagingRepository stagingRepository = StagingRepository.EMPTY;
+		DeployedArtifacts deployed = deployment.findDeployedArtifacts(iteration);
 
 		BuildExecutor.Summary<DeploymentInformation> summary = executor.doWithBuildSystemOrdered(iteration,
-				(buildSystem, moduleIteration) -> buildSystem.deploy(moduleIteration, localStaging));
+				(buildSystem, moduleIteration) -> {
+
+					DeploymentInformation information = buildSystem.deploy(moduleIteration, localStaging, deployed);
+
+					if (!iteration.isPublic()) {
+						deploymentCompleted.accept(information);
+					}
+
+					return information;
+				});
 
 		if (iteration.isPublic()) {
+			signStagedArtifacts(iteration, localStaging);
 			stagingRepository = uploadDeployment(iteration.getModule(BOM), localStaging);
 		}
 
@@ -202,11 +263,18 @@ public class BuildOperations {
 
 		logger.log(iteration, "Release: %s", summary);
 
+		List<DeploymentInformation> deployments = summary.getExecutions().stream()
+				.map(BuildExecutor.ExecutionResult::getResult).collect(Collectors.toList());
+
 		if (stagingRepository.isPresent()) {
 			publishDeployment(iteration, stagingRepository);
 		}
 
-		return summary.getExecutions().stream().map(BuildExecutor.ExecutionResult::getResult).collect(Collectors.toList());
+		if (iteration.isPublic()) {
+			deployments.forEach(deploymentCompleted);
+		}
+
+		return deployments;
 	}
 
 	/**
@@ -220,8 +288,14 @@ public class BuildOperations {
 
 		StagingRepository localStaging = initializeStagingRepository();
 
-		BuildExecutor.Summary<DeploymentInformation> summary = executor.doWithBuildSystemOrdered(iteration,
-				(buildSystem, moduleIteration) -> buildSystem.deploy(moduleIteration, localStaging));
+		BuildExecutor.Summary<DeploymentInformation> summary = isAggregate(iteration) && !iteration.isCommercial()
+				? executor.doWithReactor(iteration,
+						(buildSystem, modules) -> buildSystem.deployReactor(modules, localStaging),
+						module -> new DefaultDeploymentInformation(module, deploymentProperties, localStaging))
+				: executor.doWithBuildSystemOrdered(iteration,
+						(buildSystem, moduleIteration) -> buildSystem.deploy(moduleIteration, localStaging));
+
+		signStagedArtifacts(iteration, localStaging);
 
 		logger.log(iteration, "Release: %s", summary);
 
@@ -238,8 +312,12 @@ public class BuildOperations {
 
 		StagingRepository localStaging = initializeStagingRepository();
 
-		return doWithBuildSystem(module,
+		DeploymentInformation information = doWithBuildSystem(module,
 				(buildSystem, moduleIteration) -> buildSystem.deploy(moduleIteration, localStaging));
+
+		signStagedArtifacts(module.getTrainIteration(), localStaging);
+
+		return information;
 	}
 
 	public void uploadDeployment(TrainIteration iteration) {
@@ -250,12 +328,19 @@ public class BuildOperations {
 		logger.log(iteration, "Created deployment: %s", stagingRepository);
 	}
 
-	@SneakyThrows
-	public void validateDeployment(TrainIteration iteration, StagingRepository deploymentId) {
+	/**
+	 * Validate the given deployments concurrently.
+	 *
+	 * @param iteration must not be {@literal null}.
+	 * @param deploymentIds must not be {@literal null}.
+	 */
+	public void validateDeployment(TrainIteration iteration, List<StagingRepository> deploymentIds) {
 
-		MavenPublisher.DeploymentStatus status = publisher.validate(iteration, deploymentId);
-		logger.log(iteration, "Deployment validated: %s, \n%s", status.getDeploymentState(),
-				status.getPurls().stream().map(it -> "    * " + it).collect(Collectors.joining(System.lineSeparator())));
+		for (MavenPublisher.DeploymentStatus status : await(publisher.validate(iteration, deploymentIds))) {
+			logger.log(iteration, "Deployment %s validated: %s, \n%s", status.getDeploymentId(),
+					status.getDeploymentState(), status.getPurls().stream().map(it -> "    * " + it)
+							.collect(Collectors.joining(System.lineSeparator())));
+		}
 	}
 
 	@SneakyThrows
@@ -270,11 +355,31 @@ public class BuildOperations {
 		}
 
 		StagingRepository deploymentId = publisher.upload(iteration, deploymentName, localStaging);
-		publisher.validate(iteration.getTrainIteration(), deploymentId);
+
+		// smoke tests resolve artifacts from the deployment and require a validated deployment
+		await(publisher.validate(iteration.getTrainIteration(), deploymentId));
 
 		return deploymentId;
 	}
 
+	/**
+	 * Wait for the given {@link CompletableFuture} to complete and rethrow the cause of an exceptional completion.
+	 */
+	@SneakyThrows
+	private static <T> T await(CompletableFuture<T> future) {
+
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			throw e.getCause();
+		}
+	}
+
+	@SneakyThrows
+	private void signStagedArtifacts(TrainIteration iteration, StagingRepository localStaging) {
+		publisher.signStagedArtifacts(iteration, localStaging);
+	}
+
 	@SneakyThrows
 	private StagingRepository initializeStagingRepository() {
 		return publisher.initializeStagingRepository();
@@ -347,7 +452,11 @@ public class BuildOperations {
 	 * @return
 	 */
 	public DeploymentInformation buildAndDeployRelease(ModuleIteration module) {
-		return doWithBuildSystem(module, BuildSystem::deploy);
+
+		DeployedArtifacts deployed = deployment.findDeployedArtifacts(module.getTrainIteration());
+
+		return doWithBuildSystem(module,
+				(buildSystem, moduleIteration) -> buildSystem.deploy(moduleIteration, StagingRepository.EMPTY, deployed));
 	}
 
 	/**
@@ -372,6 +481,31 @@ public class BuildOperations {
 		executor.doWithBuildSystemAnyOrder(iteration, BuildSystem::triggerPreReleaseCheck);
 	}
 
+	/**
+	 * Triggers the pre-release checks for the given {@link ModuleIteration}.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @return
+	 */
+	public ModuleIteration runPreReleaseChecks(ModuleIteration module) {
+		return doWithBuildSystem(module, BuildSystem::triggerPreReleaseCheck);
+	}
+
+	/**
+	 * Runs the given {@link Pipeline} for all modules of the given {@link TrainIteration}.
+	 *
+	 * @param iteration must not be {@literal null}.
+	 * @param pipeline must not be {@literal null}.
+	 */
+	public void doWithPipeline(TrainIteration iteration, Pipeline<ModuleIteration> pipeline) {
+
+		Assert.notNull(iteration, "Train iteration must not be null!");
+
+		BuildExecutor.Summary<ModuleIteration> summary = executor.doWithPipeline(iteration, pipeline);
+
+		logger.log(iteration, "Pipeline: %s", summary);
+	}
+
 	/**
 	 * Verifies Java version presence and that the project can be build using Maven.
 	 *
@@ -398,6 +532,27 @@ public class BuildOperations {
 		buildSystem.withJavaVersion(executor.detectJavaVersion(project)).verifyStagingAuthentication(train);
 	}
 
+	/**
+	 * Returns whether to build all modules of the given {@link TrainIteration} within a single Maven reactor. Modules that
+	 * skip tests require an invocation of their own.
+	 *
+	 * @param iteration must not be {@literal null}.
+	 * @return
+	 */
+	private boolean isAggregate(TrainIteration iteration) {
+
+		if (!properties.isAggregate()) {
+			return false;
+		}
+
+		if (iteration.stream().anyMatch(it -> it.getProject().skipTests())) {
+			logger.log(iteration, "Modules skipping tests cannot be built in a single reactor, building modules individually");
+			return false;
+		}
+
+		return true;
+	}
+
 	/**
 	 * Selects the build system for the module contained in the given {@link ModuleIteration} and executes the given
 	 * function with it.
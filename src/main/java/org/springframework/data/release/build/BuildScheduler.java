@@ -0,0 +1,355 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.build;
+
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.release.model.Project;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+/**
+ * Admission control for build tasks. Each task is weighted by the resource cost of its {@link Project} (see
+ * {@link MavenProperties#getWeight(Project)}) and is handed to the {@link ExecutorService} only if its weight fits into
+ * the remaining {@link MavenProperties#getBudget() budget}. Pending tasks are admitted by descending priority; a task
+ * that does not fit lets smaller tasks with lower priority pass. Admitted tasks obtain free execution slots by
+ * descending priority as well. Tasks that do not run Maven, such as Git operations, can be submitted without a weight
+ * so that they are not throttled by the budget. A task rejected by the {@link ExecutorService} returns its weight and
+ * completes its {@link Submission#getCompletion() completion} exceptionally.
+ *
+ * @author Mark Paluch
+ */
+@Component
+class BuildScheduler {
+
+	private final ExecutorService executor;
+	private final MavenProperties properties;
+	private final PriorityQueue<WeightedTask> pending = new PriorityQueue<>();
+	private final PriorityBlockingQueue<WeightedTask> ready = new PriorityBlockingQueue<>();
+
+	private long sequence;
+	private int used;
+
+	public BuildScheduler(ExecutorService executor, MavenProperties properties) {
+
+		Assert.notNull(executor, "ExecutorService must not be null!");
+		Assert.notNull(properties, "MavenProperties must not be null!");
+
+		this.executor = executor;
+		this.properties = properties;
+	}
+
+	/**
+	 * Submits the given {@link Runnable} for the {@link Project} to run once its weight fits into the budget. Tasks with
+	 * a higher priority are admitted first.
+	 *
+	 * @param project must not be {@literal null}.
+	 * @param priority must not be {@literal null}.
+	 * @param runnable must not be {@literal null}.
+	 * @return the {@link Submission} to cancel the task.
+	 */
+	public Submission submit(Project project, Duration priority, Runnable runnable) {
+
+		Assert.notNull(project, "Project must not be null!");
+		Assert.notNull(priority, "Priority must not be null!");
+		Assert.notNull(runnable, "Runnable must not be null!");
+
+		return submit(getWeight(project), priority, runnable);
+	}
+
+	/**
+	 * Submits the given {@link Runnable} building all given projects at once, e.g. within a single Maven reactor. The task
+	 * weighs as much as the projects combined and runs exclusively if their combined weight exceeds the budget.
+	 *
+	 * @param projects must not be {@literal null} or empty.
+	 * @param priority must not be {@literal null}.
+	 * @param runnable must not be {@literal null}.
+	 * @return the {@link Submission} to cancel the task.
+	 */
+	public Submission submit(Collection<Project> projects, Duration priority, Runnable runnable) {
+
+		Assert.notEmpty(projects, "Projects must not be null or empty!");
+		Assert.notNull(priority, "Priority must not be null!");
+		Assert.notNull(runnable, "Runnable must not be null!");
+
+		return submit(getWeight(projects.stream().mapToInt(properties::getWeight).sum()), priority, runnable);
+	}
+
+	/**
+	 * Submits the given {@link Runnable} that does not run Maven. The task is not weighted against the budget but obtains
+	 * execution slots by priority along with weighted tasks.
+	 *
+	 * @param priority must not be {@literal null}.
+	 * @param runnable must not be {@literal null}.
+	 * @return the {@link Submission} to cancel the task.
+	 */
+	public Submission submit(Duration priority, Runnable runnable) {
+
+		Assert.notNull(priority, "Priority must not be null!");
+		Assert.notNull(runnable, "Runnable must not be null!");
+
+		return submit(0, priority, runnable);
+	}
+
+	private Submission submit(int weight, Duration priority, Runnable runnable) {
+
+		WeightedTask task;
+
+		synchronized (this) {
+			task = new WeightedTask(priority, sequence++, weight, runnable);
+			pending.add(task);
+		}
+
+		dispatch();
+
+		return task;
+	}
+
+	/**
+	 * Returns the weight currently held by admitted tasks.
+	 *
+	 * @return
+	 */
+	synchronized int getUsed() {
+		return used;
+	}
+
+	/**
+	 * Waits until all submitted tasks have completed and returned their weight.
+	 *
+	 * @param timeout must not be {@literal null}.
+	 * @return {@literal true} if the scheduler became idle, {@literal false} if the timeout elapsed.
+	 * @throws InterruptedException
+	 */
+	synchronized boolean awaitIdle(Duration timeout) throws InterruptedException {
+
+		long deadline = System.nanoTime() + timeout.toNanos();
+
+		while (used != 0 || !pending.isEmpty()) {
+
+			long remaining = deadline - System.nanoTime();
+
+			if (remaining <= 0) {
+				return false;
+			}
+
+			TimeUnit.NANOSECONDS.timedWait(this, remaining);
+		}
+
+		return true;
+	}
+
+	private void dispatch() {
+
+		List<WeightedTask> admitted = new ArrayList<>();
+
+		synchronized (this) {
+
+			List<WeightedTask> candidates = new ArrayList<>(pending);
+			candidates.sort(null);
+
+			for (WeightedTask task : candidates) {
+
+				if (!fits(task.weight)) {
+					continue;
+				}
+
+				pending.remove(task);
+				used += task.weight;
+				admitted.add(task);
+			}
+		}
+
+		// outside the lock as the executor may run tasks in the calling thread
+		for (WeightedTask task : admitted) {
+
+			ready.add(task);
+
+			try {
+
+				// pick the most important task once a slot becomes available
+				executor.execute(() -> {
+
+					WeightedTask next = ready.poll();
+
+					if (next != null) {
+						next.run();
+					}
+				});
+			} catch (RejectedExecutionException e) {
+
+				// a slot may have picked up the task already, so fail another one that is left without a slot
+				WeightedTask rejected = ready.remove(task) ? task : ready.poll();
+
+				if (rejected != null) {
+					rejected.completion.completeExceptionally(e);
+					release(rejected.weight);
+				}
+			}
+		}
+	}
+
+	private boolean fits(int weight) {
+
+		int budget = properties.getBudget();
+
+		return budget <= 0 || used + weight <= budget;
+	}
+
+	private int getWeight(Project project) {
+		return getWeight(properties.getWeight(project));
+	}
+
+	private int getWeight(int weight) {
+
+		int budget = properties.getBudget();
+
+		// a task exceeding the entire budget runs exclusively
+		return budget > 0 ? Math.min(weight, budget) : weight;
+	}
+
+	private void release(int weight) {
+
+		synchronized (this) {
+			used -= weight;
+			notifyAll();
+		}
+
+		dispatch();
+	}
+
+	/**
+	 * Handle to a submitted task.
+	 */
+	interface Submission {
+
+		/**
+		 * Cancels the task. A task that was not started yet is discarded, a running task is interrupted which terminates
+		 * Maven processes started by the task.
+		 */
+		void cancel();
+
+		/**
+		 * Returns the future completing once the task has run. The future completes exceptionally if the task fails or
+		 * the {@link ExecutorService} rejects the task and is cancelled if the task is discarded before running.
+		 *
+		 * @return
+		 */
+		CompletableFuture<Void> getCompletion();
+	}
+
+	/**
+	 * {@link Runnable} ordered by descending priority and ascending submission sequence that returns its weight to the
+	 * budget upon completion.
+	 */
+	@RequiredArgsConstructor
+	private class WeightedTask implements Runnable, Submission, Comparable<WeightedTask> {
+
+		private final Duration priority;
+		private final long sequence;
+		private final int weight;
+		private final Runnable delegate;
+		private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+		private boolean cancelled;
+		private @Nullable Thread runner;
+
+		@Override
+		public void run() {
+
+			synchronized (this) {
+
+				if (cancelled) {
+					completion.cancel(false);
+					release(weight);
+					return;
+				}
+
+				runner = Thread.currentThread();
+			}
+
+			try {
+				delegate.run();
+				completion.complete(null);
+			} catch (RuntimeException | Error e) {
+				completion.completeExceptionally(e);
+				throw e;
+			} finally {
+
+				synchronized (this) {
+					runner = null;
+
+					// clear a cancellation interrupt before returning the thread to the pool
+					Thread.interrupted();
+				}
+
+				release(weight);
+			}
+		}
+
+		@Override
+		public void cancel() {
+
+			synchronized (BuildScheduler.this) {
+				if (pending.remove(this)) {
+					completion.cancel(false);
+					BuildScheduler.this.notifyAll();
+					return;
+				}
+			}
+
+			if (ready.remove(this)) {
+				completion.cancel(false);
+				release(weight);
+				return;
+			}
+
+			synchronized (this) {
+
+				cancelled = true;
+
+				if (runner != null) {
+					runner.interrupt();
+				}
+			}
+		}
+
+		@Override
+		public CompletableFuture<Void> getCompletion() {
+			return completion;
+		}
+
+		@Override
+		public int compareTo(WeightedTask o) {
+
+			int result = o.priority.compareTo(priority);
+
+			return result != 0 ? result : Long.compare(sequence, o.sequence);
+		}
+	}
+}
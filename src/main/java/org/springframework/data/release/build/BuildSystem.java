@@ -15,12 +15,16 @@
  */
 package org.springframework.data.release.build;
 
+import java.util.List;
+
+import org.springframework.data.release.deployment.DeployedArtifacts;
 import org.springframework.data.release.deployment.DeploymentInformation;
 import org.springframework.data.release.deployment.StagingRepository;
 import org.springframework.data.release.git.BranchMapping;
 import org.springframework.data.release.model.JavaVersion;
 import org.springframework.data.release.model.ModuleIteration;
 import org.springframework.data.release.model.Phase;
+import org.springframework.data.release.model.Project;
 import org.springframework.data.release.model.ProjectAware;
 import org.springframework.data.release.model.SupportedProject;
 import org.springframework.data.release.model.Train;
@@ -73,6 +77,23 @@ interface BuildSystem extends Plugin<SupportedProject> {
 
 	<M extends ProjectAware> M triggerDocumentationBuild(M module);
 
+	/**
+	 * Builds all given modules within a single reactor build.
+	 *
+	 * @param modules must not be {@literal null} or empty.
+	 * @return the outcome per {@link Project}.
+	 */
+	<M extends ProjectAware> ReactorResult triggerReactorBuild(List<M> modules);
+
+	/**
+	 * Deploys artifacts of all given modules to the {@link StagingRepository} within a single reactor build.
+	 *
+	 * @param modules must not be {@literal null} or empty.
+	 * @param stagingRepository must not be {@literal null}.
+	 * @return the outcome per {@link Project}.
+	 */
+	ReactorResult deployReactor(List<ModuleIteration> modules, StagingRepository stagingRepository);
+
 	/**
 	 * Deploy artifacts for the given {@link ModuleIteration} using {@link DeploymentInformation}.
 	 *
@@ -82,6 +103,18 @@ interface BuildSystem extends Plugin<SupportedProject> {
 	 */
 	DeploymentInformation deploy(ModuleIteration module, StagingRepository stagingRepository);
 
+	/**
+	 * Deploy artifacts for the given {@link ModuleIteration} skipping the deployment if all artifacts were already
+	 * deployed with identical content as per {@link DeployedArtifacts}.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @param stagingRepository must not be {@literal null}.
+	 * @param deployed artifacts deployed previously, must not be {@literal null}.
+	 * @return
+	 */
+	DeploymentInformation deploy(ModuleIteration module, StagingRepository stagingRepository,
+			DeployedArtifacts deployed);
+
 	/**
 	 * Deploy artifacts for the given {@link ModuleIteration} and return the {@link DeploymentInformation}.
 	 *
@@ -28,6 +28,7 @@ import java.util.Optional;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -145,6 +146,7 @@ public class CommandLine {
 	public static class Goal {
 
 		public static final Goal CLEAN = Goal.goal("clean");
+		public static final Goal PACKAGE = Goal.goal("package");
 		public static final Goal INSTALL = Goal.goal("install");
 		public static final Goal DEPLOY = Goal.goal("deploy");
 		public static final Goal VALIDATE = Goal.goal("validate");
@@ -159,6 +161,8 @@ public class CommandLine {
 
 		public static Argument SKIP_TESTS = Argument.arg("skipTests");
 
+		private static final Pattern SECRET = Pattern.compile("(?i)(passphrase|password|token|secret)");
+
 		@NonNull String name;
 		@NonNull Optional<ArgumentValue<?>> value;
 
@@ -198,6 +202,28 @@ public class CommandLine {
 			return Argument.of("-s " + path);
 		}
 
+		/**
+		 * Builds reactor modules in parallel using the given thread count (e.g. {@code 4} or {@code 1C}).
+		 *
+		 * @param threads must not be {@literal null} or empty.
+		 * @return
+		 */
+		public static Argument threads(String threads) {
+
+			Assert.hasText(threads, "Threads must not be null or empty!");
+
+			return Argument.of("-T " + threads);
+		}
+
+		/**
+		 * Continues building reactor modules that do not depend on a failed module.
+		 *
+		 * @return
+		 */
+		public static Argument failAtEnd() {
+			return Argument.of("-fae");
+		}
+
 		public Argument withValue(Object value) {
 			return new Argument(name, ArgumentValue.of(value));
 		}
@@ -214,6 +240,16 @@ public class CommandLine {
 			return toNameValuePair(value.map(ArgumentValue::toCommandLine));
 		}
 
+		/**
+		 * Returns whether the argument carries a secret, either as {@link Masked} value or as indicated by its name (e.g.
+		 * {@code gpg.passphrase}).
+		 *
+		 * @return
+		 */
+		public boolean isSecret() {
+			return value.map(ArgumentValue::isMasked).orElse(false) || SECRET.matcher(name).find();
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see java.lang.Object#toString()
@@ -255,6 +291,10 @@ public class CommandLine {
 				return new ArgumentValue<>(masked, Optional.empty(), Optional.of(it -> it.masked()));
 			}
 
+			public boolean isMasked() {
+				return value instanceof Masked;
+			}
+
 			/**
 			 * Returns the {@link String} variant of the argument value.
 			 *
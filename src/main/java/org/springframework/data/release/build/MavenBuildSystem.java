@@ -22,6 +22,7 @@ import static org.springframework.data.release.model.Projects.*;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
+import lombok.Value;
 import lombok.experimental.FieldDefaults;
 
 import java.io.BufferedInputStream;
@@ -31,11 +32,22 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.dom.DOMSource;
@@ -46,12 +58,13 @@ import org.springframework.core.annotation.Order;
 import org.springframework.core.env.Environment;
 import org.springframework.data.release.build.CommandLine.Argument;
 import org.springframework.data.release.build.CommandLine.Goal;
+import org.springframework.data.release.build.MavenRuntimeSupport.MavenInvocationResult;
 import org.springframework.data.release.build.Pom.Artifact;
 import org.springframework.data.release.deployment.DefaultDeploymentInformation;
+import org.springframework.data.release.deployment.DeployedArtifacts;
 import org.springframework.data.release.deployment.DeploymentInformation;
 import org.springframework.data.release.deployment.DeploymentProperties;
 import org.springframework.data.release.deployment.DeploymentProperties.Authentication;
-import org.springframework.data.release.deployment.DeploymentProperties.MavenCentral;
 import org.springframework.data.release.deployment.StagingRepository;
 import org.springframework.data.release.git.Branch;
 import org.springframework.data.release.git.BranchMapping;
@@ -65,6 +78,7 @@ import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 import org.xmlbeam.ProjectionFactory;
 import org.xmlbeam.XBProjector;
+import org.xmlbeam.annotation.XBRead;
 import org.xmlbeam.dom.DOMAccess;
 import org.xmlbeam.io.StreamInput;
 
@@ -80,23 +94,30 @@ import org.xmlbeam.io.StreamInput;
 class MavenBuildSystem implements BuildSystem {
 
 	static String POM_XML = "pom.xml";
+	static String SMOKE_TEST_REPORTS = "target/surefire-reports";
+	static String SMOKE_TEST_FORKS = "1C";
 
 	Workspace workspace;
 	ProjectionFactory projectionFactory;
 	Logger logger;
 	MavenRuntime mvn;
 	DeploymentProperties properties;
+	MavenProperties mavenProperties;
+	BuildCache cache;
 	Gpg gpg;
 
 	Environment env;
 
+	Map<String, BuildSystem> buildSystems = new ConcurrentHashMap<>();
+
 	static final String REPO_OPENING_TAG = "<repository>";
 	static final String REPO_CLOSING_TAG = "</repository>";
 
 	@Override
 	public BuildSystem withJavaVersion(JavaVersion javaVersion) {
-		return new MavenBuildSystem(workspace, projectionFactory, logger, mvn.withJavaVersion(javaVersion), properties, gpg,
-				env);
+		return buildSystems.computeIfAbsent(javaVersion.getName(),
+				it -> new MavenBuildSystem(workspace, projectionFactory, logger, mvn.withJavaVersion(javaVersion), properties,
+						mavenProperties, cache, gpg, env));
 	}
 
 	/*
@@ -177,35 +198,22 @@ class MavenBuildSystem implements BuildSystem {
 		SupportedProject project = module.getSupportedProject();
 		UpdateInformation information = UpdateInformation.of(module.getTrainIteration(), phase);
 
-		CommandLine goals = CommandLine.of(goal("versions:set"), goal("versions:commit"));
+		VersionUpdater updater = new VersionUpdater((XBProjector) projectionFactory, workspace.getProjectDirectory(project));
 
 		if (BOM.equals(module.getProject())) {
 
-			mvn.execute(project, goals.and(arg("newVersion").withValue(information.getReleaseTrainVersion())) //
-					.and(arg("generateBackupPoms").withValue("false")) //
-					.andIf(module.isCommercial(), profile("spring-enterprise")));
-
-			mvn.execute(project, goals.and(arg("newVersion").withValue(information.getReleaseTrainVersion())) //
-					.and(arg("generateBackupPoms").withValue("false")) //
-					.and(arg("processAllModules").withValue("true")) //
-					.and(Argument.of("-pl").withValue("bom")) //
-					.andIf(module.isCommercial(), profile("spring-enterprise")));
-
+			updateVersion(project, updater.setProjectVersion(information.getReleaseTrainVersion()));
+			updateVersion(project, updater.setModuleVersion("bom", information.getReleaseTrainVersion()));
 		} else {
-			mvn.execute(project,
-					goals.and(arg("newVersion").withValue(information.getProjectVersionToSet(project.getProject())))
-							.and(arg("generateBackupPoms").withValue("false")) //
-							.andIf(module.isCommercial(), profile("spring-enterprise")));
+			updateVersion(project,
+					updater.setProjectVersion(information.getProjectVersionToSet(project.getProject()).toString()));
 		}
 
 		if (BUILD.equals(module.getProject())) {
 
 			if (!module.getTrain().usesCalver()) {
-				mvn.execute(project, goals.and(arg("newVersion").withValue(information.getReleaseTrainVersion())) //
-						.and(arg("generateBackupPoms").withValue("false")) //
-						.and(arg("groupId").withValue("org.springframework.data")) //
-						.and(arg("artifactId").withValue("spring-data-releasetrain")) //
-						.andIf(module.isCommercial(), profile("spring-enterprise")));
+				updateVersion(project, updater.setArtifactVersion("org.springframework.data", "spring-data-releasetrain",
+						information.getReleaseTrainVersion()));
 			}
 
 			mvn.execute(project, CommandLine.of(Goal.INSTALL).andIf(module.isCommercial(), profile("spring-enterprise")));
@@ -220,7 +228,8 @@ class MavenBuildSystem implements BuildSystem {
 	 */
 	public <M extends ProjectAware> M triggerPreReleaseCheck(M module) {
 
-		mvn.execute(module.getSupportedProject(), CommandLine.of(Goal.CLEAN, Goal.VALIDATE, profile("pre-release")));
+		mvn.execute(module.getSupportedProject(), CommandLine.of(Goal.CLEAN, Goal.VALIDATE, profile("pre-release")),
+				cache);
 
 		return module;
 	}
@@ -246,6 +255,128 @@ class MavenBuildSystem implements BuildSystem {
 		return module;
 	}
 
+	@Override
+	public <M extends ProjectAware> ReactorResult triggerReactorBuild(List<M> modules) {
+
+		Assert.notEmpty(modules, "Modules must not be null or empty!");
+
+		boolean commercial = modules.get(0).isCommercial();
+		Argument profile = commercial ? profile("ci,release,spring-enterprise") : profile("ci,release");
+		CommandLine arguments = CommandLine.of(Goal.CLEAN, Goal.INSTALL, //
+				profile, //
+				arg("gpg.executable").withValue(gpg.getExecutable()), //
+				arg("gpg.keyname").withValue(gpg.getKeyname()), //
+				arg("gpg.passphrase").withValue(gpg.getPassphrase()))//
+				.andIf(!ObjectUtils.isEmpty(properties.getSettingsXml()), settingsXml(properties.getSettingsXml()));
+
+		return executeReactor(modules, arguments);
+	}
+
+	@Override
+	public ReactorResult deployReactor(List<ModuleIteration> modules, StagingRepository stagingRepository) {
+
+		Assert.notEmpty(modules, "Modules must not be null or empty!");
+		Assert.notNull(stagingRepository, "StagingRepository must not be null!");
+		Assert.state(modules.stream().noneMatch(ModuleIteration::isCommercial),
+				"Reactor deployments are not supported for commercial releases!");
+
+		Gpg gpg = getGpg();
+
+		CommandLine arguments = CommandLine.of(Goal.CLEAN, Goal.DEPLOY, //
+				profile("ci,release"), //
+				SKIP_TESTS, //
+				arg("gpg.executable").withValue(gpg.getExecutable()), //
+				arg("gpg.keyname").withValue(gpg.getKeyname()), //
+				arg("gpg.passphrase").withValue(gpg.getPassphrase())) //
+				.andIf(!ObjectUtils.isEmpty(properties.getSettingsXml()), settingsXml(properties.getSettingsXml()))
+				.andIf(stagingRepository.isPresent(), () -> arg("altDeploymentRepository").withValue(stagingRepository))
+				.andIf(isSignedInProcess(gpg, stagingRepository), arg("gpg.skip"))
+				.andIf(gpg.hasSecretKeyring(), () -> arg("gpg.secretKeyring").withValue(gpg.getSecretKeyring()));
+
+		return executeReactor(modules, arguments);
+	}
+
+	/**
+	 * Runs the given {@link CommandLine} within a single reactor over all given modules. Modules that do not depend on a
+	 * failed module are still built.
+	 *
+	 * @param modules must not be {@literal null}.
+	 * @param arguments must not be {@literal null}.
+	 * @return
+	 */
+	private <M extends ProjectAware> ReactorResult executeReactor(List<M> modules, CommandLine arguments) {
+
+		Reactor reactor = createReactor(modules);
+		File directory = new File(workspace.getWorkingDirectory(), "reactor");
+
+		try {
+			directory.mkdirs();
+			Files.writeString(new File(directory, POM_XML).toPath(), reactor.toAggregatorPom(directory));
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+
+		MavenInvocationResult result = mvn.executeReactor(() -> "Reactor", directory,
+				arguments.and(threads(mavenProperties.getThreads())).and(failAtEnd()));
+
+		List<ReactorSummary.Entry> summary = result.getReactorSummary();
+		Map<Project, Throwable> failures = result.isSuccessful() ? new LinkedHashMap<>() : reactor.getFailures(summary);
+
+		if (!result.isSuccessful() && failures.isEmpty()) {
+
+			// not attributable to a module (e.g. invalid project model), consider all modules failed
+			IllegalStateException failure = new IllegalStateException("🙈 Failed execution mvn " + arguments,
+					result.getFailure());
+			modules.forEach(it -> failures.put(it.getProject(), failure));
+		}
+
+		return ReactorResult.of(failures, reactor.getDurations(summary), arguments.getGoals());
+	}
+
+	private Reactor createReactor(List<? extends ProjectAware> modules) {
+
+		Map<Project, File> directories = new LinkedHashMap<>();
+		Map<String, Project> names = new HashMap<>();
+
+		for (ProjectAware module : modules) {
+
+			File directory = workspace.getProjectDirectory(module.getSupportedProject());
+
+			directories.put(module.getProject(), directory);
+			collectModules(new File(directory, POM_XML), module.getProject(), names);
+		}
+
+		return new Reactor(directories, names);
+	}
+
+	private void collectModules(File file, Project project, Map<String, Project> names) {
+
+		if (!file.isFile()) {
+			return;
+		}
+
+		Pom pom;
+
+		try {
+			pom = ((XBProjector) projectionFactory).io().file(file).read(Pom.class);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+
+		// Maven lists modules by name, falling back to the artifactId for modules without a name
+		names.put(pom.getArtifact().getArtifactId(), project);
+
+		if (StringUtils.hasText(pom.getName())) {
+			names.put(pom.getName().trim(), project);
+		}
+
+		for (String module : pom.getModules()) {
+
+			File candidate = new File(file.getParentFile(), module);
+			collectModules(candidate.isDirectory() ? new File(candidate, POM_XML) : candidate, project, names);
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.release.build.BuildSystem#deploy(org.springframework.data.release.model.ModuleIteration)
@@ -264,12 +395,39 @@ class MavenBuildSystem implements BuildSystem {
 
 	@Override
 	public DeploymentInformation deploy(ModuleIteration module, StagingRepository stagingRepository) {
+		return deploy(module, stagingRepository, DeployedArtifacts.NONE);
+	}
+
+	@Override
+	public DeploymentInformation deploy(ModuleIteration module, StagingRepository stagingRepository,
+			DeployedArtifacts deployed) {
 
 		Assert.notNull(module, "Module must not be null!");
 		Assert.notNull(stagingRepository, "StagingRepository must not be null!");
+		Assert.notNull(deployed, "DeployedArtifacts must not be null!");
 
+		DeployedArtifacts moduleArtifacts = deployed.forModule(module);
 		DeploymentInformation information = new DefaultDeploymentInformation(module, properties, stagingRepository);
 
+		if (module.isCommercial() && !moduleArtifacts.isEmpty()) {
+
+			if (!isReproducible(module)) {
+				logger.log(module, "Build is not reproducible (no project.build.outputTimestamp). Deploying artifacts again.");
+			} else {
+
+				Optional<String> buildNumber = moduleArtifacts.getReusableBuildNumber(packageArtifacts(module, information));
+
+				if (buildNumber.isPresent()) {
+
+					logger.log(module,
+							"♻️ Artifacts already deployed with identical checksums by build %s. Skipping deployment.",
+							buildNumber.get());
+
+					return DefaultDeploymentInformation.of(module, properties, buildNumber.get(), stagingRepository);
+				}
+			}
+		}
+
 		deploy(module, information);
 
 		return information;
@@ -285,6 +443,75 @@ class MavenBuildSystem implements BuildSystem {
 		doDeploy(module, information);
 	}
 
+	/**
+	 * Returns whether the build of the given module produces reproducible artifacts, i.e. whether the module or the Spring
+	 * Data parent POM configure {@code project.build.outputTimestamp}. Checksums of artifacts of builds that are not
+	 * reproducible never match a previous deployment.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @return
+	 */
+	boolean isReproducible(ModuleIteration module) {
+
+		List<File> poms = List.of(workspace.getFile(POM_XML, module.getSupportedProject()),
+				workspace.getFile("parent/pom.xml", module.getTrainIteration().getSupportedProject(BUILD)));
+
+		for (File pom : poms) {
+
+			if (pom.exists() && StringUtils.hasText(readPom(pom).getProperty("project.build.outputTimestamp"))) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Packages the module artifacts without deploying them to compare their checksums with already deployed artifacts.
+	 * Packaging uses the same profiles and arguments as the Artifactory deployment except for signing.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @param information must not be {@literal null}.
+	 * @return the packaged artifacts and POMs keyed by the file name they are deployed with.
+	 */
+	@SneakyThrows
+	private Map<String, File> packageArtifacts(ModuleIteration module, DeploymentInformation information) {
+
+		logger.log(module, "Packaging artifacts to compare with previously deployed artifacts…");
+
+		mvn.execute(module.getSupportedProject(), getArtifactoryCommandLine(Goal.PACKAGE, module, information));
+
+		String version = ArtifactVersion.of(module).toString();
+		Path directory = workspace.getProjectDirectory(module.getSupportedProject()).toPath();
+		Map<String, File> artifacts = new LinkedHashMap<>();
+
+		try (Stream<Path> files = Files.walk(directory, 3)) {
+
+			files.filter(it -> it.getParent().getFileName().toString().equals("target"))
+					.filter(it -> it.getFileName().toString().endsWith(".jar") || it.getFileName().toString().endsWith(".zip"))
+					.filter(it -> it.getFileName().toString().contains(version)) //
+					.forEach(it -> artifacts.put(it.getFileName().toString(), it.toFile()));
+		}
+
+		try (Stream<Path> files = Files.walk(directory, 2)) {
+
+			files.filter(it -> it.getFileName().toString().equals(POM_XML)).forEach(it -> {
+
+				File flattened = it.resolveSibling(".flattened-pom.xml").toFile();
+				String artifactId = readPom(it.toFile()).getArtifactId();
+
+				artifacts.put(String.format("%s-%s.pom", artifactId, version), flattened.exists() ? flattened : it.toFile());
+			});
+		}
+
+		return artifacts;
+	}
+
+	@SneakyThrows
+	private Pom readPom(File file) {
+		return ((XBProjector) projectionFactory).io().file(file).read(Pom.class);
+	}
+
 	/**
 	 * Triggers Maven commands to deploy module artifacts to Spring Artifactory.
 	 *
@@ -303,11 +530,21 @@ class MavenBuildSystem implements BuildSystem {
 
 		logger.log(module, "Deploying artifacts to Spring Commercial Artifactory…");
 
-		Authentication authentication = properties.getAuthentication(module);
-
 		Gpg gpg = getGpg();
 
-		CommandLine arguments = CommandLine.of(Goal.CLEAN, Goal.DEPLOY, //
+		CommandLine arguments = getArtifactoryCommandLine(Goal.DEPLOY, module, information) //
+				.and(arg("gpg.executable").withValue(gpg.getExecutable())) //
+				.and(arg("gpg.keyname").withValue(gpg.getKeyname())) //
+				.and(arg("gpg.passphrase").withValue(gpg.getPassphrase()));
+
+		mvn.execute(module.getSupportedProject(), arguments);
+	}
+
+	private CommandLine getArtifactoryCommandLine(Goal goal, ModuleIteration module, DeploymentInformation information) {
+
+		Authentication authentication = properties.getAuthentication(module);
+
+		return CommandLine.of(Goal.CLEAN, goal, //
 				profile("ci,release,artifactory"), //
 				SKIP_TESTS, //
 				arg("artifactory.server").withValue(authentication.getServer().getUri()),
@@ -315,15 +552,10 @@ class MavenBuildSystem implements BuildSystem {
 				arg("artifactory.username").withValue(authentication.getUsername()),
 				arg("artifactory.password").withValue(authentication.getApiKey()),
 				arg("artifactory.build-name").withQuotedValue(information.getBuildName()),
-				arg("artifactory.build-number").withValue(information.getBuildNumber()),
-				arg("gpg.executable").withValue(gpg.getExecutable()), //
-				arg("gpg.keyname").withValue(gpg.getKeyname()), //
-				arg("gpg.passphrase").withValue(gpg.getPassphrase())) //
+				arg("artifactory.build-number").withValue(information.getBuildNumber())) //
 				.andIf(!ObjectUtils.isEmpty(properties.getSettingsXml()), settingsXml(properties.getSettingsXml()))
 				.andIf(StringUtils.hasText(information.getProject()),
 						() -> arg("artifactory.project").withValue(information.getProject()));
-
-		mvn.execute(module.getSupportedProject(), arguments);
 	}
 
 	/**
@@ -361,6 +593,7 @@ class MavenBuildSystem implements BuildSystem {
 				arg("gpg.passphrase").withValue(gpg.getPassphrase())) //
 				.andIf(!ObjectUtils.isEmpty(properties.getSettingsXml()), settingsXml(properties.getSettingsXml()))
 				.andIf(stagingRepository.isPresent(), () -> arg("altDeploymentRepository").withValue(stagingRepository))
+				.andIf(isSignedInProcess(gpg, stagingRepository), arg("gpg.skip"))
 				.andIf(gpg.hasSecretKeyring(), () -> arg("gpg.secretKeyring").withValue(gpg.getSecretKeyring()));
 
 		mvn.execute(module.getSupportedProject(), arguments);
@@ -396,7 +629,30 @@ class MavenBuildSystem implements BuildSystem {
 				.andIf(mavenCentral, arg("deploymentId").withValue(stagingRepository.getId())) //
 				.andIf(mavenCentral, arg("CENTRAL_BEARER").withValue(properties.getMavenCentral().getBearer()));
 
-		mvn.execute(smokeTests, arguments);
+		// run the full lifecycle including all verify-phase checks once, deferring test execution to a single run of
+		// forked test JVMs so that test classes run in parallel without sharing build output between Maven invocations
+		mvn.execute(smokeTests, arguments.and(SKIP_TESTS));
+
+		File directory = workspace.getProjectDirectory(smokeTests);
+		Instant start = Instant.now();
+
+		mvn.execute(smokeTests, new CommandLine(List.of(goal("surefire:test")), arguments.getArguments()) //
+				.and(arg("forkCount").withValue(SMOKE_TEST_FORKS)) //
+				.and(arg("reuseForks").withValue(true)) //
+				.and(arg("maven.test.failure.ignore")));
+
+		List<SmokeTestResult> results = getSmokeTestResults(new File(directory, SMOKE_TEST_REPORTS));
+
+		Assert.state(!results.isEmpty(), () -> String.format("No smoke test reports found in %s", directory));
+
+		logger.log(iteration, "Smoke tests (%s):%n%s", Duration.between(start, Instant.now()),
+				StringUtils.collectionToDelimitedString(results, "\n", "\t", ""));
+
+		List<String> failed = results.stream().filter(it -> !it.isSuccessful()).map(SmokeTestResult::getGroup).toList();
+
+		if (!failed.isEmpty()) {
+			throw new IllegalStateException(String.format("🙈 Smoke tests %s failed", failed));
+		}
 
 		logger.log(iteration, "✅ Smoke tests passed. Do not smoke 🚭. It's unhealthy.");
 	}
@@ -467,6 +723,13 @@ class MavenBuildSystem implements BuildSystem {
 		return module;
 	}
 
+	private void updateVersion(SupportedProject project, List<File> files) {
+
+		File directory = workspace.getProjectDirectory(project);
+
+		files.forEach(it -> logger.log(project, "Updated version in %s.", directory.toPath().relativize(it.toPath())));
+	}
+
 	private void updateBom(PomUpdater updater, UpdateInformation updateInformation, String file,
 			SupportedProject project) {
 
@@ -586,19 +849,53 @@ class MavenBuildSystem implements BuildSystem {
 		return workspace.getFile(POM_XML, project).exists();
 	}
 
+	/**
+	 * Reads the results of the smoke test classes from the Surefire reports in the given directory.
+	 *
+	 * @param reports the Surefire reports directory.
+	 * @return
+	 */
+	List<SmokeTestResult> getSmokeTestResults(File reports) {
+
+		File[] files = reports.listFiles((dir, name) -> name.startsWith("TEST-") && name.endsWith(".xml"));
+
+		if (files == null) {
+			return List.of();
+		}
+
+		return Arrays.stream(files).sorted().map(it -> {
+
+			SurefireReport report;
+
+			try {
+				report = ((XBProjector) projectionFactory).io().file(it).read(SurefireReport.class);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+
+			String name = report.getName();
+			Duration duration = Duration.ofMillis(Math.round(Double.parseDouble(report.getTime().replace(",", "")) * 1000));
+
+			return new SmokeTestResult(name.substring(name.lastIndexOf('.') + 1), duration,
+					report.getFailures() == 0 && report.getErrors() == 0);
+		}).toList();
+	}
+
 	private void doWithProjection(File file, Consumer<Pom> callback) {
 		doWithProjection(file, Pom.class, callback);
 	}
 
 	private Gpg getGpg() {
+		return properties.getMavenCentral().getGpg(gpg);
+	}
 
-		MavenCentral mavenCentral = properties.getMavenCentral();
-
-		if (mavenCentral.hasGpgConfiguration()) {
-			return mavenCentral.getGpg();
-		}
-
-		return gpg;
+	/**
+	 * Artifacts staged locally are signed in-process after the deployment (see
+	 * {@link org.springframework.data.release.deployment.MavenPublisher#signStagedArtifacts}) if the signing key can be
+	 * obtained from a secret keyring.
+	 */
+	private static boolean isSignedInProcess(Gpg gpg, StagingRepository stagingRepository) {
+		return stagingRepository.isPresent() && gpg.isInProcessSigningAvailable();
 	}
 
 	/**
@@ -656,4 +953,35 @@ class MavenBuildSystem implements BuildSystem {
 
 		return s.getBytes(StandardCharsets.UTF_8);
 	}
+
+	/**
+	 * Projection of a Surefire test report.
+	 */
+	interface SurefireReport {
+
+		@XBRead("/testsuite/@name")
+		String getName();
+
+		@XBRead("/testsuite/@time")
+		String getTime();
+
+		@XBRead("/testsuite/@failures")
+		int getFailures();
+
+		@XBRead("/testsuite/@errors")
+		int getErrors();
+	}
+
+	@Value
+	static class SmokeTestResult {
+
+		String group;
+		Duration duration;
+		boolean successful;
+
+		@Override
+		public String toString() {
+			return String.format("%-28s - %s (%s)", group, successful ? "✅ Passed" : "🙈 Failed", duration);
+		}
+	}
 }
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.build;
+
+import static org.springframework.data.release.build.CommandLine.Argument.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.release.model.Named;
+import org.springframework.data.release.utils.Logger;
+import org.springframework.util.Assert;
+
+/**
+ * Maven Daemon ({@code mvnd}) specifics of a {@link MavenRuntime} invocation. Each project uses daemons registered in
+ * a storage directory of its own so that the daemons building a project can be stopped when its build gets cancelled
+ * without affecting builds of other projects. Terminating the {@code mvnd} client alone leaves the build running
+ * within the daemon.
+ *
+ * @author Mark Paluch
+ */
+class MavenDaemon {
+
+	private static final long STOP_TIMEOUT_SECONDS = 30;
+
+	private final File executable;
+	private final File storage;
+	private final Logger logger;
+
+	/**
+	 * Creates a new {@link MavenDaemon}.
+	 *
+	 * @param executable the {@code mvnd} executable, must not be {@literal null}.
+	 * @param storage the directory containing the per-project daemon storage directories, must not be {@literal null}.
+	 * @param logger must not be {@literal null}.
+	 */
+	MavenDaemon(File executable, File storage, Logger logger) {
+
+		Assert.notNull(executable, "Executable must not be null!");
+		Assert.notNull(storage, "Storage must not be null!");
+		Assert.notNull(logger, "Logger must not be null!");
+
+		this.executable = executable;
+		this.storage = storage;
+		this.logger = logger;
+	}
+
+	File getExecutable() {
+		return executable;
+	}
+
+	/**
+	 * Returns the {@link CommandLine} to invoke {@code mvnd} with for the given project.
+	 *
+	 * @param project must not be {@literal null}.
+	 * @param arguments must not be {@literal null}.
+	 * @param concurrent whether the command line requests reactor parallelism.
+	 * @return
+	 */
+	CommandLine getCommandLine(Named project, CommandLine arguments, boolean concurrent) {
+
+		CommandLine commandLine = arguments.and(getStorageArgument(project));
+
+		// projects are built concurrently already, keep the daemon from building modules in parallel unless the
+		// command line requests reactor parallelism
+		return concurrent ? commandLine : commandLine.and(arg("mvnd.threads=1"));
+	}
+
+	/**
+	 * Stops the daemons of the given project, e.g. because its build was cancelled. Stopping the daemons completes
+	 * regardless of the interruption status of the current thread which is retained.
+	 *
+	 * @param project must not be {@literal null}.
+	 * @param javaHome the Java home the daemons were started with, must not be {@literal null}.
+	 */
+	void stop(Named project, File javaHome) {
+
+		logger.warn(project, "🛑 Stopping Maven daemon of cancelled build");
+
+		boolean interrupted = Thread.interrupted();
+
+		try {
+
+			ProcessBuilder builder = new ProcessBuilder(getStopCommand(project)) //
+					.redirectErrorStream(true) //
+					.redirectOutput(ProcessBuilder.Redirect.DISCARD);
+			builder.environment().put("JAVA_HOME", javaHome.getAbsolutePath());
+
+			Process process = builder.start();
+
+			if (!process.waitFor(STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+
+				process.destroyForcibly();
+				logger.warn(project, "Maven daemon did not stop within %s seconds", STOP_TIMEOUT_SECONDS);
+			}
+		} catch (IOException e) {
+			logger.warn(project, "Cannot stop Maven daemon: %s", e.getMessage());
+		} catch (InterruptedException e) {
+			interrupted = true;
+		} finally {
+
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	List<String> getStopCommand(Named project) {
+		return List.of(executable.getAbsolutePath(), "--stop", getStorageArgument(project).toCommandLineArgument());
+	}
+
+	private CommandLine.Argument getStorageArgument(Named project) {
+		return arg("mvnd.daemonStorage").withValue(new File(storage, project.getName()).getAbsolutePath());
+	}
+}
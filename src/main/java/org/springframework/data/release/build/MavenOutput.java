@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.build;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+/**
+ * Bounded in-memory view of Maven output. Keeps the most recent lines and the first error lines while the full output
+ * is routed to a log file (if any).
+ *
+ * @author Mark Paluch
+ */
+class MavenOutput {
+
+	static final int DEFAULT_TAIL = 200;
+	static final int DEFAULT_ERRORS = 500;
+
+	private final int tailSize;
+	private final int errorsSize;
+	private final Deque<String> tail;
+	private final List<String> errors = new ArrayList<>();
+	private long lines;
+
+	MavenOutput() {
+		this(DEFAULT_TAIL, DEFAULT_ERRORS);
+	}
+
+	MavenOutput(int tailSize, int errorsSize) {
+
+		Assert.isTrue(tailSize > 0, "Tail size must be greater than zero!");
+		Assert.isTrue(errorsSize >= 0, "Errors size must not be negative!");
+
+		this.tailSize = tailSize;
+		this.errorsSize = errorsSize;
+		this.tail = new ArrayDeque<>(tailSize);
+	}
+
+	/**
+	 * Records an output line.
+	 *
+	 * @param line must not be {@literal null}.
+	 */
+	synchronized void add(String line) {
+
+		lines++;
+
+		if (tail.size() == tailSize) {
+			tail.removeFirst();
+		}
+
+		tail.addLast(line);
+
+		if (errors.size() < errorsSize && isError(line)) {
+			errors.add(line);
+		}
+	}
+
+	/**
+	 * Returns the most recent output lines.
+	 *
+	 * @return
+	 */
+	synchronized List<String> getTail() {
+		return new ArrayList<>(tail);
+	}
+
+	/**
+	 * Returns the first error lines.
+	 *
+	 * @return
+	 */
+	synchronized List<String> getErrors() {
+		return new ArrayList<>(errors);
+	}
+
+	/**
+	 * Returns the total number of recorded lines.
+	 *
+	 * @return
+	 */
+	synchronized long getLines() {
+		return lines;
+	}
+
+	private static boolean isError(String line) {
+		return line.contains("[ERROR]");
+	}
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.build;
+
+import lombok.Value;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.data.release.build.MavenProfile.Downloads;
+import org.springframework.data.release.build.MavenProfile.ModuleProfile;
+import org.springframework.data.release.build.MavenProfile.MojoProfile;
+import org.springframework.data.release.build.MavenProfile.TestSummary;
+import org.springframework.util.Assert;
+
+/**
+ * Streaming parser for Maven console output that recognizes reactor module boundaries, mojo executions, test summaries
+ * and artifact downloads to time each mojo execution per module. A mojo execution lasts until the next mojo execution
+ * of the same module starts. In sequential builds, a module boundary also ends all running mojo executions while
+ * concurrent ({@code -T}) builds interleave modules so that only the next mojo execution of the same module or the end
+ * of the build completes a mojo execution.
+ *
+ * @author Mark Paluch
+ */
+class MavenOutputParser implements Consumer<String> {
+
+	private static final Pattern MODULE = Pattern.compile("-+< ([^:\\s]+):([^\\s]+) >-+");
+	private static final Pattern MOJO = Pattern
+			.compile("--- ([^:\\s]+):([^:\\s]+):([^\\s]+) \\(([^)]*)\\) @ ([^\\s]+) ---");
+	private static final Pattern TESTS = Pattern
+			.compile("Tests run: (\\d+), Failures: (\\d+), Errors: (\\d+), Skipped: (\\d+)\\s*$");
+	private static final Pattern DOWNLOADED = Pattern
+			.compile("Downloaded from [^:]+: \\S+ \\(([\\d.,]+) ([kMG]?B)(?: at [^)]*)?\\)");
+
+	private final Clock clock;
+	private final boolean concurrent;
+	private final Instant started;
+
+	private final Map<String, ModuleState> modules = new LinkedHashMap<>();
+	private long downloads;
+	private long downloadedBytes;
+	private String lastModule;
+
+	/**
+	 * Creates a new {@link MavenOutputParser}.
+	 *
+	 * @param clock must not be {@literal null}.
+	 * @param concurrent whether the reactor builds modules concurrently.
+	 */
+	MavenOutputParser(Clock clock, boolean concurrent) {
+
+		Assert.notNull(clock, "Clock must not be null!");
+
+		this.clock = clock;
+		this.concurrent = concurrent;
+		this.started = clock.instant();
+	}
+
+	@Override
+	public synchronized void accept(String line) {
+
+		Instant now = clock.instant();
+		Matcher matcher;
+
+		if ((matcher = MOJO.matcher(line)).find()) {
+
+			ModuleState module = getModule(matcher.group(5), now);
+			module.complete(now);
+			module.current = new MojoState(matcher.group(1), matcher.group(2), matcher.group(3), matcher.group(4), now);
+			lastModule = module.name;
+
+			return;
+		}
+
+		if ((matcher = MODULE.matcher(line)).find()) {
+
+			if (!concurrent) {
+				modules.values().forEach(it -> it.complete(now));
+			}
+
+			lastModule = getModule(matcher.group(2), now).name;
+
+			return;
+		}
+
+		if ((matcher = TESTS.matcher(line)).find() && lastModule != null && !line.contains("Time elapsed")) {
+
+			// summary line printed by Surefire/Failsafe after all test classes of the current mojo
+			ModuleState module = modules.get(lastModule);
+			module.tests = new TestSummary(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)),
+					Integer.parseInt(matcher.group(3)), Integer.parseInt(matcher.group(4))).and(module.tests);
+
+			return;
+		}
+
+		if ((matcher = DOWNLOADED.matcher(line)).find()) {
+			downloads++;
+			downloadedBytes += parseSize(matcher.group(1), matcher.group(2));
+		}
+	}
+
+	/**
+	 * Completes all running mojo executions and returns the profile.
+	 *
+	 * @param name name of the profiled invocation.
+	 * @param commandLine the invoked command line.
+	 * @return
+	 */
+	synchronized MavenProfile complete(String name, String commandLine) {
+
+		Instant now = clock.instant();
+		modules.values().forEach(it -> it.complete(now));
+
+		List<ModuleProfile> profiles = new ArrayList<>();
+
+		for (ModuleState module : modules.values()) {
+			profiles.add(new ModuleProfile(module.name, module.getDuration().toMillis(), module.tests, module.mojos));
+		}
+
+		return new MavenProfile(name, commandLine, started.toString(), Duration.between(started, now).toMillis(), profiles,
+				new Downloads(downloads, downloadedBytes));
+	}
+
+	private ModuleState getModule(String name, Instant now) {
+		return modules.computeIfAbsent(name, it -> new ModuleState(it, now));
+	}
+
+	static long parseSize(String value, String unit) {
+
+		double size = Double.parseDouble(value.replace(",", ""));
+
+		return (long) switch (unit.toUpperCase(Locale.US)) {
+			case "KB" -> size * 1000;
+			case "MB" -> size * 1000 * 1000;
+			case "GB" -> size * 1000 * 1000 * 1000;
+			default -> size;
+		};
+	}
+
+	private static class ModuleState {
+
+		private final String name;
+		private final Instant started;
+		private final List<MojoProfile> mojos = new ArrayList<>();
+		private TestSummary tests;
+		private MojoState current;
+		private Instant completed;
+
+		ModuleState(String name, Instant started) {
+			this.name = name;
+			this.started = started;
+			this.completed = started;
+		}
+
+		void complete(Instant now) {
+
+			if (current == null) {
+				return;
+			}
+
+			mojos.add(new MojoProfile(current.getPlugin(), current.getVersion(), current.getGoal(), current.getExecution(),
+					Duration.between(current.getStarted(), now).toMillis()));
+			current = null;
+			completed = now;
+		}
+
+		Duration getDuration() {
+			return Duration.between(started, completed);
+		}
+	}
+
+	@Value
+	private static class MojoState {
+
+		String plugin;
+		String version;
+		String goal;
+		String execution;
+		Instant started;
+	}
+}
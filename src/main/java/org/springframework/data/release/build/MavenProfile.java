@@ -0,0 +1,102 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.build;
+
+import lombok.Value;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Timing profile of a Maven invocation with durations in milliseconds per module and mojo execution.
+ *
+ * @author Mark Paluch
+ * @see MavenOutputParser
+ */
+@Value
+class MavenProfile {
+
+	String name;
+	String commandLine;
+	String started;
+	long duration;
+	List<ModuleProfile> modules;
+	Downloads downloads;
+
+	/**
+	 * Returns the accumulated duration per {@code plugin:goal} across all modules, longest first.
+	 *
+	 * @return
+	 */
+	Map<String, Long> getDurationByGoal() {
+
+		Map<String, Long> durations = modules.stream() //
+				.flatMap(it -> it.getMojos().stream()) //
+				.collect(Collectors.groupingBy(it -> it.getPlugin() + ":" + it.getGoal(),
+						Collectors.summingLong(MojoProfile::getDuration)));
+
+		return durations.entrySet().stream() //
+				.sorted(Map.Entry.<String, Long> comparingByValue(Comparator.reverseOrder())) //
+				.collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a,
+						LinkedHashMap::new));
+	}
+
+	@Value
+	static class ModuleProfile {
+
+		String module;
+		long duration;
+		@Nullable TestSummary tests;
+		List<MojoProfile> mojos;
+	}
+
+	@Value
+	static class MojoProfile {
+
+		String plugin;
+		String version;
+		String goal;
+		String execution;
+		long duration;
+	}
+
+	@Value
+	static class TestSummary {
+
+		int run;
+		int failures;
+		int errors;
+		int skipped;
+
+		TestSummary and(@Nullable TestSummary other) {
+			return other == null ? this
+					: new TestSummary(run + other.run, failures + other.failures, errors + other.errors,
+							skipped + other.skipped);
+		}
+	}
+
+	@Value
+	static class Downloads {
+
+		long count;
+		long bytes;
+	}
+}
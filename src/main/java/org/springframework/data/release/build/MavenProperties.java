@@ -19,10 +19,13 @@ import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.File;
+import java.util.Locale;
 import java.util.Map;
 
 import org.apache.commons.io.FileUtils;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.data.release.model.Project;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
@@ -40,10 +43,43 @@ import org.springframework.util.StringUtils;
 public class MavenProperties {
 
 	private File mavenHome;
+	private File daemonHome;
+	private Backend backend = Backend.INVOKER;
 	private File localRepository;
+	private File buildHistory;
+	private File buildCache;
 	private Map<String, String> plugins;
 	private boolean consoleLogger = true;
-	private boolean parallelize = false;
+
+	/**
+	 * Parallelization mode: {@code false} to run all operations sequentially, {@code true} to run operations on a
+	 * platform thread pool or {@code virtual} to additionally run I/O-bound operations (Git, issue tracker, dependency
+	 * lookups) on virtual threads while keeping the platform thread pool for Maven invocations.
+	 */
+	private String parallelize = "false";
+
+	/**
+	 * Resource budget of the build machine shared by concurrent Maven invocations. {@code 0} or less disables admission
+	 * control.
+	 */
+	private int budget = 0;
+
+	/**
+	 * Resource cost of building a project keyed by the lower-case project name. Projects without a configured weight
+	 * default to {@code 1}.
+	 */
+	private Map<String, Integer> weights = Map.of();
+
+	/**
+	 * Whether to build and stage all modules of a train iteration within a single Maven reactor instead of one Maven
+	 * invocation per module.
+	 */
+	private boolean aggregate = false;
+
+	/**
+	 * Reactor parallelism ({@code -T}) for aggregate builds.
+	 */
+	private String threads = "1C";
 
 	public MavenProperties() {
 
@@ -73,6 +109,75 @@ public class MavenProperties {
 		}
 	}
 
+	/**
+	 * Configures the Maven Daemon ({@code mvnd}) installation to use with {@link Backend#DAEMON}.
+	 *
+	 * @param daemonHome must not be {@literal null} or empty.
+	 */
+	public void setDaemonHome(String daemonHome) {
+
+		Assert.hasText(daemonHome, "Daemon home must not be null!");
+
+		this.daemonHome = new File(daemonHome.replace("~", FileUtils.getUserDirectoryPath()));
+	}
+
+	/**
+	 * Returns the Maven executable to use for the configured {@link Backend} or {@literal null} to use {@code mvn} from
+	 * {@link #getMavenHome() Maven home}.
+	 *
+	 * @return
+	 */
+	@Nullable
+	public File getMavenExecutable() {
+
+		if (backend != Backend.DAEMON) {
+			return null;
+		}
+
+		Assert.state(daemonHome != null, "Maven Daemon backend requires maven.daemon-home to be configured!");
+
+		return new File(daemonHome, "bin/mvnd");
+	}
+
+	/**
+	 * Configures the file to record Maven execution durations in. Recorded durations are used to prioritize long-running
+	 * modules when scheduling builds.
+	 *
+	 * @param buildHistory must not be {@literal null} or empty.
+	 */
+	public void setBuildHistory(String buildHistory) {
+
+		Assert.hasText(buildHistory, "Build history must not be null!");
+
+		this.buildHistory = new File(buildHistory.replace("~", FileUtils.getUserDirectoryPath()));
+	}
+
+	/**
+	 * Configures the directory to cache successful Maven executions in. Builds of unchanged modules are skipped when the
+	 * cache is configured.
+	 *
+	 * @param buildCache must not be {@literal null} or empty.
+	 */
+	public void setBuildCache(String buildCache) {
+
+		Assert.hasText(buildCache, "Build cache must not be null!");
+
+		this.buildCache = new File(buildCache.replace("~", FileUtils.getUserDirectoryPath()));
+	}
+
+	/**
+	 * Returns the resource cost of building the given {@link Project}.
+	 *
+	 * @param project must not be {@literal null}.
+	 * @return
+	 */
+	public int getWeight(Project project) {
+
+		Assert.notNull(project, "Project must not be null!");
+
+		return Math.max(1, weights.getOrDefault(project.getName().toLowerCase(Locale.US), 1));
+	}
+
 	/**
 	 * Returns the fully-qualified plugin goal for the given local one.
 	 *
@@ -95,4 +200,21 @@ public class MavenProperties {
 
 		return plugins.get(parts[0]).concat(":").concat(parts[1]);
 	}
+
+	/**
+	 * Backend to run Maven goals with.
+	 */
+	public enum Backend {
+
+		/**
+		 * Launch a new Maven JVM for each invocation.
+		 */
+		INVOKER,
+
+		/**
+		 * Run invocations through the Maven Daemon ({@code mvnd}) that keeps warm build JVMs across invocations of the
+		 * same project.
+		 */
+		DAEMON;
+	}
 }
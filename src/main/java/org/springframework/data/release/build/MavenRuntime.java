@@ -20,7 +20,19 @@ import static org.springframework.data.release.build.CommandLine.Argument.*;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.maven.shared.invoker.DefaultInvoker;
 import org.apache.maven.shared.invoker.InvocationResult;
@@ -32,6 +44,10 @@ import org.springframework.data.release.model.JavaVersion;
 import org.springframework.data.release.model.Named;
 import org.springframework.data.release.model.SupportedProject;
 import org.springframework.data.release.utils.Logger;
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 /**
  * @author Oliver Gierke
@@ -40,9 +56,13 @@ import org.springframework.data.release.utils.Logger;
 @Slf4j
 public class MavenRuntime extends MavenRuntimeSupport {
 
+	private static final ObjectWriter PROFILE_WRITER = new ObjectMapper().writerWithDefaultPrettyPrinter();
+
 	private final Workspace workspace;
 	private final Logger logger;
 	private final MavenProperties properties;
+	private final BuildDurations durations;
+	private final Map<String, MavenRuntime> runtimes;
 
 	/**
 	 * Creates a new {@link MavenRuntime} for the given {@link Workspace} and Maven home.
@@ -50,78 +70,237 @@ public class MavenRuntime extends MavenRuntimeSupport {
 	 * @param workspace must not be {@literal null}.
 	 * @param logger must not be {@literal null}.
 	 * @param properties must not be {@literal null}.
+	 * @param durations must not be {@literal null}.
 	 */
 	public MavenRuntime(Workspace workspace, Logger logger, MavenRuntimes.MavenInstallation mavenInstallation,
-			MavenProperties properties) {
-		this(workspace, logger, mavenInstallation.getHome(), properties, JavaVersion.VERSION_1_8);
+			MavenProperties properties, BuildDurations durations) {
+		this(workspace, logger, mavenInstallation.getHome(), properties, durations, JavaVersion.VERSION_1_8,
+				new ConcurrentHashMap<>());
 	}
 
 	private MavenRuntime(Workspace workspace, Logger logger, File mavenHome, MavenProperties properties,
-			JavaVersion requiredJavaVersion) {
+			BuildDurations durations, JavaVersion requiredJavaVersion, Map<String, MavenRuntime> runtimes) {
 
 		super(mavenHome, properties.getLocalRepository(),
 				JavaRuntimes.Selector.from(requiredJavaVersion).notGraalVM().getRequiredJdkInstallation());
 		this.workspace = workspace;
 		this.logger = logger;
 		this.properties = properties;
+		this.durations = durations;
+		this.runtimes = runtimes;
 		logger.log("Maven", "Using " + getJdk() + " as default Java Runtime");
 	}
 
+	/**
+	 * Returns the {@link MavenRuntime} using a JDK matching the given {@link JavaVersion}. Runtimes are memoized per
+	 * {@link JavaVersion#getName() Java version} across all derived runtimes so that the JDK is selected only once.
+	 *
+	 * @param javaVersion must not be {@literal null}.
+	 * @return
+	 */
 	public MavenRuntime withJavaVersion(JavaVersion javaVersion) {
-		return new MavenRuntime(workspace, logger, getMavenHome(), properties, javaVersion);
+		return runtimes.computeIfAbsent(javaVersion.getName(),
+				it -> new MavenRuntime(workspace, logger, getMavenHome(), properties, durations, javaVersion, runtimes));
 	}
 
 	public MavenInvocationResult execute(SupportedProject project, CommandLine arguments) {
 
 		logger.log(project, "📦 Executing mvn %s", arguments.toString());
 
-		try (MavenLogger mavenLogger = getLogger(project, arguments.getGoals())) {
+		Instant start = Instant.now();
 
-			Invoker invoker = new DefaultInvoker();
-			invoker.setMavenHome(getMavenHome());
-			invoker.setOutputHandler(mavenLogger::info);
-			invoker.setErrorHandler(mavenLogger::warn);
+		MavenInvocationResult result = invoke(project, workspace.getProjectDirectory(project), arguments);
+
+		if (!result.isSuccessful()) {
+			logger.warn(project, "🙈 Failed execution mvn %s", arguments.toString());
+
+			throw new IllegalStateException("🙈 Failed execution mvn " + arguments, result.getFailure());
+		}
+		logger.log(project, "🆗 Successful execution mvn %s", arguments.toString());
+
+		durations.record(project.getProject(), arguments.getGoals(), Duration.between(start, Instant.now()));
+
+		return result;
+	}
+
+	/**
+	 * Executes the given {@link CommandLine} for the {@link SupportedProject} unless the {@link BuildCache} contains a
+	 * successful execution with the same inputs. A cache hit restores the artifacts installed by the recorded execution
+	 * and replays its Maven output instead of invoking Maven. Executions not {@link BuildCache#isEnabled(CommandLine)
+	 * subject to caching} always invoke Maven.
+	 *
+	 * @param project must not be {@literal null}.
+	 * @param arguments must not be {@literal null}.
+	 * @param cache must not be {@literal null}.
+	 * @return
+	 */
+	public MavenInvocationResult execute(SupportedProject project, CommandLine arguments, BuildCache cache) {
+
+		if (!cache.isEnabled(arguments)) {
+			return execute(project, arguments);
+		}
+
+		String key = cache.getKey(project.getProject(), workspace.getProjectDirectory(project), arguments,
+				getJdk().toString());
+		Optional<File> cached = cache.get(project.getProject(), key);
+
+		if (cached.isPresent()) {
+
+			logger.log(project, "♻️ Reusing cached execution mvn %s", arguments.toString());
+
+			MavenLogger mavenLogger = getLogger(project, arguments.getGoals());
+
+			try (mavenLogger; Stream<String> lines = Files.lines(cached.get().toPath(), StandardCharsets.UTF_8)) {
+				lines.forEach(mavenLogger::info);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+
+			return new MavenInvocationResult(0, null, mavenLogger);
+		}
+
+		MavenInvocationResult result = execute(project, arguments);
+
+		try (Stream<String> lines = result.streamLog()) {
+			cache.put(project.getProject(), arguments, key, lines);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Executes the given {@link CommandLine} for the Maven reactor described by the {@code pom.xml} in the given
+	 * directory. Other than {@link #execute(SupportedProject, CommandLine)}, a failed execution does not raise an
+	 * exception so that the outcome can be attributed to individual reactor modules through the
+	 * {@link MavenInvocationResult#getReactorSummary() reactor summary}.
+	 *
+	 * @param reactor must not be {@literal null}.
+	 * @param directory must not be {@literal null}.
+	 * @param arguments must not be {@literal null}.
+	 * @return
+	 */
+	public MavenInvocationResult executeReactor(Named reactor, File directory, CommandLine arguments) {
 
-			InvocationResult result = doWithMaven(invoker, mvn -> {
+		logger.log(reactor.getName(), "📦 Executing mvn %s", arguments.toString());
 
-				mvn.setBaseDirectory(workspace.getProjectDirectory(project));
-				mavenLogger.info(String.format("Java Home: %s", getJavaHome()));
-				mavenLogger.info(String.format("Executing: mvn %s", arguments));
+		MavenInvocationResult result = invoke(reactor, directory, arguments);
 
-				CommandLine disabledGradleBuildCache = arguments.and(arg("gradle.cache.local.enabled=false"))
-						.and(arg("gradle.cache.remote.enabled=false")).and(arg("develocity.cache.local.enabled=false"))
-						.and(arg("develocity.cache.remote.enabled=false"));
+		if (result.isSuccessful()) {
+			logger.log(reactor.getName(), "🆗 Successful execution mvn %s", arguments.toString());
+		} else {
+			logger.warn(reactor.getName(), "🙈 Failed execution mvn %s", arguments.toString());
+		}
+
+		return result;
+	}
 
-				mvn.setGoals(disabledGradleBuildCache.toCommandLine(it -> properties.getFullyQualifiedPlugin(it.getGoal())));
+	private MavenInvocationResult invoke(Named project, File directory, CommandLine arguments) {
+
+		MavenLogger mavenLogger = getLogger(project, arguments.getGoals());
+		boolean concurrent = arguments.getArguments().stream().anyMatch(it -> it.getName().startsWith("-T"));
+		MavenOutputParser parser = new MavenOutputParser(Clock.systemUTC(), concurrent);
+		ReactorSummary summary = new ReactorSummary();
+		InvocationResult result;
+
+		// close the logger before creating the result so that the log file is complete
+		try (mavenLogger) {
+
+			Invoker invoker = new DefaultInvoker();
+			invoker.setMavenHome(getMavenHome());
+			invoker.setOutputHandler(line -> {
+				parser.accept(line);
+				summary.accept(line);
+				mavenLogger.info(line);
+			});
+			invoker.setErrorHandler(line -> {
+				parser.accept(line);
+				summary.accept(line);
+				mavenLogger.warn(line);
 			});
 
-			if (result.getExitCode() != 0) {
-				logger.warn(project, "🙈 Failed execution mvn %s", arguments.toString());
+			MavenDaemon daemon = getDaemon();
 
-				throw new IllegalStateException("🙈 Failed execution mvn " + arguments, result.getExecutionException());
+			if (daemon != null) {
+				invoker.setMavenExecutable(daemon.getExecutable());
 			}
-			logger.log(project, "🆗 Successful execution mvn %s", arguments.toString());
 
-			MavenInvocationResult invocationResult = new MavenInvocationResult();
-			invocationResult.getLog().addAll(mavenLogger.getLines());
+			try {
+
+				result = doWithMaven(invoker, mvn -> {
+
+					mvn.setBaseDirectory(directory);
+					mavenLogger.info(String.format("Java Home: %s", getJavaHome()));
+					mavenLogger.info(String.format("Executing: mvn %s", arguments));
 
-			return invocationResult;
+					CommandLine disabledGradleBuildCache = arguments.and(arg("gradle.cache.local.enabled=false"))
+							.and(arg("gradle.cache.remote.enabled=false")).and(arg("develocity.cache.local.enabled=false"))
+							.and(arg("develocity.cache.remote.enabled=false"));
+
+					CommandLine commandLine = daemon != null
+							? daemon.getCommandLine(project, disabledGradleBuildCache, concurrent)
+							: disabledGradleBuildCache;
+
+					mvn.setGoals(commandLine.toCommandLine(it -> properties.getFullyQualifiedPlugin(it.getGoal())));
+				});
+			} finally {
+
+				// an interrupted invocation only terminates the mvnd client, the build keeps running in the daemon
+				if (daemon != null && Thread.currentThread().isInterrupted()) {
+					daemon.stop(project, getJavaHome());
+				}
+			}
 		} catch (Exception e) {
 			if (e instanceof RuntimeException exception) {
 				throw exception;
 			}
 			throw new RuntimeException(e);
 		}
+
+		writeProfile(project, arguments, parser.complete(project.getName(), arguments.toString()));
+
+		return new MavenInvocationResult(result.getExitCode(), result.getExecutionException(), mavenLogger,
+				summary.getEntries());
+	}
+
+	/**
+	 * Writes the timing profile as JSON next to the Maven logs and reports the most expensive goals.
+	 */
+	private void writeProfile(Named project, CommandLine arguments, MavenProfile profile) {
+
+		File file = new File(workspace.getLogsDirectory(), getFilename(project, arguments.getGoals(), "profile.json"));
+
+		try {
+			file.getParentFile().mkdirs();
+			PROFILE_WRITER.writeValue(file, profile);
+		} catch (IOException e) {
+			log.warn("Cannot write Maven profile to {}: {}", file, e.getMessage());
+		}
+
+		String goals = profile.getDurationByGoal().entrySet().stream().limit(3) //
+				.map(it -> String.format("%s %s", it.getKey(), Duration.ofMillis(it.getValue()))) //
+				.collect(Collectors.joining(", "));
+
+		if (!goals.isEmpty()) {
+			logger.log(project.getName(), "⏱️ Slowest goals: %s", goals);
+		}
+	}
+
+	@Nullable
+	private MavenDaemon getDaemon() {
+
+		File executable = properties.getMavenExecutable();
+
+		return executable != null ? new MavenDaemon(executable, new File(workspace.getWorkingDirectory(), "mvnd"), logger)
+				: null;
 	}
 
 	@Override
 	MavenLogger getLogger(Named project, List<CommandLine.Goal> goals) {
 
-		if (this.properties.isConsoleLogger()) {
-			return new SlfLogger(log, project);
-		}
+		FileLogger file = new FileLogger(log, project, this.workspace.getLogsDirectory(), goals);
 
-		return new FileLogger(log, project, this.workspace.getLogsDirectory(), goals);
+		// capture the full output in the log file when forwarding to the console, e.g. for the build cache
+		return this.properties.isConsoleLogger() ? new SlfLogger(log, project, file) : file;
 	}
 
 }
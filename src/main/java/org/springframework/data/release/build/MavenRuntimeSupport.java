@@ -15,18 +15,23 @@
  */
 package org.springframework.data.release.build;
 
-import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.Closeable;
 import java.io.File;
 import java.io.FileFilter;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.PrintWriter;
-import java.util.ArrayList;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Collections;
 import java.util.List;
 import java.util.Properties;
@@ -34,6 +39,7 @@ import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -168,12 +174,115 @@ public class MavenRuntimeSupport {
 		return new SlfLogger(log, project);
 	}
 
+	/**
+	 * Returns the name of a file within the logs directory for an invocation of {@code goals}.
+	 *
+	 * @param project must not be {@literal null}.
+	 * @param goals must not be {@literal null}.
+	 * @param extension must not be {@literal null}.
+	 * @return
+	 */
+	static String getFilename(Named project, List<CommandLine.Goal> goals, String extension) {
+
+		String goalNames = goals.stream().map(CommandLine.Goal::getGoal).collect(Collectors.joining("-"));
+
+		return String.format("mvn-%s-%s.%s", project.getName(), goalNames, extension).replace(':', '.');
+	}
+
 	public static class MavenInvocationResult {
 
-		private final List<String> log = new ArrayList<>();
+		private final int exitCode;
+		private final @Nullable Exception failure;
+		private final List<String> tail;
+		private final List<String> errors;
+		private final @Nullable File logFile;
+		private final long logOffset;
+		private final List<ReactorSummary.Entry> reactorSummary;
+
+		MavenInvocationResult(int exitCode, @Nullable Exception failure, MavenLogger logger) {
+			this(exitCode, failure, logger, Collections.emptyList());
+		}
+
+		MavenInvocationResult(int exitCode, @Nullable Exception failure, MavenLogger logger,
+				List<ReactorSummary.Entry> reactorSummary) {
+			this.exitCode = exitCode;
+			this.failure = failure;
+			this.tail = logger.getOutput().getTail();
+			this.errors = logger.getOutput().getErrors();
+			this.logFile = logger.getLogFile();
+			this.logOffset = logger.getLogOffset();
+			this.reactorSummary = reactorSummary;
+		}
+
+		public int getExitCode() {
+			return exitCode;
+		}
+
+		@Nullable
+		public Exception getFailure() {
+			return failure;
+		}
+
+		public boolean isSuccessful() {
+			return exitCode == 0;
+		}
+
+		/**
+		 * Returns the most recent output lines.
+		 *
+		 * @return
+		 */
+		public List<String> getTail() {
+			return tail;
+		}
 
-		public List<String> getLog() {
-			return log;
+		/**
+		 * Returns error lines reported by Maven.
+		 *
+		 * @return
+		 */
+		public List<String> getErrors() {
+			return errors;
+		}
+
+		/**
+		 * Returns the reactor modules listed in the reactor summary with their outcome and duration, empty if Maven did not
+		 * print a reactor summary.
+		 *
+		 * @return
+		 */
+		public List<ReactorSummary.Entry> getReactorSummary() {
+			return reactorSummary;
+		}
+
+		/**
+		 * Streams the full output of the invocation from its log file. Falls back to the {@link #getTail() tail} if the
+		 * output was not routed to a file. The returned {@link Stream} must be closed.
+		 *
+		 * @return
+		 */
+		public Stream<String> streamLog() {
+
+			if (logFile == null || !logFile.exists()) {
+				return tail.stream();
+			}
+
+			try {
+				InputStream is = Files.newInputStream(logFile.toPath());
+				is.skipNBytes(logOffset);
+
+				BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8));
+
+				return reader.lines().onClose(() -> {
+					try {
+						reader.close();
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
 		}
 	}
 
@@ -186,52 +295,113 @@ public class MavenRuntimeSupport {
 
 		void warn(String message);
 
-		List<String> getLines();
+		/**
+		 * Returns the bounded in-memory view of the output.
+		 *
+		 * @return
+		 */
+		MavenOutput getOutput();
+
+		/**
+		 * Returns the file the full output is written to or {@literal null} if output is not routed to a file.
+		 *
+		 * @return
+		 */
+		@Nullable
+		default File getLogFile() {
+			return null;
+		}
+
+		/**
+		 * Returns the position within {@link #getLogFile()} at which the output of this logger starts.
+		 *
+		 * @return
+		 */
+		default long getLogOffset() {
+			return 0;
+		}
 	}
 
-	@RequiredArgsConstructor
+	/**
+	 * Forwards output to SLF4J prefixed with the project name. The bounded in-memory view keeps the unprefixed lines. If
+	 * a {@link FileLogger} is given, the full unprefixed output is captured in its log file as well.
+	 */
 	static class SlfLogger implements MavenLogger {
 
 		private final org.slf4j.Logger logger;
 		private final String logPrefix;
-		private final List<String> contents;
+		private final @Nullable FileLogger capture;
+		private final MavenOutput output;
 
 		SlfLogger(org.slf4j.Logger logger, Named project) {
+			this(logger, project, null);
+		}
+
+		SlfLogger(org.slf4j.Logger logger, Named project, @Nullable FileLogger capture) {
 			this.logger = logger;
 			this.logPrefix = StringUtils.padRight(project.getName(), 10);
-			this.contents = new ArrayList<>();
+			this.capture = capture;
+			this.output = capture != null ? capture.getOutput() : new MavenOutput();
 		}
 
 		@Override
 		public void info(String message) {
-			String msg = logPrefix + ": " + message;
-			contents.add(msg);
-			logger.info(msg);
+			record(message);
+			logger.info(logPrefix + ": " + message);
 		}
 
 		@Override
 		public void warn(String message) {
-			String msg = logPrefix + ": " + message;
-			contents.add(msg);
-			logger.warn(msg);
+			record(message);
+			logger.warn(logPrefix + ": " + message);
+		}
+
+		private void record(String message) {
+
+			if (capture != null) {
+				capture.info(message);
+			} else {
+				output.add(message);
+			}
 		}
 
 		@Override
 		public void close() throws IOException {
-			// no-op
+
+			if (capture != null) {
+				capture.close();
+			}
 		}
 
 		@Override
-		public List<String> getLines() {
-			return contents;
+		public MavenOutput getOutput() {
+			return output;
+		}
+
+		@Nullable
+		@Override
+		public File getLogFile() {
+			return capture != null ? capture.getLogFile() : null;
+		}
+
+		@Override
+		public long getLogOffset() {
+			return capture != null ? capture.getLogOffset() : 0;
 		}
 	}
 
+	/**
+	 * Writes output to a log file through a buffer instead of flushing each line. Only a bounded tail and error lines
+	 * are kept in memory. Writes happen on the stream pumper thread of the Maven invocation, which already decouples the
+	 * Maven process from the log file through the pipe buffer; a buffered write only copies into the page cache so there
+	 * is no blocking I/O to hand off to another thread.
+	 */
 	static class FileLogger implements MavenLogger {
 
-		private final PrintWriter printWriter;
-		private final FileOutputStream outputStream;
-		private final List<String> contents = new ArrayList<>();
+		private final File file;
+		private final long offset;
+		private final Writer writer;
+		private final MavenOutput output = new MavenOutput();
 
 		FileLogger(org.slf4j.Logger logger, Named project, File logsDirectory, List<CommandLine.Goal> goals) {
 
@@ -239,42 +409,59 @@ public class MavenRuntimeSupport {
 				logsDirectory.mkdirs();
 			}
 
-			String goalNames = goals.stream().map(CommandLine.Goal::getGoal).collect(Collectors.joining("-"));
-
-			String filename = String.format("mvn-%s-%s.log", project.getName(), goalNames).replace(':', '.');
+			String filename = getFilename(project, goals, "log");
 
 			try {
-				File file = new File(logsDirectory, filename);
+				file = new File(logsDirectory, filename);
 				logger.info("Routing Maven output to " + file.getCanonicalPath());
-				outputStream = new FileOutputStream(file, true);
+				offset = file.length();
+				writer = new BufferedWriter(
+						new OutputStreamWriter(new FileOutputStream(file, true), StandardCharsets.UTF_8), 64 * 1024);
 			} catch (IOException e) {
 				throw new RuntimeException(e);
 			}
-
-			printWriter = new PrintWriter(outputStream, true);
 		}
 
 		@Override
 		public void info(String message) {
-			printWriter.println(message);
-			contents.add(message);
+			write(message);
 		}
 
 		@Override
 		public void warn(String message) {
-			printWriter.println(message);
-			contents.add(message);
+			write(message);
+		}
+
+		private synchronized void write(String message) {
+
+			output.add(message);
+
+			try {
+				writer.write(message);
+				writer.write(System.lineSeparator());
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
 		}
 
 		@Override
-		public void close() throws IOException {
-			printWriter.close();
-			outputStream.close();
+		public synchronized void close() throws IOException {
+			writer.close();
+		}
+
+		@Override
+		public MavenOutput getOutput() {
+			return output;
+		}
+
+		@Override
+		public File getLogFile() {
+			return file;
 		}
 
 		@Override
-		public List<String> getLines() {
-			return contents;
+		public long getLogOffset() {
+			return offset;
 		}
 	}
 
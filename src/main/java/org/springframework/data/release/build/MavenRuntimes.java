@@ -36,6 +36,7 @@ import org.apache.commons.io.filefilter.RegexFileFilter;
 import org.springframework.boot.diagnostics.AbstractFailureAnalyzer;
 import org.springframework.boot.diagnostics.FailureAnalysis;
 import org.springframework.data.release.io.JavaRuntimes;
+import org.springframework.data.release.io.RuntimeCache;
 import org.springframework.data.release.model.Version;
 import org.springframework.lang.Nullable;
 import org.springframework.util.StringUtils;
@@ -89,13 +90,43 @@ public class MavenRuntimes {
 	}
 
 	public List<MavenInstallation> getMavenInstallations(JavaRuntimes.JdkInstallation jdk) {
-		return DETECTORS.stream() //
+
+		// detectors run in parallel as a cold cache requires directory scans and mvn -v invocations
+		return detectors.parallelStream() //
 				.filter(MavenDetector::isAvailable) //
-				.flatMap(it -> it.detect(jdk).stream()) //
+				.flatMap(it -> detect(it, jdk, RuntimeCache.getDefault()).stream()) //
 				.sorted() //
 				.collect(Collectors.toList());
 	}
 
+	/**
+	 * Detects Maven installations using the given {@link MavenDetector} considering cached installations if the detector
+	 * scans a {@link MavenDetector#getLocation() location}. Installations are cached per JDK as detection runs Maven
+	 * with the given JDK.
+	 *
+	 * @param detector
+	 * @param jdk
+	 * @param cache
+	 * @return
+	 */
+	static List<MavenInstallation> detect(MavenDetector detector, JavaRuntimes.JdkInstallation jdk, RuntimeCache cache) {
+
+		File location = detector.getLocation();
+
+		if (location == null) {
+			return detector.detect(jdk);
+		}
+
+		String key = "maven." + detector.getClass().getSimpleName() + "." + jdk.getHome().getAbsolutePath();
+
+		return cache.get(key, location, () -> detector.detect(jdk), it -> it.getVersion() + "|" + it.getHome().getPath(),
+				it -> {
+
+					String[] parts = it.split("\\|", 2);
+					return new MavenInstallation(Version.parse(parts[0]), new File(parts[1]));
+				}, MavenInstallation::getHome);
+	}
+
 	static boolean isDirectory(File file) {
 		return file.exists() && file.isDirectory();
 	}
@@ -115,6 +146,15 @@ public class MavenRuntimes {
 		 */
 		List<MavenInstallation> detect(JavaRuntimes.JdkInstallation jdk);
 
+		/**
+		 * @return the directory scanned by this detector whose modification time validates cached installations or
+		 *         {@literal null} if detection is not cached.
+		 */
+		@Nullable
+		default File getLocation() {
+			return null;
+		}
+
 	}
 
 	/**
@@ -188,6 +228,11 @@ public class MavenRuntimes {
 			return isDirectory(sdkManMavenHome);
 		}
 
+		@Override
+		public File getLocation() {
+			return sdkManMavenHome;
+		}
+
 		@Override
 		public List<MavenInstallation> detect(JavaRuntimes.JdkInstallation jdk) {
 
@@ -336,8 +381,11 @@ public class MavenRuntimes {
 		@Override
 		public List<MavenInstallation> detect(JavaRuntimes.JdkInstallation jdk) {
 
-			SimpleMavenRuntime mavenRuntime = new SimpleMavenRuntime(mavenHome, jdk);
-			return Collections.singletonList(new MavenInstallation(Version.parse(mavenRuntime.getVersion()), mavenHome));
+			// avoid reading maven-core or running mvn -v if the installation is unchanged
+			String version = RuntimeCache.getDefault().get("maven.version", mavenHome,
+					() -> new SimpleMavenRuntime(mavenHome, jdk).getVersion());
+
+			return Collections.singletonList(new MavenInstallation(Version.parse(version), mavenHome));
 		}
 	}
 
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.build;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.data.release.model.ProjectAware;
+import org.springframework.util.Assert;
+
+/**
+ * Sequence of stages each module passes through on its own. A module enters a stage as soon as it completed the
+ * previous stage. Stages declared through {@link #thenAfterUpstream(String, Consumer)} additionally wait until all
+ * dependencies of the module have completed the same stage, which is the only synchronization point across modules.
+ * Only build stages (declared through {@link #thenBuild(String, Consumer)} or
+ * {@link #thenBuildAfterUpstream(String, Consumer)}) run Maven and are subject to the build weights of
+ * {@link BuildScheduler}; other stages, such as Git operations, are not throttled by the build budget.
+ *
+ * @author Mark Paluch
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class Pipeline<M extends ProjectAware> {
+
+	private final List<Stage<M>> stages;
+
+	/**
+	 * Creates a new, empty {@link Pipeline}.
+	 *
+	 * @return
+	 */
+	public static <M extends ProjectAware> Pipeline<M> create() {
+		return new Pipeline<>(Collections.emptyList());
+	}
+
+	/**
+	 * Creates a new {@link Pipeline} with a single build stage.
+	 *
+	 * @param name must not be {@literal null} or empty.
+	 * @param action must not be {@literal null}.
+	 * @param afterUpstream whether to wait for dependencies of a module to complete the stage.
+	 * @return
+	 */
+	static <M extends ProjectAware, T> Pipeline<M> of(String name, Function<M, T> action, boolean afterUpstream) {
+		return new Pipeline<M>(Collections.emptyList()).and(new Stage<>(name, action, afterUpstream, true));
+	}
+
+	/**
+	 * Adds a stage that runs once the module has completed the previous stage.
+	 *
+	 * @param name must not be {@literal null} or empty.
+	 * @param action must not be {@literal null}.
+	 * @return
+	 */
+	public Pipeline<M> then(String name, Consumer<M> action) {
+
+		Assert.notNull(action, "Action must not be null!");
+
+		return and(new Stage<>(name, toFunction(action), false, false));
+	}
+
+	/**
+	 * Adds a build stage that runs once the module has completed the previous stage.
+	 *
+	 * @param name must not be {@literal null} or empty.
+	 * @param action must not be {@literal null}.
+	 * @return
+	 */
+	public Pipeline<M> thenBuild(String name, Consumer<M> action) {
+
+		Assert.notNull(action, "Action must not be null!");
+
+		return and(new Stage<>(name, toFunction(action), false, true));
+	}
+
+	/**
+	 * Adds a stage that runs once the module has completed the previous stage and all of its dependencies have completed
+	 * this stage.
+	 *
+	 * @param name must not be {@literal null} or empty.
+	 * @param action must not be {@literal null}.
+	 * @return
+	 */
+	public Pipeline<M> thenAfterUpstream(String name, Consumer<M> action) {
+
+		Assert.notNull(action, "Action must not be null!");
+
+		return and(new Stage<>(name, toFunction(action), true, false));
+	}
+
+	/**
+	 * Adds a build stage that runs once the module has completed the previous stage and all of its dependencies have
+	 * completed this stage.
+	 *
+	 * @param name must not be {@literal null} or empty.
+	 * @param action must not be {@literal null}.
+	 * @return
+	 */
+	public Pipeline<M> thenBuildAfterUpstream(String name, Consumer<M> action) {
+
+		Assert.notNull(action, "Action must not be null!");
+
+		return and(new Stage<>(name, toFunction(action), true, true));
+	}
+
+	List<Stage<M>> getStages() {
+		return stages;
+	}
+
+	/**
+	 * Returns whether any stage synchronizes with upstream modules.
+	 *
+	 * @return
+	 */
+	boolean hasUpstreamStages() {
+		return stages.stream().anyMatch(Stage::isAfterUpstream);
+	}
+
+	private Pipeline<M> and(Stage<M> stage) {
+
+		Assert.hasText(stage.getName(), "Stage name must not be null or empty!");
+
+		List<Stage<M>> stages = new ArrayList<>(this.stages);
+		stages.add(stage);
+
+		return new Pipeline<>(Collections.unmodifiableList(stages));
+	}
+
+	private static <M> Function<M, Object> toFunction(Consumer<M> action) {
+
+		return module -> {
+			action.accept(module);
+			return module;
+		};
+	}
+
+	@Value
+	static class Stage<M> {
+
+		String name;
+		Function<M, ?> action;
+		boolean afterUpstream;
+
+		/**
+		 * Whether the stage runs Maven and is therefore weighted against the build budget.
+		 */
+		boolean build;
+	}
+}
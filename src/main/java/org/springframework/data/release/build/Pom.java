@@ -44,6 +44,27 @@ public interface Pom {
 	@XBRead("/project/version")
 	String getRawVersion();
 
+	@XBRead("/project/name")
+	String getName();
+
+	@XBRead("/project/artifactId")
+	String getArtifactId();
+
+	@XBRead("//modules/module")
+	List<String> getModules();
+
+	@XBRead("/project/parent")
+	Artifact getParent();
+
+	/**
+	 * Returns all dependency, plugin and extension declarations including the ones declared in profiles and
+	 * management sections.
+	 *
+	 * @return
+	 */
+	@XBRead("//dependency|//plugin|//extension")
+	List<Artifact> getArtifactReferences();
+
 	@XBRead("/project/version")
 	ArtifactVersion getVersion();
 
@@ -189,12 +210,18 @@ public interface Pom {
 		@XBRead("child::groupId")
 		GroupId getGroupId();
 
+		@XBRead("child::groupId")
+		String getRawGroupId();
+
 		@XBRead("child::artifactId")
 		String getArtifactId();
 
 		@XBRead("child::version")
 		String getVersion();
 
+		@XBWrite("version")
+		void setVersion(@XBValue String version);
+
 		default String getArtifactPath() {
 			return "/".concat(getGroupId().asPath()).concat("/").concat(getArtifactId());
 		}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.build;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.apache.commons.io.IOUtils;
+
+import org.springframework.data.release.model.Project;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Single Maven reactor spanning the workspace checkouts of multiple projects. The reactor is described by an aggregator
+ * POM listing each checkout as module so that Maven resolves artifacts across projects from the reactor instead of
+ * the local repository. The outcome reported by Maven in the {@link ReactorSummary reactor summary} is attributed to
+ * projects through the names of their (sub-)modules.
+ *
+ * @author Mark Paluch
+ */
+class Reactor {
+
+	static final String ARTIFACT_ID = "spring-data-release-reactor";
+
+	private final Map<Project, File> directories;
+	private final Map<String, Project> modules;
+
+	/**
+	 * Creates a new {@link Reactor} for the given project checkouts and module names.
+	 *
+	 * @param directories checkout directory per {@link Project}, must not be {@literal null}.
+	 * @param modules owning {@link Project} per module name (or artifact identifier for modules without a name), must
+	 *          not be {@literal null}.
+	 */
+	Reactor(Map<Project, File> directories, Map<String, Project> modules) {
+
+		Assert.notEmpty(directories, "Directories must not be null or empty!");
+		Assert.notNull(modules, "Modules must not be null!");
+
+		this.directories = new LinkedHashMap<>(directories);
+		this.modules = new LinkedHashMap<>(modules);
+	}
+
+	/**
+	 * Returns the projects that are part of this reactor.
+	 *
+	 * @return
+	 */
+	Collection<Project> getProjects() {
+		return directories.keySet();
+	}
+
+	/**
+	 * Renders the aggregator POM to be placed into the given directory. The aggregator itself is neither installed nor
+	 * deployed.
+	 *
+	 * @param directory must not be {@literal null}.
+	 * @return
+	 */
+	String toAggregatorPom(File directory) {
+
+		Assert.notNull(directory, "Directory must not be null!");
+
+		String modules = directories.values().stream() //
+				.map(it -> directory.getAbsoluteFile().toPath().relativize(it.getAbsoluteFile().toPath())) //
+				.map(it -> String.format("\t\t<module>%s</module>", it.toString().replace(File.separatorChar, '/'))) //
+				.collect(Collectors.joining(IOUtils.LINE_SEPARATOR));
+
+		return String.join(IOUtils.LINE_SEPARATOR, //
+				"<?xml version=\"1.0\" encoding=\"UTF-8\"?>", //
+				"<project xmlns=\"http://maven.apache.org/POM/4.0.0\" xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"", //
+				"\t\txsi:schemaLocation=\"http://maven.apache.org/POM/4.0.0 https://maven.apache.org/xsd/maven-4.0.0.xsd\">", //
+				"", //
+				"\t<modelVersion>4.0.0</modelVersion>", //
+				"", //
+				"\t<groupId>org.springframework.data</groupId>", //
+				"\t<artifactId>" + ARTIFACT_ID + "</artifactId>", //
+				"\t<version>1.0.0</version>", //
+				"\t<packaging>pom</packaging>", //
+				"", //
+				"\t<properties>", //
+				"\t\t<maven.install.skip>true</maven.install.skip>", //
+				"\t\t<maven.deploy.skip>true</maven.deploy.skip>", //
+				"\t</properties>", //
+				"", //
+				"\t<modules>", //
+				modules, //
+				"\t</modules>", //
+				"", //
+				"</project>", //
+				"");
+	}
+
+	/**
+	 * Determines the failed projects from the {@link ReactorSummary reactor summary} of a reactor build. A project fails
+	 * if one of its modules failed. A project whose modules were skipped by Maven without a failed upstream project
+	 * within this reactor fails as well as it was not built.
+	 *
+	 * @param summary must not be {@literal null}.
+	 * @return the failure per {@link Project}, empty if no failure could be attributed to a project.
+	 */
+	Map<Project, Throwable> getFailures(List<ReactorSummary.Entry> summary) {
+
+		Assert.notNull(summary, "Summary must not be null!");
+
+		Map<Project, Throwable> failures = new LinkedHashMap<>();
+		Map<Project, String> skipped = new LinkedHashMap<>();
+
+		for (ReactorSummary.Entry entry : summary) {
+
+			Project project = getProject(entry.getName());
+
+			if (project == null) {
+				continue;
+			}
+
+			if (entry.getStatus() == ReactorSummary.Status.FAILURE && !failures.containsKey(project)) {
+				failures.put(project,
+						new IllegalStateException(String.format("🙈 Failed reactor module %s", entry.getName())));
+			}
+
+			if (entry.getStatus() == ReactorSummary.Status.SKIPPED) {
+				skipped.putIfAbsent(project, entry.getName());
+			}
+		}
+
+		skipped.forEach((project, module) -> {
+
+			if (!failures.containsKey(project) && failures.keySet().stream().noneMatch(project::dependsOn)) {
+				failures.put(project,
+						new IllegalStateException(String.format("🙈 Reactor module %s was not built", module)));
+			}
+		});
+
+		return failures;
+	}
+
+	/**
+	 * Sums up the time spent building the modules of each project as per the {@link ReactorSummary reactor summary}.
+	 *
+	 * @param summary must not be {@literal null}.
+	 * @return
+	 */
+	Map<Project, Duration> getDurations(List<ReactorSummary.Entry> summary) {
+
+		Assert.notNull(summary, "Summary must not be null!");
+
+		Map<Project, Duration> durations = new LinkedHashMap<>();
+
+		for (ReactorSummary.Entry entry : summary) {
+
+			Project project = getProject(entry.getName());
+
+			if (project != null && entry.getStatus() != ReactorSummary.Status.SKIPPED) {
+				durations.merge(project, entry.getDuration(), Duration::plus);
+			}
+		}
+
+		return durations;
+	}
+
+	/**
+	 * Resolves the owning {@link Project} of a reactor module listed in the summary. Maven lists modules by name and
+	 * appends the module version if the reactor contains modules of different versions.
+	 */
+	@Nullable
+	private Project getProject(String module) {
+
+		Project project = modules.get(module);
+
+		if (project != null) {
+			return project;
+		}
+
+		int separator = module.lastIndexOf(' ');
+
+		return separator != -1 ? modules.get(module.substring(0, separator)) : null;
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.build;
+
+import lombok.Value;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.release.model.Project;
+
+/**
+ * Outcome of a build spanning multiple projects within a single Maven reactor.
+ *
+ * @author Mark Paluch
+ */
+@Value(staticConstructor = "of")
+public class ReactorResult {
+
+	/**
+	 * The failure per {@link Project}, empty if all projects were built successfully.
+	 */
+	Map<Project, Throwable> failures;
+
+	/**
+	 * Time spent building each {@link Project} as reported by the reactor summary.
+	 */
+	Map<Project, Duration> durations;
+
+	/**
+	 * The goals the reactor was built with.
+	 */
+	List<CommandLine.Goal> goals;
+
+	/**
+	 * Creates a {@link ReactorResult} carrying failures only, e.g. for build systems that do not report durations.
+	 *
+	 * @param failures must not be {@literal null}.
+	 * @return
+	 */
+	public static ReactorResult of(Map<Project, Throwable> failures) {
+		return of(failures, Collections.emptyMap(), Collections.emptyList());
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.build;
+
+import lombok.Value;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Streaming collector of the reactor summary Maven prints at the end of a build listing the outcome and duration of
+ * each reactor module, e.g. {@code [INFO] Spring Data Commons ........................... SUCCESS [ 12.345 s]}.
+ * Collecting the summary from the stream does not depend on how much of the output is retained.
+ *
+ * @author Mark Paluch
+ */
+class ReactorSummary implements Consumer<String> {
+
+	private static final Pattern HEADER = Pattern.compile("Reactor Summary");
+	private static final Pattern ENTRY = Pattern
+			.compile("^(?:\\[INFO\\] )?(.+?) \\.* ?(SUCCESS|FAILURE|SKIPPED)(?: \\[ *([\\d.,:]+) (s|min|h)\\])?\\s*$");
+
+	private final List<Entry> entries = new ArrayList<>();
+	private boolean inSummary;
+
+	@Override
+	public synchronized void accept(String line) {
+
+		if (HEADER.matcher(line).find()) {
+
+			entries.clear();
+			inSummary = true;
+
+			return;
+		}
+
+		if (!inSummary) {
+			return;
+		}
+
+		Matcher matcher = ENTRY.matcher(line);
+
+		if (matcher.find()) {
+			entries.add(new Entry(matcher.group(1).trim(), Status.valueOf(matcher.group(2)),
+					parseDuration(matcher.group(3), matcher.group(4))));
+		} else if (!entries.isEmpty()) {
+			inSummary = false;
+		}
+	}
+
+	/**
+	 * Returns the reactor modules listed in the summary in reactor order, empty if Maven did not print a summary, e.g.
+	 * for single-module builds or because the project model could not be built.
+	 *
+	 * @return
+	 */
+	synchronized List<Entry> getEntries() {
+		return List.copyOf(entries);
+	}
+
+	static Duration parseDuration(@Nullable String value, @Nullable String unit) {
+
+		if (value == null || unit == null) {
+			return Duration.ZERO;
+		}
+
+		String normalized = value.replace(',', '.');
+
+		return switch (unit) {
+			case "s" -> Duration.ofMillis((long) (Double.parseDouble(normalized) * 1000));
+			case "min" -> {
+				String[] parts = normalized.split(":");
+				yield Duration.ofMinutes(Long.parseLong(parts[0]))
+						.plusMillis((long) (Double.parseDouble(parts[1]) * 1000));
+			}
+			default -> {
+				String[] parts = normalized.split(":");
+				yield Duration.ofHours(Long.parseLong(parts[0])).plusMinutes(Long.parseLong(parts[1]));
+			}
+		};
+	}
+
+	/**
+	 * Outcome of a reactor module.
+	 */
+	enum Status {
+		SUCCESS, FAILURE, SKIPPED;
+	}
+
+	/**
+	 * A reactor module listed in the summary.
+	 */
+	@Value
+	static class Entry {
+
+		String name;
+		Status status;
+		Duration duration;
+	}
+}
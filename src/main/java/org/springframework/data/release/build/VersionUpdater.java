@@ -0,0 +1,315 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.build;
+
+import lombok.Value;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+import org.springframework.data.release.build.Pom.Artifact;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+import org.xmlbeam.XBProjector;
+
+/**
+ * In-process replacement for {@code versions:set} that updates versions across a Maven reactor without forking a
+ * Maven build. The reactor is discovered from the root {@code pom.xml} by following {@code <modules>} declarations
+ * (including the ones declared in profiles). Updating the version of a module also updates all modules inheriting its
+ * version, {@code <parent>} references and dependency, plugin and extension declarations using the previous version.
+ * Only files that have changed are written.
+ *
+ * @author Mark Paluch
+ */
+class VersionUpdater {
+
+	private static final String DEFAULT_PLUGIN_GROUP = "org.apache.maven.plugins";
+
+	private final XBProjector projector;
+	private final File directory;
+
+	/**
+	 * Creates a new {@link VersionUpdater} for the reactor rooted in {@code directory}.
+	 *
+	 * @param projector must not be {@literal null}.
+	 * @param directory must not be {@literal null}.
+	 */
+	VersionUpdater(XBProjector projector, File directory) {
+
+		Assert.notNull(projector, "XBProjector must not be null!");
+		Assert.notNull(directory, "Directory must not be null!");
+
+		this.projector = projector;
+		this.directory = directory;
+	}
+
+	/**
+	 * Updates the version of the root project, equivalent to {@code versions:set -DnewVersion=…}.
+	 *
+	 * @param version the version to set.
+	 * @return the updated files.
+	 */
+	List<File> setProjectVersion(String version) {
+
+		File pom = getPomFile(directory);
+
+		return setVersion(it -> it.getPom().equals(pom), version, "root project");
+	}
+
+	/**
+	 * Updates the version of the module located in {@code path}, equivalent to
+	 * {@code versions:set -DnewVersion=… -DprocessAllModules=true -pl <path>}.
+	 *
+	 * @param path path of the module relative to the reactor root.
+	 * @param version the version to set.
+	 * @return the updated files.
+	 */
+	List<File> setModuleVersion(String path, String version) {
+
+		File pom = getPomFile(new File(directory, path));
+
+		return setVersion(it -> it.getPom().equals(pom), version, "module " + path);
+	}
+
+	/**
+	 * Updates the version of the module with the given coordinates, equivalent to
+	 * {@code versions:set -DnewVersion=… -DgroupId=… -DartifactId=…}.
+	 *
+	 * @param groupId
+	 * @param artifactId
+	 * @param version the version to set.
+	 * @return the updated files.
+	 */
+	List<File> setArtifactVersion(String groupId, String artifactId, String version) {
+		return setVersion(it -> it.getGroupId().equals(groupId) && it.getArtifactId().equals(artifactId), version,
+				groupId + ":" + artifactId);
+	}
+
+	private List<File> setVersion(Predicate<ReactorModule> filter, String version, String description) {
+
+		Assert.hasText(version, "Version must not be empty!");
+
+		Map<String, ReactorModule> reactor = discover();
+		ReactorModule target = reactor.values().stream().filter(filter).findFirst().orElseThrow(
+				() -> new IllegalArgumentException(String.format("Cannot find %s in reactor %s!", description, directory)));
+
+		String previous = target.getVersion();
+		Set<String> updated = getUpdatedModules(reactor, target, previous);
+		List<File> files = new ArrayList<>();
+
+		for (ReactorModule module : reactor.values()) {
+
+			boolean modified = doWithPom(module.getPom(), pom -> {
+
+				boolean changed = false;
+
+				if (updated.contains(module.getId()) && module.isVersionDeclared()) {
+					pom.getArtifact().setVersion(version);
+					changed = true;
+				}
+
+				Artifact parent = pom.getParent();
+
+				if (parent != null && updated.contains(module.getParentId()) && previous.equals(parent.getVersion())) {
+					parent.setVersion(version);
+					changed = true;
+				}
+
+				for (Artifact reference : pom.getArtifactReferences()) {
+
+					if (previous.equals(reference.getVersion()) && updated.contains(getReferenceId(module, reference))) {
+						reference.setVersion(version);
+						changed = true;
+					}
+				}
+
+				return changed;
+			});
+
+			if (modified) {
+				files.add(module.getPom());
+			}
+		}
+
+		return files;
+	}
+
+	/**
+	 * Returns the identifiers of the target module and all modules inheriting its version.
+	 */
+	private static Set<String> getUpdatedModules(Map<String, ReactorModule> reactor, ReactorModule target,
+			String previous) {
+
+		Set<String> updated = new HashSet<>();
+		updated.add(target.getId());
+
+		boolean changed = true;
+
+		while (changed) {
+
+			changed = false;
+
+			for (ReactorModule module : reactor.values()) {
+
+				if (updated.contains(module.getId()) || !updated.contains(module.getParentId())
+						|| !previous.equals(module.getVersion())) {
+					continue;
+				}
+
+				changed |= updated.add(module.getId());
+			}
+		}
+
+		return updated;
+	}
+
+	private static String getReferenceId(ReactorModule module, Artifact reference) {
+
+		String groupId = getText(reference.getRawGroupId());
+
+		if (groupId == null) {
+			groupId = DEFAULT_PLUGIN_GROUP;
+		} else if (groupId.equals("${project.groupId}")) {
+			groupId = module.getGroupId();
+		}
+
+		return groupId + ":" + reference.getArtifactId();
+	}
+
+	/**
+	 * Discovers all modules of the reactor, root project first.
+	 */
+	private Map<String, ReactorModule> discover() {
+
+		Map<String, ReactorModule> modules = new LinkedHashMap<>();
+		Set<File> visited = new HashSet<>();
+
+		discover(new File(directory, MavenBuildSystem.POM_XML), modules, visited);
+
+		return modules;
+	}
+
+	private void discover(File file, Map<String, ReactorModule> modules, Set<File> visited) {
+
+		if (!file.isFile() || !visited.add(file.getAbsoluteFile().toPath().normalize().toFile())) {
+			return;
+		}
+
+		Pom pom = read(file);
+		ReactorModule module = ReactorModule.of(file, pom);
+		modules.put(module.getId(), module);
+
+		for (String path : pom.getModules()) {
+			discover(getPomFile(new File(file.getParentFile(), path.trim())), modules, visited);
+		}
+	}
+
+	private static File getPomFile(File moduleLocation) {
+
+		File file = moduleLocation.isDirectory() ? new File(moduleLocation, MavenBuildSystem.POM_XML) : moduleLocation;
+
+		return file.getAbsoluteFile().toPath().normalize().toFile();
+	}
+
+	private Pom read(File file) {
+
+		try {
+			return projector.io().file(file).read(Pom.class);
+		} catch (IOException e) {
+			throw new IllegalStateException(String.format("Cannot read %s", file), e);
+		}
+	}
+
+	/**
+	 * Applies {@code callback} to the {@link Pom} in {@code file} and writes the file if the callback reports a
+	 * modification.
+	 */
+	private boolean doWithPom(File file, Predicate<Pom> callback) {
+
+		try (InputStream stream = new BufferedInputStream(new FileInputStream(file))) {
+
+			AtomicBoolean modified = new AtomicBoolean();
+			byte[] content = MavenBuildSystem.doWithProjection(projector, stream, Pom.class,
+					pom -> modified.set(callback.test(pom)));
+
+			if (modified.get()) {
+				Files.write(file.toPath(), content);
+			}
+
+			return modified.get();
+		} catch (IOException e) {
+			throw new IllegalStateException(String.format("Cannot update %s", file), e);
+		}
+	}
+
+	@Nullable
+	private static String getText(@Nullable String value) {
+		return StringUtils.hasText(value) ? value.trim() : null;
+	}
+
+	/**
+	 * Coordinates of a module within the reactor.
+	 */
+	@Value
+	static class ReactorModule {
+
+		File pom;
+		String groupId;
+		String artifactId;
+		String version;
+		boolean versionDeclared;
+		@Nullable String parentId;
+
+		static ReactorModule of(File file, Pom pom) {
+
+			Artifact artifact = pom.getArtifact();
+			Artifact parent = pom.getParent();
+
+			String groupId = getText(artifact.getRawGroupId());
+			String version = artifact.getVersion();
+			boolean versionDeclared = StringUtils.hasText(version);
+
+			if (parent != null) {
+				groupId = groupId == null ? getText(parent.getRawGroupId()) : groupId;
+				version = versionDeclared ? version : parent.getVersion();
+			}
+
+			Assert.state(groupId != null && StringUtils.hasText(version),
+					() -> String.format("Cannot determine coordinates of %s", file));
+
+			return new ReactorModule(file.getAbsoluteFile().toPath().normalize().toFile(), groupId,
+					artifact.getArtifactId().trim(), version.trim(), versionDeclared,
+					parent == null ? null : getText(parent.getRawGroupId()) + ":" + parent.getArtifactId().trim());
+		}
+
+		String getId() {
+			return groupId + ":" + artifactId;
+		}
+	}
+}
@@ -25,6 +25,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
+import org.springframework.data.release.build.BuildDurations;
 import org.springframework.data.release.build.MavenProperties;
 import org.springframework.data.release.build.MavenRuntime;
 import org.springframework.data.release.build.MavenRuntimes;
@@ -86,7 +87,8 @@ class JavaToolingConfiguration {
 	}
 
 	@Bean
-	public MavenRuntime mavenRuntime(JavaVersions javaVersions, MavenVersion mavenVersion, MavenProperties properties) {
+	public MavenRuntime mavenRuntime(JavaVersions javaVersions, MavenVersion mavenVersion, MavenProperties properties,
+			BuildDurations durations) {
 
 		logger.log("JavaTooling", "🕵️ Checking presence of Maven %s…", mavenVersion.getExpectedVersion());
 
@@ -105,7 +107,7 @@ class JavaToolingConfiguration {
 
 		logger.log("JavaTooling", "✅ Found Maven %s", mavenInstallation);
 
-		return new MavenRuntime(workspace, logger, mavenInstallation, properties);
+		return new MavenRuntime(workspace, logger, mavenInstallation, properties, durations);
 	}
 
 }
@@ -20,13 +20,19 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.springframework.data.release.CliComponent;
 import org.springframework.data.release.TimedCommand;
 import org.springframework.data.release.build.BuildOperations;
+import org.springframework.data.release.build.Pipeline;
+import org.springframework.data.release.cli.ReleaseJournal.Step;
 import org.springframework.data.release.deployment.DeploymentInformation;
 import org.springframework.data.release.deployment.DeploymentOperations;
 import org.springframework.data.release.deployment.StagingRepository;
@@ -45,6 +51,7 @@ import org.springframework.data.release.utils.Logger;
 import org.springframework.shell.core.annotation.CliCommand;
 import org.springframework.shell.core.annotation.CliOption;
 import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 
 /**
  * @author Oliver Gierke
@@ -61,10 +68,12 @@ class ReleaseCommands extends TimedCommand {
 	@NonNull BuildOperations build;
 	@NonNull IssueTrackerCommands tracker;
 	@NonNull GitHubCommands gitHub;
+	@NonNull ReleaseJournal journal;
 	@NonNull Logger logger;
 
 	/**
-	 * Composite command to prepare a release.
+	 * Composite command to prepare a release. Completed steps are recorded in the {@link ReleaseJournal} and skipped when
+	 * re-running the command.
 	 *
 	 * @param iteration
 	 * @throws Exception
@@ -72,21 +81,23 @@ class ReleaseCommands extends TimedCommand {
 	@CliCommand(value = "prepare-it")
 	public void prepareIt(@CliOption(key = "", mandatory = true) TrainIteration iteration) throws Exception {
 
-		tracker.trackerPrepare(iteration);
+		journal.run(iteration, Step.TRACKER_PREPARED, () -> tracker.trackerPrepare(iteration));
 
-		prepare(iteration);
+		journal.run(iteration, Step.PREPARED, () -> prepare(iteration));
 
-		build.build(iteration);
+		journal.run(iteration, Step.BUILT, () -> build.build(iteration));
 
-		conclude(iteration);
+		tagRelease(iteration);
+		journal.run(iteration, Step.CONCLUDED, () -> concludeVersions(iteration));
 
-		gitHub.push(iteration);
+		journal.run(iteration, Step.PUSHED, () -> gitHub.push(iteration));
 
 		logger.log(iteration, "Preparation completed 🤹‍♀️. Ready to ship 🛳️ binaries 💾!");
 	}
 
 	/**
-	 * Composite command to ship a full release.
+	 * Composite command to ship a full release. Completed steps are recorded in the {@link ReleaseJournal} and skipped
+	 * when re-running the command.
 	 *
 	 * @param iteration
 	 * @throws Exception
@@ -94,23 +105,43 @@ class ReleaseCommands extends TimedCommand {
 	@CliCommand(value = "ship-it")
 	public void shipIt(@CliOption(key = "", mandatory = true) TrainIteration iteration) throws Exception {
 
-		tracker.trackerPrepare(iteration);
+		journal.run(iteration, Step.TRACKER_PREPARED, () -> tracker.trackerPrepare(iteration));
 
-		prepare(iteration);
+		journal.run(iteration, Step.PREPARED, () -> prepare(iteration));
 
-		conclude(iteration);
+		tagRelease(iteration);
+		journal.run(iteration, Step.CONCLUDED, () -> concludeVersions(iteration));
 
-		buildRelease(iteration, null);
+		journal.run(iteration, Step.RELEASED, () -> buildRelease(iteration, null));
 
-		distribute(iteration, null);
+		journal.run(iteration, Step.DISTRIBUTED, () -> distribute(iteration, null));
 
-		gitHub.push(iteration);
+		journal.run(iteration, Step.PUSHED, () -> gitHub.push(iteration));
 
-		tracker.closeIteration(iteration);
+		journal.run(iteration, Step.CLOSED, () -> tracker.closeIteration(iteration));
+	}
+
+	@CliCommand(value = "release journal", help = "Shows the completed steps of the iteration of the given train.")
+	public String showJournal(@CliOption(key = "", mandatory = true) TrainIteration iteration) {
+
+		return journal.getEntries(iteration).entrySet().stream() //
+				.map(it -> String.format("%-30s %s", it.getKey(), it.getValue())) //
+				.collect(Collectors.joining(System.lineSeparator()));
+	}
+
+	@CliCommand(value = "release journal reset",
+			help = "Discards the completed steps of the iteration of the given train so that composite commands run all steps again.")
+	public void resetJournal(@CliOption(key = "", mandatory = true) TrainIteration iteration) {
+
+		journal.reset(iteration);
+
+		logger.log(iteration, "Release journal reset.");
 	}
 
 	/**
-	 * Prepares the release of the given iteration of the given train.
+	 * Prepares the release of the given iteration of the given train. All modules pass the pre-release checks before any
+	 * module gets changed. Descriptor updates and version preparation are recorded per module in the
+	 * {@link ReleaseJournal} so that a re-run continues with the modules that did not complete them.
 	 *
 	 * @param iteration
 	 * @throws Exception
@@ -118,21 +149,42 @@ class ReleaseCommands extends TimedCommand {
 	@CliCommand(value = "release prepare", help = "Prepares the release of the iteration of the given train.")
 	public void prepare(@CliOption(key = "", mandatory = true) TrainIteration iteration) throws Exception {
 
-		git.prepare(iteration);
-
-		build.runPreReleaseChecks(iteration);
-
-		misc.updateResources(iteration);
-		build.updateProjectDescriptors(iteration, Phase.PREPARE);
-		git.commit(iteration, "Prepare %s.");
-
-		build.prepareVersions(iteration, Phase.PREPARE);
-		git.commit(iteration, "Release version %s.");
+		// Resetting the repository would discard the commits of completed steps
+		Pipeline<ModuleIteration> checks = Pipeline.<ModuleIteration> create() //
+				.then("Prepare repository", journal.unlessCompleted(Step.DESCRIPTORS_UPDATED, git::prepare)) //
+				.thenBuild("Pre-release checks",
+						journal.unlessCompleted(Step.VERSION_PREPARED, build::runPreReleaseChecks));
+
+		// Descriptors refer to upstream modules and preparing the version of Build installs the parent POM that
+		// downstream modules resolve
+		Pipeline<ModuleIteration> preparation = Pipeline.<ModuleIteration> create() //
+				.then("Update resources", journal.unlessCompleted(Step.DESCRIPTORS_UPDATED, misc::updateResources)) //
+				.thenAfterUpstream("Update project descriptors", journal.unlessCompleted(Step.DESCRIPTORS_UPDATED,
+						it -> build.updateProjectDescriptors(it, Phase.PREPARE))) //
+				.then("Commit descriptors",
+						journal.completing(Step.DESCRIPTORS_UPDATED, it -> git.commit(it, iteration, "Prepare %s."))) //
+				.thenBuildAfterUpstream("Prepare version",
+						journal.unlessCompleted(Step.VERSION_PREPARED, it -> build.prepareVersion(it, Phase.PREPARE))) //
+				.then("Commit version", journal.completing(Step.VERSION_PREPARED,
+						it -> git.commit(it, iteration, "Release version %s.")));
+
+		// Run all checks before changing any module
+		build.doWithPipeline(iteration, checks);
+		build.doWithPipeline(iteration, preparation);
 	}
 
+	/**
+	 * Builds and deploys the release. When releasing all modules, deployments and promotions are recorded per module in
+	 * the {@link ReleaseJournal} so that a failed promotion does not build and deploy the release again and already
+	 * promoted modules are not promoted again.
+	 *
+	 * @param iteration
+	 * @param projectName
+	 * @throws Exception
+	 */
 	@CliCommand(value = "release build")
 	public void buildRelease(@CliOption(key = "", mandatory = true) TrainIteration iteration, //
-			@CliOption(key = "project", mandatory = false) String projectName) {
+			@CliOption(key = "project", mandatory = false) String projectName) throws Exception {
 
 		git.checkout(iteration);
 
@@ -146,10 +198,61 @@ class ReleaseCommands extends TimedCommand {
 			ModuleIteration module = iteration.getModule(project);
 
 			DeploymentInformation information = build.performRelease(module);
-			deployment.promote(information);
+			deployment.promote(List.of(information));
 
 		} else {
-			build.performRelease(iteration).forEach(deployment::promote);
+
+			List<DeploymentInformation> deployments = getRecordedDeployments(iteration);
+
+			if (deployments.isEmpty()) {
+
+				deployments = build.performRelease(iteration,
+						it -> journal.complete(it.getModule(), Step.DEPLOYED, it.getBuildNumber()));
+			} else {
+				logger.log(iteration, "⏭️ Skipping release build (all modules already deployed)");
+			}
+
+			deployment.promote(deployments,
+					information -> journal.run(information.getModule(), Step.PROMOTED, () -> deployment.promote(information)));
+		}
+	}
+
+	/**
+	 * Returns the deployments recorded in the {@link ReleaseJournal} if all modules of the given {@link TrainIteration}
+	 * were deployed by a previous run or an empty list if the release needs to be built and deployed.
+	 *
+	 * @param iteration
+	 * @return
+	 */
+	private List<DeploymentInformation> getRecordedDeployments(TrainIteration iteration) {
+
+		List<DeploymentInformation> deployments = new ArrayList<>();
+
+		for (ModuleIteration module : iteration) {
+
+			Optional<String> buildNumber = journal.getDetail(module, Step.DEPLOYED);
+
+			if (buildNumber.isEmpty()) {
+				return List.of();
+			}
+
+			deployments.add(deployment.getDeploymentInformation(module, buildNumber.get()));
+		}
+
+		return deployments;
+	}
+
+	/**
+	 * Tags the release commits of all modules of the given {@link TrainIteration} recording each module in the
+	 * {@link ReleaseJournal}.
+	 *
+	 * @param iteration
+	 * @throws Exception
+	 */
+	private void tagRelease(TrainIteration iteration) throws Exception {
+
+		for (ModuleIteration module : iteration) {
+			journal.run(module, Step.TAGGED, () -> git.tagRelease(module));
 		}
 	}
 
@@ -181,8 +284,11 @@ class ReleaseCommands extends TimedCommand {
 
 	@CliCommand(value = "release central validate")
 	public void validateDeployment(@CliOption(key = "", mandatory = true) TrainIteration iteration,
-			@CliOption(key = "deploymentId", mandatory = true) String deploymentId) {
-		build.validateDeployment(iteration, StagingRepository.of(deploymentId));
+			@CliOption(key = "deploymentId", mandatory = true,
+					help = "Comma-separated deployment identifiers") String deploymentId) {
+
+		build.validateDeployment(iteration, Arrays.stream(StringUtils.commaDelimitedListToStringArray(deploymentId))
+				.map(String::trim).map(StagingRepository::of).toList());
 	}
 
 	/**
@@ -199,6 +305,11 @@ class ReleaseCommands extends TimedCommand {
 		// Tag release
 		git.tagRelease(iteration);
 
+		concludeVersions(iteration);
+	}
+
+	private void concludeVersions(TrainIteration iteration) throws Exception {
+
 		if (iteration.getTrain().isAlwaysUseBranch()) {
 			setupMaintenanceVersions(iteration, BranchMapping.NONE, true);
 		} else {
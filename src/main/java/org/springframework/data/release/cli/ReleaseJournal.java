@@ -0,0 +1,318 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.cli;
+
+import lombok.RequiredArgsConstructor;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+import org.springframework.data.release.io.Workspace;
+import org.springframework.data.release.model.ModuleIteration;
+import org.springframework.data.release.model.TrainIteration;
+import org.springframework.data.release.utils.Logger;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+/**
+ * Journal of completed release steps per {@link TrainIteration} and {@link ModuleIteration}. Composite commands record
+ * each step once it completes so that a re-run after a failure skips work that has already been done. The journal is
+ * kept inside the {@link Workspace#getWorkingDirectory() working directory} as completed steps refer to local
+ * repository state (commits, tags) that is lost when the workspace gets cleaned up.
+ *
+ * @author Mark Paluch
+ */
+@Component
+@RequiredArgsConstructor
+class ReleaseJournal {
+
+	private static final String DETAIL_SUFFIX = ".detail";
+
+	private final Workspace workspace;
+	private final Logger logger;
+
+	/**
+	 * Runs the given {@link Action} unless the {@link Step} was already completed for the given {@link TrainIteration}
+	 * and records its completion.
+	 *
+	 * @param iteration must not be {@literal null}.
+	 * @param step must not be {@literal null}.
+	 * @param action must not be {@literal null}.
+	 * @throws Exception
+	 */
+	public void run(TrainIteration iteration, Step step, Action action) throws Exception {
+
+		Assert.notNull(step, "Step must not be null!");
+
+		run(iteration, step.getKey(), action);
+	}
+
+	/**
+	 * Runs the given {@link Action} unless the {@link Step} was already completed for the given {@link ModuleIteration}
+	 * and records its completion.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @param step must not be {@literal null}.
+	 * @param action must not be {@literal null}.
+	 * @throws Exception
+	 */
+	public void run(ModuleIteration module, Step step, Action action) throws Exception {
+
+		Assert.notNull(module, "Module iteration must not be null!");
+		Assert.notNull(step, "Step must not be null!");
+
+		run(module.getTrainIteration(), getKey(module, step), action);
+	}
+
+	/**
+	 * Returns a {@link Consumer} that runs the given action for a {@link ModuleIteration} unless the {@link Step} was
+	 * already completed for the module. Used for pipeline stages that precede the stage completing the step.
+	 *
+	 * @param step must not be {@literal null}.
+	 * @param action must not be {@literal null}.
+	 * @return
+	 * @see #completing(Step, Consumer)
+	 */
+	public Consumer<ModuleIteration> unlessCompleted(Step step, Consumer<ModuleIteration> action) {
+
+		Assert.notNull(step, "Step must not be null!");
+		Assert.notNull(action, "Action must not be null!");
+
+		return module -> {
+
+			if (!isCompleted(module, step)) {
+				action.accept(module);
+			}
+		};
+	}
+
+	/**
+	 * Returns a {@link Consumer} that runs the given action for a {@link ModuleIteration} unless the {@link Step} was
+	 * already completed for the module and records the completion of the step once the action succeeds.
+	 *
+	 * @param step must not be {@literal null}.
+	 * @param action must not be {@literal null}.
+	 * @return
+	 */
+	public Consumer<ModuleIteration> completing(Step step, Consumer<ModuleIteration> action) {
+
+		Assert.notNull(step, "Step must not be null!");
+		Assert.notNull(action, "Action must not be null!");
+
+		return module -> {
+
+			String key = getKey(module, step);
+
+			if (isCompleted(module, step)) {
+				logger.log(module, "⏭️ Skipping %s (already completed)", key);
+				return;
+			}
+
+			action.accept(module);
+
+			complete(module.getTrainIteration(), key);
+		};
+	}
+
+	/**
+	 * Records the completion of the {@link Step} for the given {@link ModuleIteration} along with a detail required to
+	 * resume from the step, such as the build number of a deployment.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @param step must not be {@literal null}.
+	 * @param detail must not be {@literal null}.
+	 * @see #getDetail(ModuleIteration, Step)
+	 */
+	public synchronized void complete(ModuleIteration module, Step step, String detail) {
+
+		Assert.notNull(module, "Module iteration must not be null!");
+		Assert.notNull(step, "Step must not be null!");
+		Assert.notNull(detail, "Detail must not be null!");
+
+		String key = getKey(module, step);
+
+		complete(module.getTrainIteration(), Map.of(key, Instant.now().toString(), key + DETAIL_SUFFIX, detail));
+	}
+
+	/**
+	 * Returns the detail recorded along with the completion of the {@link Step} for the given {@link ModuleIteration}.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @param step must not be {@literal null}.
+	 * @return
+	 */
+	public Optional<String> getDetail(ModuleIteration module, Step step) {
+
+		Assert.notNull(module, "Module iteration must not be null!");
+		Assert.notNull(step, "Step must not be null!");
+
+		return Optional.ofNullable(getEntries(module.getTrainIteration()).get(getKey(module, step) + DETAIL_SUFFIX));
+	}
+
+	/**
+	 * Returns whether the {@link Step} was completed for the given {@link TrainIteration}.
+	 *
+	 * @param iteration must not be {@literal null}.
+	 * @param step must not be {@literal null}.
+	 * @return
+	 */
+	public boolean isCompleted(TrainIteration iteration, Step step) {
+
+		Assert.notNull(step, "Step must not be null!");
+
+		return getEntries(iteration).containsKey(step.getKey());
+	}
+
+	/**
+	 * Returns whether the {@link Step} was completed for the given {@link ModuleIteration}.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @param step must not be {@literal null}.
+	 * @return
+	 */
+	public boolean isCompleted(ModuleIteration module, Step step) {
+
+		Assert.notNull(module, "Module iteration must not be null!");
+		Assert.notNull(step, "Step must not be null!");
+
+		return getEntries(module.getTrainIteration()).containsKey(getKey(module, step));
+	}
+
+	/**
+	 * Returns the completed steps along with their completion time for the given {@link TrainIteration}.
+	 *
+	 * @param iteration must not be {@literal null}.
+	 * @return
+	 */
+	public synchronized Map<String, String> getEntries(TrainIteration iteration) {
+
+		Assert.notNull(iteration, "Train iteration must not be null!");
+
+		File file = getFile(iteration);
+		Map<String, String> entries = new TreeMap<>();
+
+		if (!file.exists()) {
+			return entries;
+		}
+
+		Properties properties = new Properties();
+
+		try (InputStream is = new FileInputStream(file)) {
+			properties.load(is);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		properties.forEach((key, value) -> entries.put(key.toString(), value.toString()));
+
+		return entries;
+	}
+
+	/**
+	 * Removes all recorded steps for the given {@link TrainIteration}.
+	 *
+	 * @param iteration must not be {@literal null}.
+	 */
+	public synchronized void reset(TrainIteration iteration) {
+
+		Assert.notNull(iteration, "Train iteration must not be null!");
+
+		File file = getFile(iteration);
+
+		if (file.exists() && !file.delete()) {
+			throw new IllegalStateException(String.format("Cannot delete release journal %s", file));
+		}
+	}
+
+	private void run(TrainIteration iteration, String key, Action action) throws Exception {
+
+		Assert.notNull(iteration, "Train iteration must not be null!");
+		Assert.notNull(action, "Action must not be null!");
+
+		if (getEntries(iteration).containsKey(key)) {
+			logger.log(iteration, "⏭️ Skipping %s (already completed)", key);
+			return;
+		}
+
+		action.run();
+
+		complete(iteration, key);
+	}
+
+	private void complete(TrainIteration iteration, String key) {
+		complete(iteration, Map.of(key, Instant.now().toString()));
+	}
+
+	private synchronized void complete(TrainIteration iteration, Map<String, String> completed) {
+
+		Map<String, String> entries = getEntries(iteration);
+		entries.putAll(completed);
+
+		Properties properties = new Properties();
+		properties.putAll(entries);
+
+		File file = getFile(iteration);
+		file.getParentFile().mkdirs();
+
+		try (OutputStream os = new FileOutputStream(file)) {
+			properties.store(os, String.format("Completed release steps for %s", iteration));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private File getFile(TrainIteration iteration) {
+		return new File(workspace.getWorkingDirectory(),
+				String.format("journal/%s.properties", iteration.getReleaseTrainNameAndVersion()));
+	}
+
+	private static String getKey(ModuleIteration module, Step step) {
+		return module.getProject().getName() + "." + step.getKey();
+	}
+
+	/**
+	 * Release steps recorded in the journal. {@link #DESCRIPTORS_UPDATED}, {@link #VERSION_PREPARED}, {@link #TAGGED},
+	 * {@link #DEPLOYED} and {@link #PROMOTED} are recorded per module, all other steps per train iteration.
+	 */
+	enum Step {
+
+		TRACKER_PREPARED, PREPARED, DESCRIPTORS_UPDATED, VERSION_PREPARED, BUILT, TAGGED, CONCLUDED, RELEASED, DEPLOYED,
+		PROMOTED, DISTRIBUTED, PUSHED, CLOSED;
+
+		String getKey() {
+			return name().toLowerCase().replace('_', '-');
+		}
+	}
+
+	/**
+	 * A step action.
+	 */
+	interface Action {
+
+		void run() throws Exception;
+	}
+}
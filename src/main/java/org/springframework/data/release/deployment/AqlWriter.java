@@ -26,6 +26,7 @@ import org.springframework.data.release.build.MavenArtifact;
 import org.springframework.data.release.model.ArtifactCoordinate;
 import org.springframework.data.release.model.ArtifactVersion;
 import org.springframework.data.release.model.ModuleIteration;
+import org.springframework.data.release.model.TrainIteration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -49,33 +50,69 @@ public class AqlWriter {
 	 * @param module
 	 * @return
 	 */
-	@SneakyThrows
 	public String createFindAqlStatement(ModuleIteration module) {
+		return createFindAqlStatement(targetServer.getTargetRepository(), getArtifactPaths(module));
+	}
+
+	/**
+	 * Create an AQL statement to find the artifacts of all modules of the {@link TrainIteration} that are already
+	 * deployed to the staging repository including their SHA-256 checksum and the build number they were deployed with.
+	 *
+	 * @param train
+	 * @return
+	 */
+	public String createChecksumAqlStatement(TrainIteration train) {
+
+		Set<String> paths = new LinkedHashSet<>();
+		train.forEach(module -> paths.addAll(getArtifactPaths(module)));
+
+		return createFindAqlStatement(targetServer.getStagingRepository(), paths)
+				+ ".include(\"repo\", \"path\", \"name\", \"sha256\", \"@build.number\")";
+	}
+
+	/**
+	 * Returns the repository paths ({@code groupId/artifactId/version}) of all artifacts associated with
+	 * {@link ModuleIteration}.
+	 *
+	 * @param module
+	 * @return
+	 */
+	static Set<String> getArtifactPaths(ModuleIteration module) {
 
 		MavenArtifact mavenArtifact = new MavenArtifact(module);
-		Set<Map<String, Map<String, String>>> matches = new LinkedHashSet<>();
+		Set<String> paths = new LinkedHashSet<>();
 
-		matches.add(createAqlFilter(mavenArtifact.toArtifactCoordinate(), module));
+		paths.add(getArtifactPath(mavenArtifact.toArtifactCoordinate(), module));
 
 		module.getProject().doWithAdditionalArtifacts(artifactCoordinate -> {
-			matches.add(createAqlFilter(artifactCoordinate, module));
+			paths.add(getArtifactPath(artifactCoordinate, module));
 		});
 
-		Map<String, String> repo = Collections.singletonMap("repo", targetServer.getTargetRepository());
+		return paths;
+	}
+
+	@SneakyThrows
+	private String createFindAqlStatement(String repository, Set<String> paths) {
+
+		Set<Map<String, Map<String, String>>> matches = new LinkedHashSet<>();
+
+		for (String path : paths) {
+			matches.add(Collections.singletonMap("path", Collections.singletonMap("$match", path)));
+		}
+
+		Map<String, String> repo = Collections.singletonMap("repo", repository);
 		Map<String, Object> orMatches = Collections.singletonMap("$or", matches);
 
 		return String.format("items.find(%s, %s)", objectMapper.writeValueAsString(repo),
 				objectMapper.writeValueAsString(orMatches));
 	}
 
-	private static Map<String, Map<String, String>> createAqlFilter(ArtifactCoordinate coordinate,
-			ModuleIteration module) {
+	private static String getArtifactPath(ArtifactCoordinate coordinate, ModuleIteration module) {
 
 		ArtifactVersion version = ArtifactVersion.of(module);
 		String groupIdPath = coordinate.getGroupId();
-		String modulePath = String.format("%s/%s/%s", groupIdPath.replace('.', '/'), coordinate.getArtifactId(), version);
 
-		return Collections.singletonMap("path", Collections.singletonMap("$match", modulePath));
+		return String.format("%s/%s/%s", groupIdPath.replace('.', '/'), coordinate.getArtifactId(), version);
 	}
 
 }
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.deployment;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.bouncycastle.bcpg.ArmoredOutputStream;
+import org.bouncycastle.bcpg.HashAlgorithmTags;
+import org.bouncycastle.openpgp.PGPException;
+import org.bouncycastle.openpgp.PGPPrivateKey;
+import org.bouncycastle.openpgp.PGPSecretKey;
+import org.bouncycastle.openpgp.PGPSecretKeyRing;
+import org.bouncycastle.openpgp.PGPSecretKeyRingCollection;
+import org.bouncycastle.openpgp.PGPSignature;
+import org.bouncycastle.openpgp.PGPSignatureGenerator;
+import org.bouncycastle.openpgp.PGPUtil;
+import org.bouncycastle.openpgp.operator.bc.BcKeyFingerprintCalculator;
+import org.bouncycastle.openpgp.operator.bc.BcPBESecretKeyDecryptorBuilder;
+import org.bouncycastle.openpgp.operator.bc.BcPGPContentSignerBuilder;
+import org.bouncycastle.openpgp.operator.bc.BcPGPDigestCalculatorProvider;
+import org.springframework.data.release.model.Gpg;
+import org.springframework.util.Assert;
+
+/**
+ * Signs artifacts with a detached ASCII-armored signature ({@code .asc}) and creates {@code .md5}, {@code .sha1},
+ * {@code .sha256} and {@code .sha512} checksum files using Bouncy Castle instead of forking {@code gpg} for each
+ * artifact. The secret key is unlocked once when creating the {@link ArtifactSigner} and the signer can be used
+ * concurrently afterwards.
+ *
+ * @author Mark Paluch
+ */
+class ArtifactSigner {
+
+	static final Map<String, String> CHECKSUMS;
+
+	static {
+
+		Map<String, String> checksums = new LinkedHashMap<>();
+		checksums.put("md5", "MD5");
+		checksums.put("sha1", "SHA-1");
+		checksums.put("sha256", "SHA-256");
+		checksums.put("sha512", "SHA-512");
+
+		CHECKSUMS = checksums;
+	}
+
+	private final PGPSecretKey key;
+	private final PGPPrivateKey privateKey;
+
+	private ArtifactSigner(PGPSecretKey key, PGPPrivateKey privateKey) {
+		this.key = key;
+		this.privateKey = privateKey;
+	}
+
+	/**
+	 * Creates a new {@link ArtifactSigner} by unlocking the key identified by {@link Gpg#getKeyname()} from
+	 * {@link Gpg#getSecretKeyring()}.
+	 *
+	 * @param gpg must not be {@literal null}.
+	 * @return
+	 */
+	static ArtifactSigner of(Gpg gpg) {
+
+		Assert.notNull(gpg, "Gpg must not be null!");
+		Assert.isTrue(gpg.isGpgAvailable() && gpg.hasSecretKeyring(),
+				"GPG configuration must define keyname, passphrase and secret keyring!");
+
+		File keyring = new File(gpg.getSecretKeyring());
+
+		try (InputStream stream = PGPUtil.getDecoderStream(Files.newInputStream(keyring.toPath()))) {
+
+			PGPSecretKey key = findKey(new PGPSecretKeyRingCollection(stream, new BcKeyFingerprintCalculator()),
+					gpg.getKeyname());
+
+			Assert.state(key != null,
+					() -> String.format("Cannot find signing key '%s' in %s!", gpg.getKeyname(), keyring));
+
+			PGPPrivateKey privateKey = key.extractPrivateKey(new BcPBESecretKeyDecryptorBuilder(
+					new BcPGPDigestCalculatorProvider()).build(gpg.getPassphrase().toCharArray()));
+
+			return new ArtifactSigner(key, privateKey);
+		} catch (IOException | PGPException e) {
+			throw new IllegalStateException(String.format("Cannot unlock signing key '%s' from %s: %s",
+					gpg.getKeyname(), keyring, e.getMessage()), e);
+		}
+	}
+
+	/**
+	 * Returns whether {@code file} is an artifact that requires a signature and checksums. Signatures, checksums, Maven
+	 * metadata and hidden files are excluded.
+	 *
+	 * @param file must not be {@literal null}.
+	 * @return
+	 */
+	static boolean isArtifact(Path file) {
+
+		String name = file.getFileName().toString();
+
+		if (name.startsWith(".") || name.contains("maven-metadata.") || name.endsWith(".asc")) {
+			return false;
+		}
+
+		return CHECKSUMS.keySet().stream().noneMatch(it -> name.endsWith("." + it));
+	}
+
+	/**
+	 * Signs and checksums {@code artifact} by reading it once and writing signature and checksum files next to it.
+	 *
+	 * @param artifact must not be {@literal null}.
+	 * @return the created files.
+	 */
+	List<File> sign(Path artifact) {
+
+		Assert.notNull(artifact, "Artifact must not be null!");
+
+		try {
+
+			PGPSignatureGenerator generator = new PGPSignatureGenerator(
+					new BcPGPContentSignerBuilder(key.getPublicKey().getAlgorithm(), HashAlgorithmTags.SHA512),
+					key.getPublicKey());
+			generator.init(PGPSignature.BINARY_DOCUMENT, privateKey);
+
+			Map<String, MessageDigest> digests = new LinkedHashMap<>();
+
+			for (Map.Entry<String, String> entry : CHECKSUMS.entrySet()) {
+				digests.put(entry.getKey(), MessageDigest.getInstance(entry.getValue()));
+			}
+
+			try (InputStream stream = Files.newInputStream(artifact)) {
+
+				byte[] buffer = new byte[64 * 1024];
+				int read;
+
+				while ((read = stream.read(buffer)) != -1) {
+
+					generator.update(buffer, 0, read);
+
+					for (MessageDigest digest : digests.values()) {
+						digest.update(buffer, 0, read);
+					}
+				}
+			}
+
+			List<File> files = new ArrayList<>();
+			Path signature = artifact.resolveSibling(artifact.getFileName() + ".asc");
+
+			try (OutputStream os = new ArmoredOutputStream(Files.newOutputStream(signature))) {
+				generator.generate().encode(os);
+			}
+
+			files.add(signature.toFile());
+
+			for (Map.Entry<String, MessageDigest> entry : digests.entrySet()) {
+
+				Path checksum = artifact.resolveSibling(artifact.getFileName() + "." + entry.getKey());
+				Files.writeString(checksum, HexFormat.of().formatHex(entry.getValue().digest()), StandardCharsets.US_ASCII);
+				files.add(checksum.toFile());
+			}
+
+			return files;
+		} catch (IOException | PGPException | NoSuchAlgorithmException e) {
+			throw new IllegalStateException(String.format("Cannot sign %s: %s", artifact, e.getMessage()), e);
+		}
+	}
+
+	/**
+	 * Returns the key matching {@code keyname}. Hexadecimal key names are matched against the key fingerprint suffix
+	 * (short and long key ids, fingerprints) and other key names against the user ids of the primary key.
+	 */
+	private static PGPSecretKey findKey(PGPSecretKeyRingCollection rings, String keyname) {
+
+		String candidate = keyname.trim();
+		boolean hex = candidate.matches("(0x)?[0-9a-fA-F]{8,40}");
+		String keyId = candidate.replaceFirst("^0x", "").toUpperCase(Locale.ROOT);
+
+		for (Iterator<PGPSecretKeyRing> iterator = rings.getKeyRings(); iterator.hasNext();) {
+
+			PGPSecretKeyRing ring = iterator.next();
+
+			for (PGPSecretKey key : ring) {
+
+				if (!key.isSigningKey()) {
+					continue;
+				}
+
+				if (hex && HexFormat.of().withUpperCase().formatHex(key.getPublicKey().getFingerprint()).endsWith(keyId)) {
+					return key;
+				}
+
+				if (key.isMasterKey()) {
+
+					for (Iterator<String> userIds = key.getUserIDs(); userIds.hasNext();) {
+
+						if (userIds.next().contains(candidate)) {
+							return key;
+						}
+					}
+				}
+			}
+		}
+
+		return null;
+	}
+}
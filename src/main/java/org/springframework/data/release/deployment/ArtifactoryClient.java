@@ -15,14 +15,17 @@
  */
 package org.springframework.data.release.deployment;
 
+import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.Value;
 
 import java.io.IOException;
 import java.net.URI;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
+import java.util.regex.Pattern;
 
 import org.springframework.data.release.deployment.DeploymentProperties.Authentication;
 import org.springframework.data.release.model.ModuleIteration;
@@ -31,6 +34,7 @@ import org.springframework.data.release.model.TrainIteration;
 import org.springframework.data.release.utils.Logger;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.Assert;
@@ -38,6 +42,7 @@ import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestOperations;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
@@ -51,15 +56,19 @@ class ArtifactoryClient {
 
 	private final static String CREATE_RELEASE_BUNDLE_PATH = "/lifecycle/api/v2/release_bundle?project=spring";
 	private final static String DISTRIBUTE_RELEASE_BUNDLE_PATH = "/lifecycle/api/v2/distribution/distribute/{releaseBundle}/{version}?project=spring";
+	private final static String AQL_SEARCH_PATH = "/api/search/aql";
+	private final static Pattern ALREADY_COMPLETED = Pattern.compile("(?i)already (promoted|exists)");
 
 	private final Logger logger;
 	private final DeploymentProperties properties;
 	private final RestOperations operations;
 
 	/**
-	 * Triggers the promotion of the artifacts identified by the given {@link DeploymentInformation}.
+	 * Triggers the promotion of the artifacts identified by the given {@link DeploymentInformation}. A build that was
+	 * already promoted by a previous attempt is considered promoted successfully.
 	 *
 	 * @param information must not be {@literal null}.
+	 * @throws HttpStatusCodeException if the promotion failed.
 	 */
 	public void promote(DeploymentInformation information) {
 
@@ -73,13 +82,19 @@ class ArtifactoryClient {
 		logger.log(module, "Promoting %s %s from %s to %s.", information.getBuildName(), information.getBuildNumber(),
 				authentication.getStagingRepository(), authentication.getTargetRepository());
 
+		PromotionRequest request = new PromotionRequest(information.getTargetRepository(),
+				authentication.getStagingRepository());
+
 		try {
-			PromotionRequest request = new PromotionRequest(information.getTargetRepository(),
-					authentication.getStagingRepository());
 			operations.postForEntity(uri, request, String.class);
-
 		} catch (HttpClientErrorException o_O) {
-			handle(message -> logger.warn(information.getModule(), message), "Promotion failed!", o_O);
+
+			if (!isAlreadyCompleted(o_O)) {
+				throw o_O;
+			}
+
+			logger.log(module, "%s %s already promoted to %s.", information.getBuildName(), information.getBuildNumber(),
+					authentication.getTargetRepository());
 		}
 	}
 
@@ -117,10 +132,42 @@ class ArtifactoryClient {
 		}
 	}
 
+	/**
+	 * Returns whether Artifactory has build-info for the build identified by the given {@link DeploymentInformation}.
+	 * The build-info is published at the end of a deployment so that its presence indicates that the deployment
+	 * completed.
+	 *
+	 * @param information must not be {@literal null}.
+	 * @return
+	 * @throws HttpStatusCodeException if the build-info cannot be looked up.
+	 */
+	public boolean hasBuildInfo(DeploymentInformation information) {
+
+		Assert.notNull(information, "DeploymentInformation must not be null!");
+
+		URI uri = properties.getAuthentication(information.getModule()).getServer().getBuildInfoResource(information);
+
+		try {
+			operations.getForEntity(uri, String.class);
+			return true;
+		} catch (HttpClientErrorException.NotFound o_O) {
+			return false;
+		}
+	}
+
 	public void deleteArtifacts(DeploymentInformation information) {
 		operations.delete(information.getDeleteBuildResource());
 	}
 
+	/**
+	 * Creates an Artifactory release bundle. A release bundle that already exists, e.g. because it was created by a
+	 * previous attempt, is considered created successfully.
+	 *
+	 * @param context logging context.
+	 * @param releaseBundle must not be {@literal null}.
+	 * @param authentication must not be {@literal null}.
+	 * @throws HttpStatusCodeException if the release bundle cannot be created.
+	 */
 	public void createRelease(String context, ArtifactoryReleaseBundle releaseBundle,
 			Authentication authentication) {
 
@@ -129,20 +176,25 @@ class ArtifactoryClient {
 		headers.add("X-JFrog-Signing-Key-Name", "packagesKey");
 		HttpEntity<ArtifactoryReleaseBundle> entity = new HttpEntity<>(releaseBundle, headers);
 
+		ResponseEntity<Map> response;
+
 		try {
-			ResponseEntity<Map> response = operations
-					.postForEntity(authentication.getServer().getUri() + CREATE_RELEASE_BUNDLE_PATH, entity, Map.class);
+			response = operations.postForEntity(authentication.getServer().getUri() + CREATE_RELEASE_BUNDLE_PATH, entity,
+					Map.class);
+		} catch (HttpClientErrorException o_O) {
 
-			if (!response.getStatusCode().is2xxSuccessful()) {
-				logger.warn(context, "Artifactory request failed: %d %s", response.getStatusCode().value(),
-						response.getBody());
-			} else {
-				logger.log(context, "Artifactory request succeeded: %s %s", releaseBundle.getName(),
-						releaseBundle.getVersion());
+			if (!isAlreadyCompleted(o_O)) {
+				throw o_O;
 			}
-		} catch (HttpStatusCodeException e) {
-			logger.warn(context, "Artifactory request failed: %d %s", e.getStatusCode().value(),
-					e.getResponseBodyAsString());
+
+			logger.log(context, "Release bundle %s %s already exists.", releaseBundle.getName(), releaseBundle.getVersion());
+			return;
+		}
+
+		if (!response.getStatusCode().is2xxSuccessful()) {
+			logger.warn(context, "Artifactory request failed: %d %s", response.getStatusCode().value(), response.getBody());
+		} else {
+			logger.log(context, "Artifactory request succeeded: %s %s", releaseBundle.getName(), releaseBundle.getVersion());
 		}
 	}
 
@@ -190,8 +242,72 @@ class ArtifactoryClient {
 		}
 	}
 
+	/**
+	 * Runs the given AQL statement to find artifacts including their SHA-256 checksum and build number.
+	 *
+	 * @param authentication must not be {@literal null}.
+	 * @param aql must not be {@literal null} or empty.
+	 * @return the found artifacts.
+	 * @throws HttpStatusCodeException if the search failed.
+	 */
+	public DeployedArtifacts findArtifacts(Authentication authentication, String aql) {
+
+		Assert.notNull(authentication, "Authentication must not be null!");
+		Assert.hasText(aql, "AQL statement must not be empty!");
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.TEXT_PLAIN);
+
+		AqlResult result = operations.postForObject(authentication.getServer().getUri() + AQL_SEARCH_PATH,
+				new HttpEntity<>(aql, headers), AqlResult.class);
+
+		if (result == null || result.getResults() == null) {
+			return DeployedArtifacts.NONE;
+		}
+
+		return new DeployedArtifacts(result.getResults().stream().map(AqlItem::toArtifact).toList());
+	}
+
+	/**
+	 * Returns whether the request failed because a previous attempt completed it already, i.e. Artifactory responded with
+	 * {@code 409 Conflict} or reports the build as already promoted or the resource as already existing.
+	 */
+	static boolean isAlreadyCompleted(HttpClientErrorException o_O) {
+		return o_O.getStatusCode().isSameCodeAs(HttpStatus.CONFLICT)
+				|| ALREADY_COMPLETED.matcher(o_O.getResponseBodyAsString()).find();
+	}
+
 	@Value
 	static class PromotionRequest {
 		String targetRepo, sourceRepo;
 	}
+
+	@Data
+	@JsonIgnoreProperties(ignoreUnknown = true)
+	static class AqlResult {
+		List<AqlItem> results;
+	}
+
+	@Data
+	@JsonIgnoreProperties(ignoreUnknown = true)
+	static class AqlItem {
+
+		String repo, path, name, sha256;
+		List<AqlProperty> properties;
+
+		DeployedArtifacts.Artifact toArtifact() {
+
+			String buildNumber = properties == null ? null
+					: properties.stream().filter(it -> "build.number".equals(it.getKey())).map(AqlProperty::getValue)
+							.findFirst().orElse(null);
+
+			return new DeployedArtifacts.Artifact(path, name, sha256, buildNumber);
+		}
+	}
+
+	@Data
+	@JsonIgnoreProperties(ignoreUnknown = true)
+	static class AqlProperty {
+		String key, value;
+	}
 }
@@ -23,7 +23,6 @@ import java.util.stream.Stream;
 
 import org.springframework.data.release.CliComponent;
 import org.springframework.data.release.TimedCommand;
-import org.springframework.data.release.model.ModuleIteration;
 import org.springframework.data.release.model.SupportStatus;
 import org.springframework.data.release.model.TrainIteration;
 import org.springframework.data.release.utils.Logger;
@@ -57,9 +56,7 @@ class ArtifactoryCommands extends TimedCommand {
 
 			log.log(trainIteration, "Creating Artifactory Release bundle");
 
-			for (ModuleIteration moduleIteration : trainIteration) {
-				operations.createArtifactoryRelease(moduleIteration);
-			}
+			operations.createArtifactoryReleases(trainIteration);
 
 			// aggregator creation requires a bit of time
 			// otherwise we will see 16:19:04 "message" : "Release Bundle path not found:
@@ -20,12 +20,15 @@ import lombok.SneakyThrows;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.release.model.ArtifactVersion;
 import org.springframework.data.release.model.ModuleIteration;
 import org.springframework.data.release.model.Projects;
 import org.springframework.data.release.model.TrainIteration;
+import org.springframework.data.release.utils.Logger;
 import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -40,11 +43,24 @@ class ArtifactoryOperations {
 	private final AqlWriter aqlWriter;
 	private final DeploymentProperties.Authentication authentication;
 	private final ArtifactoryClient client;
+	private final Promotions promotions;
 
-	public ArtifactoryOperations(DeploymentProperties properties, ArtifactoryClient client) {
+	public ArtifactoryOperations(DeploymentProperties properties, ArtifactoryClient client, Logger logger,
+			@Qualifier("ioExecutor") Executor executor) {
 		this.authentication = properties.getCommercial();
 		this.aqlWriter = new AqlWriter(authentication, objectMapper);
 		this.client = client;
+		this.promotions = new Promotions(logger, properties.getPromotion(), executor);
+	}
+
+	/**
+	 * Creates the Artifactory release bundles for all modules of the given {@link TrainIteration} concurrently.
+	 *
+	 * @param train must not be {@literal null}.
+	 * @throws IllegalStateException if a release bundle could not be created.
+	 */
+	public void createArtifactoryReleases(TrainIteration train) {
+		promotions.run("Release bundle creation", train.stream().toList(), it -> it, this::createArtifactoryRelease);
 	}
 
 	@SneakyThrows
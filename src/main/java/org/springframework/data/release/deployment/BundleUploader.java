@@ -0,0 +1,398 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.deployment;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.data.release.deployment.DeploymentProperties.MavenCentral;
+import org.springframework.data.release.model.ModuleIteration;
+import org.springframework.data.release.utils.Logger;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestOperations;
+
+/**
+ * Uploads staging bundles to the Maven Publisher API. The Publisher API does not support resuming an upload so a
+ * failed upload is retried by sending the bundle again after an exponentially growing backoff. Network failures,
+ * server errors and throttling responses are retried while client errors and failures to create the bundle are not.
+ * As creating a deployment is not idempotent, a failure after the bundle was sent completely is only retried if the
+ * server rejected the request explicitly ({@code 429}, {@code 503}); otherwise the server may have created the
+ * deployment already. Sent bytes are counted and digested to verify that the request contained the complete bundle and
+ * that retries sent identical content. A deployment whose upload fails verification is dropped. Upload progress and
+ * throughput are logged periodically.
+ *
+ * @author Mark Paluch
+ */
+class BundleUploader {
+
+	static final String UPLOAD_URI = "/api/v1/publisher/upload?name={deploymentName}&publishingType=USER_MANAGED";
+	static final String DEPLOYMENT_URI = "/api/v1/publisher/deployment/{deploymentId}";
+
+	private static final Duration MAX_BACKOFF = Duration.ofMinutes(2);
+	private static final Duration PROGRESS_INTERVAL = Duration.ofSeconds(10);
+
+	private final RestOperations restTemplate;
+	private final Logger logger;
+	private final MavenCentral properties;
+
+	/**
+	 * Creates a new {@link BundleUploader}.
+	 *
+	 * @param restTemplate must not be {@literal null}.
+	 * @param logger must not be {@literal null}.
+	 * @param properties must not be {@literal null}.
+	 */
+	BundleUploader(RestOperations restTemplate, Logger logger, MavenCentral properties) {
+
+		Assert.notNull(restTemplate, "RestOperations must not be null!");
+		Assert.notNull(logger, "Logger must not be null!");
+		Assert.notNull(properties, "MavenCentral properties must not be null!");
+
+		this.restTemplate = restTemplate;
+		this.logger = logger;
+		this.properties = properties;
+	}
+
+	/**
+	 * Uploads the bundle obtained from {@code bundle}. The {@link InputStreamSource} is asked for a new
+	 * {@link InputStream} for each attempt.
+	 *
+	 * @param iteration must not be {@literal null}.
+	 * @param deploymentName must not be {@literal null}.
+	 * @param bundle must not be {@literal null}.
+	 * @param length expected bundle size in bytes or {@code -1} if unknown.
+	 * @return the created deployment.
+	 */
+	StagingRepository upload(ModuleIteration iteration, String deploymentName, InputStreamSource bundle, long length) {
+
+		Assert.notNull(iteration, "ModuleIteration must not be null!");
+		Assert.hasText(deploymentName, "Deployment name must not be empty!");
+		Assert.notNull(bundle, "Bundle must not be null!");
+
+		int attempts = properties.getUploadRetries() + 1;
+		Duration backoff = properties.getUploadBackoff();
+		String checksum = null;
+
+		for (int attempt = 1;; attempt++) {
+
+			MeteredInputStream stream = null;
+
+			try {
+
+				stream = new MeteredInputStream(bundle.getInputStream(), iteration);
+
+				logger.log(iteration, "🚛 Uploading staging bundle (attempt %d of %d)…", attempt, attempts);
+				String deploymentId = upload(deploymentName, stream);
+
+				try {
+					verify(stream, length, checksum);
+				} catch (IllegalStateException e) {
+
+					drop(iteration, deploymentId, e);
+					throw e;
+				}
+
+				logger.log(iteration, "📦 Staging bundle uploaded successfully (%s, SHA-256 %s). Created deploymentId '%s'",
+						stream.getProgress(), stream.getChecksum(), deploymentId);
+
+				return StagingRepository.of(deploymentId);
+			} catch (IOException | RestClientException e) {
+
+				boolean sent = stream != null && stream.isComplete();
+
+				if (sent) {
+					checksum = stream.getChecksum();
+				}
+
+				if (attempt >= attempts || !isRetryable(e, sent)) {
+
+					String message = sent
+							? String.format(
+									"😵‍💫 Staging upload failed after %d attempt(s) once the bundle was sent: %s. Check for a deployment named '%s' before uploading again",
+									attempt, e.getMessage(), deploymentName)
+							: String.format("😵‍💫 Staging upload failed after %d attempt(s): %s", attempt, e.getMessage());
+
+					throw new IllegalStateException(message, e);
+				}
+
+				logger.warn(iteration, "⚠️ Staging upload failed (%s). Retrying in %s…", e.getMessage(), backoff);
+
+				sleep(backoff);
+				backoff = backoff.multipliedBy(2).compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff.multipliedBy(2);
+			} finally {
+
+				if (stream != null) {
+					closeQuietly(stream);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Verifies that the request contained the complete bundle and that the content matches the content sent by a
+	 * previous attempt.
+	 */
+	private static void verify(MeteredInputStream stream, long length, @Nullable String previousChecksum) {
+
+		Assert.state(stream.isComplete(), "Upload completed before the bundle was sent completely");
+
+		if (length != -1 && stream.getBytes() != length) {
+			throw new IllegalStateException(
+					String.format("Sent %d bytes but the bundle has %d bytes", stream.getBytes(), length));
+		}
+
+		if (previousChecksum != null && !previousChecksum.equals(stream.getChecksum())) {
+			throw new IllegalStateException(String.format("Bundle content changed between upload attempts: %s, %s",
+					previousChecksum, stream.getChecksum()));
+		}
+	}
+
+	/**
+	 * Drops the deployment created by an upload that failed verification so that it does not remain as orphan.
+	 */
+	private void drop(ModuleIteration iteration, String deploymentId, Exception failure) {
+
+		logger.warn(iteration, "🗑️ Dropping deployment '%s' of rejected upload…", deploymentId);
+
+		try {
+			restTemplate.exchange(DEPLOYMENT_URI, HttpMethod.DELETE, null, String.class,
+					Collections.singletonMap("deploymentId", deploymentId));
+		} catch (RestClientException e) {
+
+			logger.warn(iteration, "Cannot drop deployment '%s', drop it manually: %s", deploymentId, e.getMessage());
+			failure.addSuppressed(e);
+		}
+	}
+
+	private String upload(String deploymentName, InputStream stream) {
+
+		HttpHeaders partHeaders = new HttpHeaders();
+		partHeaders.setContentType(MediaType.parseMediaType("application/zip"));
+		partHeaders
+				.setContentDisposition(ContentDisposition.formData().name("bundle").filename("central-staging.zip").build());
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+		headers.setAccept(Collections.singletonList(MediaType.TEXT_PLAIN));
+
+		MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+		body.add("bundle", new HttpEntity<>(new InputStreamResource(stream), partHeaders));
+
+		ResponseEntity<String> upload = restTemplate.postForEntity(UPLOAD_URI, new HttpEntity<>(body, headers),
+				String.class, Collections.singletonMap("deploymentName", deploymentName));
+
+		if (upload.getStatusCode().is2xxSuccessful()) {
+			return upload.getBody();
+		}
+
+		throw new IllegalStateException(
+				String.format("😵‍💫 Staging upload failed: %s %s", upload.getStatusCode(), upload.getBody()));
+	}
+
+	/**
+	 * Returns whether the failure is transient. Failures to create the bundle surface as {@link BundleException} which
+	 * may be wrapped into a {@link ResourceAccessException} if raised while writing the request.
+	 */
+	static boolean isRetryable(Exception e) {
+		return isRetryable(e, false);
+	}
+
+	/**
+	 * Returns whether the failure is transient and retrying cannot create a second deployment. Once the bundle was sent
+	 * completely, only explicit rejections by the server are retried.
+	 *
+	 * @param e the failure.
+	 * @param sent whether the bundle was sent completely.
+	 * @return
+	 */
+	static boolean isRetryable(Exception e, boolean sent) {
+
+		if (sent) {
+			return e instanceof HttpStatusCodeException status
+					&& (status.getStatusCode().isSameCodeAs(HttpStatus.SERVICE_UNAVAILABLE)
+							|| status.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS));
+		}
+
+		for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+			if (cause instanceof BundleException) {
+				return false;
+			}
+		}
+
+		if (e instanceof HttpStatusCodeException status) {
+			return status.getStatusCode().is5xxServerError()
+					|| status.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS);
+		}
+
+		return e instanceof ResourceAccessException || e instanceof IOException;
+	}
+
+	private static void sleep(Duration backoff) {
+
+		try {
+			TimeUnit.MILLISECONDS.sleep(backoff.toMillis());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting to retry the staging upload", e);
+		}
+	}
+
+	private static void closeQuietly(InputStream stream) {
+
+		try {
+			stream.close();
+		} catch (IOException e) {
+			// ignore
+		}
+	}
+
+	/**
+	 * Failure to create the bundle that must not be retried.
+	 */
+	static class BundleException extends IOException {
+
+		BundleException(String message, Throwable cause) {
+			super(message, cause);
+		}
+	}
+
+	/**
+	 * {@link InputStream} counting and digesting the bytes read by the HTTP client and logging the upload progress.
+	 */
+	class MeteredInputStream extends FilterInputStream {
+
+		private final ModuleIteration iteration;
+		private final MessageDigest digest;
+		private final long started = System.nanoTime();
+		private long lastReport = started;
+		private long bytes;
+		private boolean complete;
+		private @Nullable String checksum;
+
+		MeteredInputStream(InputStream in, ModuleIteration iteration) {
+
+			super(in);
+
+			this.iteration = iteration;
+
+			try {
+				this.digest = MessageDigest.getInstance("SHA-256");
+			} catch (NoSuchAlgorithmException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+
+		@Override
+		public int read() throws IOException {
+
+			int read = super.read();
+
+			if (read == -1) {
+				complete = true;
+			} else {
+				digest.update((byte) read);
+				sent(1);
+			}
+
+			return read;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+
+			int read = super.read(b, off, len);
+
+			if (read == -1) {
+				complete = true;
+			} else {
+				digest.update(b, off, read);
+				sent(read);
+			}
+
+			return read;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			throw new IOException("Skipping bundle content is not supported");
+		}
+
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+
+		boolean isComplete() {
+			return complete;
+		}
+
+		long getBytes() {
+			return bytes;
+		}
+
+		String getChecksum() {
+
+			if (checksum == null) {
+				checksum = HexFormat.of().formatHex(digest.digest());
+			}
+
+			return checksum;
+		}
+
+		String getProgress() {
+
+			double seconds = Math.max(System.nanoTime() - started, 1) / 1_000_000_000d;
+
+			return String.format("%.1f MB in %.1f sec, %.1f MB/s", bytes / 1_000_000d, seconds,
+					bytes / 1_000_000d / seconds);
+		}
+
+		private void sent(int count) {
+
+			bytes += count;
+
+			long now = System.nanoTime();
+
+			if (now - lastReport >= PROGRESS_INTERVAL.toNanos()) {
+
+				lastReport = now;
+				logger.log(iteration, "🚛 Uploading … %s", getProgress());
+			}
+		}
+	}
+}
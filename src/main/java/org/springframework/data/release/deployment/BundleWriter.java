@@ -0,0 +1,494 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.deployment;
+
+import lombok.Value;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * Writes ZIP bundles by compressing entries concurrently into independent raw deflate streams and appending them to
+ * the bundle in the order of the given files so that the same files result in the same bundle. Already compressed
+ * archives ({@code .jar}, {@code .zip}) are stored without compression and copied from their file. Small entries are
+ * compressed in memory, larger ones are streamed through the deflater into a temporary file so that memory held by
+ * entries in flight is bounded regardless of the file size. The bundle is a plain (non-ZIP64) ZIP file that
+ * declares sizes and checksums in the local file headers so that it can be written to a non-seekable channel and read
+ * by streaming readers as well.
+ *
+ * @author Mark Paluch
+ */
+class BundleWriter {
+
+	private static final int BUFFER_SIZE = 1024 * 1024;
+	private static final int MAX_IN_FLIGHT = 32;
+	private static final int IN_MEMORY_THRESHOLD = 1024 * 1024;
+	private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+
+	private static final int LOCAL_FILE_HEADER = 0x04034b50;
+	private static final int LOCAL_FILE_HEADER_SIZE = 30;
+	private static final int CENTRAL_DIRECTORY_HEADER = 0x02014b50;
+	private static final int CENTRAL_DIRECTORY_HEADER_SIZE = 46;
+	private static final int END_OF_CENTRAL_DIRECTORY = 0x06054b50;
+	private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+
+	private static final short STORED = 0;
+	private static final short DEFLATED = 8;
+	private static final short UTF8_NAMES = 1 << 11;
+
+	private static final long MAX_VALUE = 0xFFFFFFFFL;
+	private static final int MAX_ENTRIES = 0xFFFF;
+
+	private final Executor executor;
+
+	/**
+	 * Creates a new {@link BundleWriter} compressing entries using the given {@link Executor}.
+	 *
+	 * @param executor must not be {@literal null}.
+	 */
+	BundleWriter(Executor executor) {
+
+		Assert.notNull(executor, "Executor must not be null!");
+
+		this.executor = executor;
+	}
+
+	/**
+	 * Writes {@code files} into the {@code bundle} using their path relative to {@code root} as entry name.
+	 *
+	 * @param root must not be {@literal null}.
+	 * @param files must not be {@literal null}.
+	 * @param bundle must not be {@literal null}.
+	 * @return the number of written entries.
+	 * @throws IOException
+	 */
+	int write(Path root, List<Path> files, Path bundle) throws IOException {
+
+		Assert.notNull(bundle, "Bundle must not be null!");
+
+		try (FileChannel channel = FileChannel.open(bundle, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			return write(root, files, channel);
+		}
+	}
+
+	/**
+	 * Writes {@code files} as bundle to the given {@link WritableByteChannel} using their path relative to {@code root}
+	 * as entry name. The channel is not closed.
+	 *
+	 * @param root must not be {@literal null}.
+	 * @param files must not be {@literal null}.
+	 * @param channel must not be {@literal null}.
+	 * @return the number of written entries.
+	 * @throws IOException
+	 */
+	int write(Path root, List<Path> files, WritableByteChannel channel) throws IOException {
+
+		Assert.notNull(root, "Root must not be null!");
+		Assert.notNull(files, "Files must not be null!");
+		Assert.notNull(channel, "Channel must not be null!");
+		Assert.state(files.size() <= MAX_ENTRIES,
+				() -> String.format("Bundle cannot hold more than %d entries, got %d", MAX_ENTRIES, files.size()));
+
+		List<CentralDirectoryEntry> directory = new ArrayList<>(files.size());
+		ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		Path spool = Files.createTempDirectory("bundle-");
+
+		// bound the number of compressed entries held while waiting for earlier entries
+		Deque<CompletableFuture<Entry>> inFlight = new ArrayDeque<>();
+		Iterator<Path> pending = files.iterator();
+		long offset = 0;
+
+		try {
+
+			while (pending.hasNext() || !inFlight.isEmpty()) {
+
+				while (pending.hasNext() && inFlight.size() < MAX_IN_FLIGHT) {
+
+					Path file = pending.next();
+					inFlight.add(CompletableFuture.supplyAsync(() -> compress(root.relativize(file), file, spool), executor));
+				}
+
+				Entry entry = inFlight.remove().join();
+				directory.add(CentralDirectoryEntry.of(entry, offset));
+
+				ensureCapacity(channel, buffer, LOCAL_FILE_HEADER_SIZE + entry.getName().length);
+				putLocalFileHeader(buffer, entry);
+				entry.writeTo(channel, buffer);
+
+				offset += LOCAL_FILE_HEADER_SIZE + entry.getName().length + entry.getCompressedSize();
+
+				Assert.state(offset <= MAX_VALUE, "Bundle exceeds 4 GB and would require ZIP64");
+			}
+		} catch (CompletionException e) {
+
+			inFlight.forEach(it -> it.cancel(false));
+
+			if (e.getCause() instanceof UncheckedIOException io) {
+				throw io.getCause();
+			}
+
+			throw e;
+		} finally {
+
+			// removes spooled entries including those of cancelled compressions
+			FileSystemUtils.deleteRecursively(spool.toFile());
+		}
+
+		long centralDirectory = offset;
+
+		for (CentralDirectoryEntry entry : directory) {
+
+			ensureCapacity(channel, buffer, CENTRAL_DIRECTORY_HEADER_SIZE + entry.getName().length);
+			putCentralDirectoryHeader(buffer, entry);
+
+			offset += CENTRAL_DIRECTORY_HEADER_SIZE + entry.getName().length;
+		}
+
+		ensureCapacity(channel, buffer, END_OF_CENTRAL_DIRECTORY_SIZE);
+
+		buffer.putInt(END_OF_CENTRAL_DIRECTORY);
+		buffer.putShort((short) 0); // disk number
+		buffer.putShort((short) 0); // disk with central directory
+		buffer.putShort((short) directory.size());
+		buffer.putShort((short) directory.size());
+		buffer.putInt((int) (offset - centralDirectory));
+		buffer.putInt((int) centralDirectory);
+		buffer.putShort((short) 0); // comment length
+
+		flush(channel, buffer);
+
+		return directory.size();
+	}
+
+	/**
+	 * Returns whether the file is an archive whose content is already compressed.
+	 *
+	 * @param name must not be {@literal null}.
+	 * @return
+	 */
+	static boolean isCompressed(String name) {
+
+		String lowerCase = name.toLowerCase(Locale.ROOT);
+
+		return lowerCase.endsWith(".jar") || lowerCase.endsWith(".zip");
+	}
+
+	private static Entry compress(Path name, Path file, Path spool) {
+
+		try {
+
+			long size = Files.size(file);
+
+			Assert.state(size < MAX_VALUE, () -> String.format("%s exceeds 4 GB and would require ZIP64", file));
+
+			String entryName = name.toString().replace(File.separatorChar, '/');
+			byte[] entryNameBytes = entryName.getBytes(StandardCharsets.UTF_8);
+			LocalDateTime modified = LocalDateTime.ofInstant(Instant.ofEpochMilli(file.toFile().lastModified()),
+					ZoneId.systemDefault());
+
+			if (isCompressed(entryName)) {
+				return new Entry(entryNameBytes, modified, STORED, checksum(file), size, size, null, file);
+			}
+
+			if (size <= IN_MEMORY_THRESHOLD) {
+
+				byte[] content = Files.readAllBytes(file);
+				CRC32 crc = new CRC32();
+				crc.update(content);
+
+				byte[] deflated = deflate(content);
+				boolean stored = deflated.length >= content.length;
+				byte[] data = stored ? content : deflated;
+
+				return new Entry(entryNameBytes, modified, stored ? STORED : DEFLATED, crc.getValue(), content.length,
+						data.length, data, null);
+			}
+
+			Path deflated = Files.createTempFile(spool, "entry-", ".deflate");
+			long crc = deflate(file, deflated);
+			long compressedSize = Files.size(deflated);
+
+			if (compressedSize >= size) {
+
+				Files.delete(deflated);
+
+				return new Entry(entryNameBytes, modified, STORED, crc, size, size, null, file);
+			}
+
+			return new Entry(entryNameBytes, modified, DEFLATED, crc, size, compressedSize, null, deflated);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static byte[] deflate(byte[] content) {
+
+		Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+
+		try {
+
+			deflater.setInput(content);
+			deflater.finish();
+
+			ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, content.length / 2));
+			byte[] buffer = new byte[STREAM_BUFFER_SIZE];
+
+			while (!deflater.finished()) {
+				out.write(buffer, 0, deflater.deflate(buffer));
+			}
+
+			return out.toByteArray();
+		} finally {
+			deflater.end();
+		}
+	}
+
+	/**
+	 * Streams {@code source} through a raw deflater into {@code target}.
+	 *
+	 * @return the CRC-32 of the uncompressed content.
+	 */
+	private static long deflate(Path source, Path target) throws IOException {
+
+		Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+		CRC32 crc = new CRC32();
+
+		try (InputStream in = Files.newInputStream(source);
+				OutputStream out = new DeflaterOutputStream(Files.newOutputStream(target), deflater, STREAM_BUFFER_SIZE)) {
+
+			byte[] buffer = new byte[STREAM_BUFFER_SIZE];
+
+			for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+				crc.update(buffer, 0, read);
+				out.write(buffer, 0, read);
+			}
+		} finally {
+			deflater.end();
+		}
+
+		return crc.getValue();
+	}
+
+	private static long checksum(Path file) throws IOException {
+
+		CRC32 crc = new CRC32();
+
+		try (InputStream in = Files.newInputStream(file)) {
+
+			byte[] buffer = new byte[STREAM_BUFFER_SIZE];
+
+			for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+				crc.update(buffer, 0, read);
+			}
+		}
+
+		return crc.getValue();
+	}
+
+	private static void putLocalFileHeader(ByteBuffer buffer, Entry entry) {
+
+		buffer.putInt(LOCAL_FILE_HEADER);
+		buffer.putShort(entry.getVersionNeeded());
+		buffer.putShort(UTF8_NAMES);
+		buffer.putShort(entry.getMethod());
+		buffer.putInt(entry.getDosTime());
+		buffer.putInt((int) entry.getCrc());
+		buffer.putInt((int) entry.getCompressedSize());
+		buffer.putInt((int) entry.getSize());
+		buffer.putShort((short) entry.getName().length);
+		buffer.putShort((short) 0);
+		buffer.put(entry.getName());
+	}
+
+	private static void putCentralDirectoryHeader(ByteBuffer buffer, CentralDirectoryEntry entry) {
+
+		buffer.putInt(CENTRAL_DIRECTORY_HEADER);
+		buffer.putShort(entry.getVersionNeeded());
+		buffer.putShort(entry.getVersionNeeded());
+		buffer.putShort(UTF8_NAMES);
+		buffer.putShort(entry.getMethod());
+		buffer.putInt(entry.getDosTime());
+		buffer.putInt((int) entry.getCrc());
+		buffer.putInt((int) entry.getCompressedSize());
+		buffer.putInt((int) entry.getSize());
+		buffer.putShort((short) entry.getName().length);
+		buffer.putShort((short) 0); // extra field length
+		buffer.putShort((short) 0); // comment length
+		buffer.putShort((short) 0); // disk number
+		buffer.putShort((short) 0); // internal attributes
+		buffer.putInt(0); // external attributes
+		buffer.putInt((int) entry.getOffset());
+		buffer.put(entry.getName());
+	}
+
+	/**
+	 * Appends {@code data} to the buffer or writes it directly if it exceeds the buffer capacity.
+	 */
+	private static void put(WritableByteChannel channel, ByteBuffer buffer, byte[] data) throws IOException {
+
+		if (data.length <= buffer.remaining()) {
+			buffer.put(data);
+			return;
+		}
+
+		flush(channel, buffer);
+
+		if (data.length <= buffer.remaining()) {
+			buffer.put(data);
+			return;
+		}
+
+		ByteBuffer wrapped = ByteBuffer.wrap(data);
+
+		while (wrapped.hasRemaining()) {
+			channel.write(wrapped);
+		}
+	}
+
+	private static void ensureCapacity(WritableByteChannel channel, ByteBuffer buffer, int length) throws IOException {
+
+		if (buffer.remaining() < length) {
+			flush(channel, buffer);
+		}
+	}
+
+	private static void flush(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+
+		buffer.flip();
+
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+
+		buffer.clear();
+	}
+
+	/**
+	 * A compressed (or stored) bundle entry. Its data is either held in memory or contained in a file, being the
+	 * original file for stored entries or a spooled temporary file for deflated ones.
+	 */
+	@Value
+	static class Entry {
+
+		byte[] name;
+		LocalDateTime modified;
+		short method;
+		long crc;
+		long size;
+		long compressedSize;
+		@Nullable byte[] data;
+		@Nullable Path file;
+
+		/**
+		 * Writes the entry data to the channel, appending small data to the buffer.
+		 */
+		void writeTo(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+
+			if (data != null) {
+				put(channel, buffer, data);
+				return;
+			}
+
+			flush(channel, buffer);
+
+			try (FileChannel source = FileChannel.open(file, StandardOpenOption.READ)) {
+
+				for (long position = 0; position < compressedSize;) {
+
+					long transferred = source.transferTo(position, compressedSize - position, channel);
+
+					if (transferred <= 0) {
+						throw new IOException(String.format("Unexpected end of %s at %d of %d bytes", file, position,
+								compressedSize));
+					}
+
+					position += transferred;
+				}
+			}
+		}
+
+		short getVersionNeeded() {
+			return (short) (method == DEFLATED ? 20 : 10);
+		}
+
+		/**
+		 * Returns the MS-DOS date (high word) and time (low word) of the last modification.
+		 */
+		int getDosTime() {
+
+			if (modified.getYear() < 1980) {
+				return (1 << 21) | (1 << 16);
+			}
+
+			return (modified.getYear() - 1980) << 25 | modified.getMonthValue() << 21 | modified.getDayOfMonth() << 16
+					| modified.getHour() << 11 | modified.getMinute() << 5 | modified.getSecond() >> 1;
+		}
+	}
+
+	/**
+	 * Central directory record of an entry that has been written already. Retains only the header fields so that the
+	 * entry data can be released once written.
+	 */
+	@Value
+	static class CentralDirectoryEntry {
+
+		byte[] name;
+		short versionNeeded;
+		short method;
+		int dosTime;
+		long crc;
+		long compressedSize;
+		long size;
+		long offset;
+
+		static CentralDirectoryEntry of(Entry entry, long offset) {
+			return new CentralDirectoryEntry(entry.getName(), entry.getVersionNeeded(), entry.getMethod(),
+					entry.getDosTime(), entry.getCrc(), entry.getCompressedSize(), entry.getSize(), offset);
+		}
+	}
+}
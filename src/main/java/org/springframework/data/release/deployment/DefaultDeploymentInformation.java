@@ -63,6 +63,22 @@ public class DefaultDeploymentInformation implements DeploymentInformation {
 		this(module, properties, createBuildNumber(module), stagingRepository, properties.getAuthentication(module));
 	}
 
+	/**
+	 * Creates {@link DefaultDeploymentInformation} for a deployment that was performed previously using the given build
+	 * number.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @param properties must not be {@literal null}.
+	 * @param buildNumber the build number of the previous deployment.
+	 * @param stagingRepository must not be {@literal null}.
+	 * @return
+	 */
+	public static DefaultDeploymentInformation of(ModuleIteration module, DeploymentProperties properties,
+			String buildNumber, StagingRepository stagingRepository) {
+		return new DefaultDeploymentInformation(module, properties, buildNumber, stagingRepository,
+				properties.getAuthentication(module));
+	}
+
 	public static String createBuildNumber(ModuleIteration module) {
 
 		String actualBuildNumber;
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.deployment;
+
+import lombok.Value;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.release.model.ModuleIteration;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Artifacts that are already deployed to the Artifactory staging repository along with their SHA-256 checksum and the
+ * build number they were deployed with. Used to skip deployments of modules whose artifacts were already deployed with
+ * identical content by a previous (partially failed) release run.
+ *
+ * @author Mark Paluch
+ * @see AqlWriter#createChecksumAqlStatement(org.springframework.data.release.model.TrainIteration)
+ */
+public class DeployedArtifacts {
+
+	public static final DeployedArtifacts NONE = new DeployedArtifacts(Collections.emptyList());
+
+	private static final List<String> SIGNATURE_AND_CHECKSUM_EXTENSIONS = List.of(".asc", ".md5", ".sha1", ".sha256",
+			".sha512");
+
+	private final List<Artifact> artifacts;
+
+	DeployedArtifacts(List<Artifact> artifacts) {
+
+		Assert.notNull(artifacts, "Artifacts must not be null!");
+
+		this.artifacts = artifacts;
+	}
+
+	/**
+	 * Returns the deployed artifacts that belong to the given {@link ModuleIteration}.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @return
+	 */
+	public DeployedArtifacts forModule(ModuleIteration module) {
+
+		Assert.notNull(module, "ModuleIteration must not be null!");
+
+		Set<String> paths = AqlWriter.getArtifactPaths(module);
+
+		return new DeployedArtifacts(artifacts.stream().filter(it -> paths.contains(it.getPath())).toList());
+	}
+
+	public boolean isEmpty() {
+		return artifacts.isEmpty();
+	}
+
+	/**
+	 * Returns the build numbers the artifacts were deployed with.
+	 *
+	 * @return
+	 */
+	public Set<String> getBuildNumbers() {
+		return artifacts.stream().map(Artifact::getBuildNumber).filter(StringUtils::hasText)
+				.collect(Collectors.toCollection(LinkedHashSet::new));
+	}
+
+	/**
+	 * Returns the deployed artifacts without the ones deployed by the given builds, e.g. because the deployment of these
+	 * builds did not complete.
+	 *
+	 * @param buildNumbers must not be {@literal null}.
+	 * @return
+	 */
+	public DeployedArtifacts withoutBuildNumbers(Collection<String> buildNumbers) {
+
+		Assert.notNull(buildNumbers, "Build numbers must not be null!");
+
+		return buildNumbers.isEmpty() ? this
+				: new DeployedArtifacts(
+						artifacts.stream().filter(it -> !buildNumbers.contains(it.getBuildNumber())).toList());
+	}
+
+	/**
+	 * Returns the build number of the previous deployment if it deployed exactly the given local artifacts with identical
+	 * content along with their signatures. Returns {@link Optional#empty()} if an artifact is missing on either side,
+	 * differs in content, lacks its signature or if the artifacts were deployed by different builds so that the module
+	 * must be deployed again.
+	 *
+	 * @param files the locally built artifacts keyed by the file name they are deployed with, must not be
+	 *          {@literal null}.
+	 * @return
+	 */
+	public Optional<String> getReusableBuildNumber(Map<String, File> files) {
+
+		Assert.notNull(files, "Files must not be null!");
+
+		if (files.isEmpty() || artifacts.isEmpty()) {
+			return Optional.empty();
+		}
+
+		Map<String, Artifact> byName = artifacts.stream()
+				.collect(Collectors.toMap(Artifact::getName, Function.identity(), (left, right) -> left));
+		Set<String> deployed = byName.keySet().stream().filter(it -> !isSignatureOrChecksum(it))
+				.collect(Collectors.toSet());
+
+		if (!deployed.equals(files.keySet())) {
+			return Optional.empty();
+		}
+
+		for (Map.Entry<String, File> entry : files.entrySet()) {
+
+			Artifact artifact = byName.get(entry.getKey());
+
+			if (!artifact.getSha256().equalsIgnoreCase(sha256(entry.getValue()))
+					|| !byName.containsKey(entry.getKey() + ".asc")) {
+				return Optional.empty();
+			}
+		}
+
+		Set<String> buildNumbers = new HashSet<>();
+
+		for (Artifact artifact : byName.values()) {
+
+			if (!StringUtils.hasText(artifact.getBuildNumber())) {
+				return Optional.empty();
+			}
+
+			buildNumbers.add(artifact.getBuildNumber());
+		}
+
+		return buildNumbers.size() == 1 ? Optional.of(buildNumbers.iterator().next()) : Optional.empty();
+	}
+
+	private static boolean isSignatureOrChecksum(String name) {
+		return SIGNATURE_AND_CHECKSUM_EXTENSIONS.stream().anyMatch(name::endsWith);
+	}
+
+	@Override
+	public String toString() {
+		return artifacts.toString();
+	}
+
+	static String sha256(File file) {
+
+		try (InputStream stream = Files.newInputStream(file.toPath())) {
+
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			byte[] buffer = new byte[8192];
+
+			for (int read = stream.read(buffer); read != -1; read = stream.read(buffer)) {
+				digest.update(buffer, 0, read);
+			}
+
+			return HexFormat.of().formatHex(digest.digest());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * A single deployed artifact.
+	 */
+	@Value
+	static class Artifact {
+		String path, name, sha256, buildNumber;
+	}
+}
@@ -15,13 +15,23 @@
  */
 package org.springframework.data.release.deployment;
 
-import lombok.RequiredArgsConstructor;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.Executor;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.release.deployment.DeploymentProperties.Authentication;
+import org.springframework.data.release.model.ModuleIteration;
 import org.springframework.data.release.model.SupportStatusAware;
+import org.springframework.data.release.model.TrainIteration;
+import org.springframework.data.release.utils.ExecutionUtils.ConsumerWithException;
 import org.springframework.data.release.utils.Logger;
 import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 /**
  * Deployment functionality.
  *
@@ -29,11 +39,21 @@ import org.springframework.util.Assert;
  * @author Mark Paluch
  */
 @Component
-@RequiredArgsConstructor
 public class DeploymentOperations {
 
 	private final ArtifactoryClient client;
 	private final Logger logger;
+	private final Promotions promotions;
+	private final DeploymentProperties properties;
+
+	public DeploymentOperations(ArtifactoryClient client, Logger logger, DeploymentProperties properties,
+			@Qualifier("ioExecutor") Executor executor) {
+
+		this.client = client;
+		this.logger = logger;
+		this.promotions = new Promotions(logger, properties.getPromotion(), executor);
+		this.properties = properties;
+	}
 
 	public void verifyAuthentication(SupportStatusAware status) {
 		client.verify(status);
@@ -57,6 +77,110 @@ public class DeploymentOperations {
 		client.promote(information);
 	}
 
+	/**
+	 * Promotes the artifacts identified by the given {@link DeploymentInformation}s concurrently.
+	 *
+	 * @param deployments must not be {@literal null}.
+	 * @see #promote(Collection, ConsumerWithException)
+	 */
+	public void promote(Collection<? extends DeploymentInformation> deployments) {
+		promote(deployments, this::promote);
+	}
+
+	/**
+	 * Runs the given promotion for each {@link DeploymentInformation} concurrently with bounded parallelism. Promotions
+	 * failing with a server error or an I/O error are retried. Failures are reported once all promotions have completed.
+	 *
+	 * @param deployments must not be {@literal null}.
+	 * @param promotion the promotion to run, typically wrapping {@link #promote(DeploymentInformation)}, must not be
+	 *          {@literal null}.
+	 * @throws IllegalStateException if the promotion failed for at least one module.
+	 */
+	public void promote(Collection<? extends DeploymentInformation> deployments,
+			ConsumerWithException<DeploymentInformation> promotion) {
+
+		Assert.notNull(deployments, "Deployments must not be null!");
+		Assert.notNull(promotion, "Promotion must not be null!");
+
+		promotions.run("Promotion", deployments, DeploymentInformation::getModule, promotion::accept);
+	}
+
+	/**
+	 * Returns the {@link DeploymentInformation} of a previous deployment of the given {@link ModuleIteration} performed
+	 * with the given build number, e.g. to promote a module that was deployed by an earlier release run.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @param buildNumber must not be {@literal null} or empty.
+	 * @return
+	 */
+	public DeploymentInformation getDeploymentInformation(ModuleIteration module, String buildNumber) {
+
+		Assert.notNull(module, "ModuleIteration must not be null!");
+		Assert.hasText(buildNumber, "Build number must not be null or empty!");
+
+		return DefaultDeploymentInformation.of(module, properties, buildNumber, StagingRepository.EMPTY);
+	}
+
+	/**
+	 * Looks up the artifacts of all modules of the given {@link TrainIteration} that are already deployed to the
+	 * Artifactory staging repository using a single AQL query. Returns {@link DeployedArtifacts#NONE} for releases that
+	 * are not deployed to Artifactory or if the lookup fails so that all modules get deployed. Artifacts of builds without
+	 * build-info are excluded as their deployment did not complete.
+	 *
+	 * @param iteration must not be {@literal null}.
+	 * @return
+	 */
+	public DeployedArtifacts findDeployedArtifacts(TrainIteration iteration) {
+
+		Assert.notNull(iteration, "TrainIteration must not be null!");
+
+		if (!iteration.isCommercial()) {
+			return DeployedArtifacts.NONE;
+		}
+
+		Authentication authentication = properties.getAuthentication(iteration);
+		String aql = new AqlWriter(authentication, new ObjectMapper()).createChecksumAqlStatement(iteration);
+
+		try {
+
+			DeployedArtifacts artifacts = client.findArtifacts(authentication, aql);
+
+			if (artifacts.isEmpty()) {
+				return artifacts;
+			}
+
+			logger.log(iteration, "Found artifacts of a previous deployment in %s.", authentication.getStagingRepository());
+
+			return artifacts.withoutBuildNumbers(getIncompleteBuilds(iteration, artifacts));
+		} catch (RuntimeException o_O) {
+
+			logger.warn(iteration, "Cannot look up deployed artifacts (%s). Deploying all modules.", o_O.getMessage());
+			return DeployedArtifacts.NONE;
+		}
+	}
+
+	/**
+	 * Returns the build numbers of the given artifacts whose deployment did not complete, i.e. that have no build-info.
+	 */
+	private Set<String> getIncompleteBuilds(TrainIteration iteration, DeployedArtifacts artifacts) {
+
+		Set<String> incomplete = new LinkedHashSet<>();
+
+		for (ModuleIteration module : iteration) {
+
+			for (String buildNumber : artifacts.forModule(module).getBuildNumbers()) {
+
+				if (!client.hasBuildInfo(getDeploymentInformation(module, buildNumber))) {
+
+					logger.log(module, "No build-info for build %s. Previous deployment did not complete.", buildNumber);
+					incomplete.add(buildNumber);
+				}
+			}
+		}
+
+		return incomplete;
+	}
+
 	/**
 	 * Rolls back the given {@link DeploymentInformation}.
 	 *
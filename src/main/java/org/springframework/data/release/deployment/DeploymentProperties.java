@@ -44,6 +44,7 @@ public class DeploymentProperties implements InitializingBean {
 	private String settingsXml;
 	private MavenCentral mavenCentral;
 	private Authentication opensource, commercial;
+	private Promotion promotion = new Promotion();
 
 	public Authentication getAuthentication(SupportStatusAware status) {
 		return status.isCommercial() ? commercial : opensource;
@@ -69,6 +70,7 @@ public class DeploymentProperties implements InitializingBean {
 	public static class Server {
 
 		private static final String PROMOTION_RESOURCE = "/api/build/promote/{buildName}/{buildNumber}?project={project}";
+		private static final String BUILD_INFO_RESOURCE = "/api/build/{buildName}/{buildNumber}?project={project}";
 		private static final String DELETE_BUILD_RESOURCE = "/api/build/{buildName}?buildNumbers={buildNumber}&artifacts=1&project={project}";
 		private static final String VERIFICATION_RESOURCE = "/api/storage/{verificationResource}";
 
@@ -88,6 +90,19 @@ public class DeploymentProperties implements InitializingBean {
 			return new UriTemplate(uri.concat(PROMOTION_RESOURCE)).expand(information.getBuildInfoParameters());
 		}
 
+		/**
+		 * Returns the URI to the build-info of the build identified by the given {@link DeploymentInformation}.
+		 *
+		 * @param information must not be {@literal null}.
+		 * @return
+		 */
+		public URI getBuildInfoResource(DeploymentInformation information) {
+
+			Assert.notNull(information, "DeploymentInformation must not be null!");
+
+			return new UriTemplate(uri.concat(BUILD_INFO_RESOURCE)).expand(information.getBuildInfoParameters());
+		}
+
 		public URI getDeleteBuildResource(DeploymentInformation information) {
 
 			return new UriTemplate(uri.concat(DELETE_BUILD_RESOURCE)).expand(information.getBuildInfoParameters());
@@ -106,12 +121,49 @@ public class DeploymentProperties implements InitializingBean {
 		private String centralApiBaseUrl = "https://central.sonatype.com";
 		private Duration validationTimeout = Duration.ofMinutes(5);
 
+		/**
+		 * Initial interval between deployment status polls, grown for each subsequent poll.
+		 */
+		private Duration validationPollInterval = Duration.ofSeconds(1);
+
+		/**
+		 * Maximum interval between deployment status polls.
+		 */
+		private Duration validationMaxPollInterval = Duration.ofSeconds(15);
+
+		/**
+		 * Whether to stream the staging bundle directly into the upload request instead of creating
+		 * {@code central-staging.zip} first. Streamed bundles are plain ZIP files without ZIP64 support and therefore
+		 * limited to 65535 entries and 4 GB.
+		 */
+		private boolean streamingUpload = false;
+
+		/**
+		 * Number of times a failed staging upload is retried.
+		 */
+		private int uploadRetries = 3;
+
+		/**
+		 * Backoff before retrying a failed staging upload, doubled for each subsequent retry.
+		 */
+		private Duration uploadBackoff = Duration.ofSeconds(5);
+
 		private Gpg gpg;
 
 		public boolean hasGpgConfiguration() {
 			return gpg != null && gpg.isGpgAvailable();
 		}
 
+		/**
+		 * Returns the Maven Central specific {@link Gpg} configuration if configured or {@code defaultGpg} otherwise.
+		 *
+		 * @param defaultGpg the general {@link Gpg} configuration.
+		 * @return
+		 */
+		public Gpg getGpg(Gpg defaultGpg) {
+			return hasGpgConfiguration() ? gpg : defaultGpg;
+		}
+
 		public void validate() {
 
 			if (password == null) {
@@ -128,6 +180,25 @@ public class DeploymentProperties implements InitializingBean {
 		}
 	}
 
+	@Data
+	public static class Promotion {
+
+		/**
+		 * Maximum number of concurrent Artifactory promotion requests.
+		 */
+		private int concurrency = 4;
+
+		/**
+		 * Number of times a promotion failing with a server error or an I/O error is retried.
+		 */
+		private int retries = 2;
+
+		/**
+		 * Backoff before retrying a failed promotion, doubled for each subsequent retry.
+		 */
+		private Duration backoff = Duration.ofSeconds(1);
+	}
+
 	@Data
 	public static class Authentication {
 
@@ -0,0 +1,273 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.deployment;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.release.deployment.DeploymentProperties.MavenCentral;
+import org.springframework.data.release.deployment.MavenPublisher.DeploymentStatus;
+import org.springframework.data.release.model.TrainIteration;
+import org.springframework.data.release.utils.Logger;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Polls the status of Maven Publisher deployments until validation completes without blocking the calling thread.
+ * Polls are scheduled with an adaptive interval that starts short to pick up quick validations and grows towards a
+ * maximum for long-running ones. Each deployment is polled independently so that several deployments can be watched
+ * concurrently. Delays are awaited on a dedicated scheduler thread while the blocking status lookups are handed to a
+ * separate executor so that a slow lookup neither occupies the scheduler nor runs on a thread shared with other
+ * components. Threads created by the validator itself are shut down on {@link #destroy()}.
+ *
+ * @author Mark Paluch
+ */
+class DeploymentValidator implements DisposableBean {
+
+	private final Function<StagingRepository, DeploymentStatus> statusLookup;
+	private final Logger logger;
+	private final MavenCentral properties;
+	private final ScheduledExecutorService scheduler;
+	private final Executor executor;
+	private final boolean ownsExecutors;
+
+	/**
+	 * Creates a new {@link DeploymentValidator} using daemon threads of its own to await poll intervals and to run status
+	 * lookups.
+	 *
+	 * @param statusLookup function to obtain the current {@link DeploymentStatus}, must not be {@literal null}.
+	 * @param logger must not be {@literal null}.
+	 * @param properties must not be {@literal null}.
+	 */
+	DeploymentValidator(Function<StagingRepository, DeploymentStatus> statusLookup, Logger logger,
+			MavenCentral properties) {
+		this(statusLookup, logger, properties, Executors.newSingleThreadScheduledExecutor(daemon("deployment-poll-timer-")),
+				Executors.newCachedThreadPool(daemon("deployment-poll-")), true);
+	}
+
+	/**
+	 * Creates a new {@link DeploymentValidator}.
+	 *
+	 * @param statusLookup function to obtain the current {@link DeploymentStatus}, must not be {@literal null}.
+	 * @param logger must not be {@literal null}.
+	 * @param properties must not be {@literal null}.
+	 * @param scheduler scheduler to await poll intervals, must not be {@literal null}.
+	 * @param executor executor to run status lookups, must not be {@literal null}. Must not run tasks in the calling
+	 *          thread as lookups would otherwise block the scheduler.
+	 */
+	DeploymentValidator(Function<StagingRepository, DeploymentStatus> statusLookup, Logger logger,
+			MavenCentral properties, ScheduledExecutorService scheduler, Executor executor) {
+		this(statusLookup, logger, properties, scheduler, executor, false);
+	}
+
+	private DeploymentValidator(Function<StagingRepository, DeploymentStatus> statusLookup, Logger logger,
+			MavenCentral properties, ScheduledExecutorService scheduler, Executor executor, boolean ownsExecutors) {
+
+		Assert.notNull(statusLookup, "Status lookup must not be null!");
+		Assert.notNull(logger, "Logger must not be null!");
+		Assert.notNull(properties, "MavenCentral properties must not be null!");
+		Assert.notNull(scheduler, "Scheduler must not be null!");
+		Assert.notNull(executor, "Executor must not be null!");
+
+		this.statusLookup = statusLookup;
+		this.logger = logger;
+		this.properties = properties;
+		this.scheduler = scheduler;
+		this.executor = executor;
+		this.ownsExecutors = ownsExecutors;
+	}
+
+	/**
+	 * Shuts down the scheduler and lookup threads if they were created by this validator. Executors passed to the
+	 * constructor remain under the control of the caller.
+	 */
+	@Override
+	public void destroy() {
+
+		if (!ownsExecutors) {
+			return;
+		}
+
+		scheduler.shutdownNow();
+
+		if (executor instanceof ExecutorService service) {
+			service.shutdownNow();
+		}
+	}
+
+	/**
+	 * Start polling the given deployment. The returned future completes with the final {@link DeploymentStatus} once the
+	 * deployment is validated, with {@link IllegalStateException} if validation failed or with {@link TimeoutException}
+	 * if the validation timeout is exceeded. Cancelling the future stops polling.
+	 *
+	 * @param iteration must not be {@literal null}.
+	 * @param deployment must not be {@literal null}.
+	 * @return
+	 */
+	CompletableFuture<DeploymentStatus> validate(TrainIteration iteration, StagingRepository deployment) {
+
+		Assert.notNull(iteration, "TrainIteration must not be null!");
+		Assert.notNull(deployment, "StagingRepository must not be null!");
+		Assert.isTrue(deployment.isPresent(), "StagingRepository must be present");
+
+		Poll poll = new Poll(iteration, deployment);
+		poll.schedule(Duration.ZERO);
+
+		return poll.result;
+	}
+
+	/**
+	 * Poll all given deployments concurrently. The returned future completes once all deployments are validated or
+	 * exceptionally as soon as one deployment fails validation.
+	 *
+	 * @param iteration must not be {@literal null}.
+	 * @param deployments must not be {@literal null}.
+	 * @return
+	 */
+	CompletableFuture<List<DeploymentStatus>> validate(TrainIteration iteration, List<StagingRepository> deployments) {
+
+		Assert.notNull(deployments, "StagingRepositories must not be null!");
+
+		List<CompletableFuture<DeploymentStatus>> futures = deployments.stream().map(it -> validate(iteration, it))
+				.toList();
+
+		CompletableFuture<List<DeploymentStatus>> result = new CompletableFuture<>();
+
+		futures.forEach(it -> it.whenComplete((status, e) -> {
+
+			if (e != null && result.completeExceptionally(e)) {
+				futures.forEach(future -> future.cancel(false));
+			}
+		}));
+
+		CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+				.thenRun(() -> result.complete(futures.stream().map(CompletableFuture::join).toList()));
+
+		return result;
+	}
+
+	/**
+	 * Compute the interval to wait after {@code interval} by growing it by 50% until reaching {@code maxInterval}.
+	 */
+	static Duration nextInterval(Duration interval, Duration maxInterval) {
+
+		Duration next = interval.plus(interval.dividedBy(2));
+		return next.compareTo(maxInterval) > 0 ? maxInterval : next;
+	}
+
+	private static CustomizableThreadFactory daemon(String threadNamePrefix) {
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(threadNamePrefix);
+		threadFactory.setDaemon(true);
+
+		return threadFactory;
+	}
+
+	/**
+	 * Polling state of a single deployment.
+	 */
+	private class Poll {
+
+		private final TrainIteration iteration;
+		private final StagingRepository deployment;
+		private final CompletableFuture<DeploymentStatus> result = new CompletableFuture<>();
+		private final Instant start = Instant.now();
+		private final Instant deadline = start.plus(properties.getValidationTimeout());
+		private Duration interval = properties.getValidationPollInterval();
+		private boolean validating;
+
+		Poll(TrainIteration iteration, StagingRepository deployment) {
+			this.iteration = iteration;
+			this.deployment = deployment;
+		}
+
+		void schedule(Duration delay) {
+
+			try {
+				scheduler.schedule(this::submit, delay.toMillis(), TimeUnit.MILLISECONDS);
+			} catch (RuntimeException e) {
+				result.completeExceptionally(e);
+			}
+		}
+
+		private void submit() {
+
+			try {
+				executor.execute(this::poll);
+			} catch (RuntimeException e) {
+				result.completeExceptionally(e);
+			}
+		}
+
+		private void poll() {
+
+			if (result.isDone()) {
+				return;
+			}
+
+			try {
+
+				DeploymentStatus status = statusLookup.apply(deployment);
+
+				switch (status.getDeploymentState()) {
+
+					case VALIDATED:
+					case PUBLISHED:
+						logger.log(iteration, "✅ Validation of deployment '%s' successful after %d seconds.", deployment,
+								Duration.between(start, Instant.now()).toSeconds());
+						result.complete(status);
+						return;
+
+					case FAILED:
+						logger.log(iteration, "⚠️ Validation of deployment '%s' failed: %s", deployment, status.getErrorDetail());
+						result.completeExceptionally(new IllegalStateException("Deployment Validation failed"));
+						return;
+
+					default:
+						if (!validating) {
+							logger.log(iteration, "⏳ Validating deployment '%s'. Waiting for completion…", deployment);
+							validating = true;
+						}
+				}
+
+				Instant now = Instant.now();
+
+				if (!now.isBefore(deadline)) {
+					result.completeExceptionally(
+							new TimeoutException(String.format("Validation timeout '%d seconds' exceeded: %d seconds",
+									properties.getValidationTimeout().toSeconds(), Duration.between(start, now).toSeconds())));
+					return;
+				}
+
+				Duration remaining = Duration.between(now, deadline);
+				schedule(interval.compareTo(remaining) > 0 ? remaining : interval);
+				interval = nextInterval(interval, properties.getValidationMaxPollInterval());
+			} catch (RuntimeException e) {
+				result.completeExceptionally(e);
+			}
+		}
+	}
+}
@@ -17,9 +17,14 @@ package org.springframework.data.release.deployment;
 
 import lombok.Data;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.springframework.web.client.HttpStatusCodeException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 /**
  * @author Oliver Gierke
  */
@@ -33,6 +38,41 @@ public class Errors {
 		return errors;
 	}
 
+	/**
+	 * Creates {@link Errors} from the body of an Artifactory error response falling back to the status and raw body if
+	 * the body cannot be parsed.
+	 *
+	 * @param o_O must not be {@literal null}.
+	 * @return
+	 */
+	static Errors from(HttpStatusCodeException o_O) {
+
+		try {
+			return new ObjectMapper().readValue(o_O.getResponseBodyAsByteArray(), Errors.class);
+		} catch (IOException e) {
+			return of(o_O.getStatusCode().value(), o_O.getResponseBodyAsString());
+		}
+	}
+
+	/**
+	 * Creates {@link Errors} containing a single {@link Error}.
+	 *
+	 * @param status
+	 * @param message
+	 * @return
+	 */
+	static Errors of(int status, String message) {
+
+		Error error = new Error();
+		error.setStatus(status);
+		error.setMessage(message);
+
+		Errors errors = new Errors();
+		errors.getErrors().add(error);
+
+		return errors;
+	}
+
 	@Data
 	static class Error {
 
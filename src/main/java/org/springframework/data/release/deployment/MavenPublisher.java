@@ -19,36 +19,40 @@ import lombok.Data;
 import lombok.Getter;
 import lombok.SneakyThrows;
 
-import java.io.BufferedOutputStream;
 import java.io.File;
-import java.io.FileOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
-import java.nio.file.FileVisitResult;
-import java.nio.file.FileVisitor;
+import java.io.InputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.attribute.BasicFileAttributes;
-import java.time.Duration;
-import java.time.Instant;
-import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.data.release.io.Workspace;
+import org.springframework.data.release.model.Gpg;
 import org.springframework.data.release.model.ModuleIteration;
 import org.springframework.data.release.model.TrainIteration;
+import org.springframework.data.release.utils.ExecutionUtils;
 import org.springframework.data.release.utils.Logger;
+import org.springframework.data.util.Streamable;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -59,8 +63,6 @@ import org.springframework.http.converter.FormHttpMessageConverter;
 import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestOperations;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 
@@ -72,26 +74,39 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
  * @author Mark Paluch
  */
 @Component
-public class MavenPublisher {
+public class MavenPublisher implements DisposableBean {
 
-	private static final String UPLOAD_URI = "/api/v1/publisher/upload?name={deploymentName}&publishingType=USER_MANAGED";
 	private static final String DEPLOYMENT_STATUS = "/api/v1/publisher/status?id={deploymentId}";
 	private static final String PUBLISH_DEPLOYMENT = "/api/v1/publisher/deployment/{deploymentId}";
+	private static final int PIPE_SIZE = 1024 * 1024;
 
 	private final Logger logger;
 	private final Workspace workspace;
 	private final DeploymentProperties properties;
 	private final RestOperations restTemplate;
+	private final BundleUploader uploader;
+	private final DeploymentValidator validator;
+	private final Gpg gpg;
+	private final Executor executor;
 
 	public MavenPublisher(Logger logger, Workspace workspace, DeploymentProperties properties,
-			RestTemplateBuilder builder) {
+			RestTemplateBuilder builder, Gpg gpg, @Qualifier("ioExecutor") Executor executor) {
 
 		this.logger = logger;
 		this.workspace = workspace;
 		this.properties = properties;
+		this.gpg = gpg;
+		this.executor = executor;
 		this.restTemplate = createOperations(
 				builder.additionalMessageConverters(new FormHttpMessageConverter(), new StringHttpMessageConverter()),
 				properties.getMavenCentral());
+		this.uploader = new BundleUploader(restTemplate, logger, properties.getMavenCentral());
+		this.validator = new DeploymentValidator(this::getStatus, logger, properties.getMavenCentral());
+	}
+
+	@Override
+	public void destroy() {
+		validator.destroy();
 	}
 
 	private static RestOperations createOperations(RestTemplateBuilder templateBuilder,
@@ -150,6 +165,41 @@ public class MavenPublisher {
 		return LocalStagingRepository.of(stagingDirectory);
 	}
 
+	/**
+	 * Sign all staged artifacts and create their checksums in-process and in parallel. The signing key is unlocked only
+	 * once. Signing is skipped if the GPG configuration does not allow in-process signing in which case the Maven GPG
+	 * plugin has signed the artifacts already during the deployment.
+	 *
+	 * @param iteration
+	 * @param localStaging
+	 * @throws IOException
+	 */
+	public void signStagedArtifacts(TrainIteration iteration, StagingRepository localStaging) throws IOException {
+
+		Assert.notNull(localStaging, "Local StagingRepository must not be null");
+
+		Gpg gpg = properties.getMavenCentral().getGpg(this.gpg);
+
+		if (!localStaging.isPresent() || !gpg.isInProcessSigningAvailable()) {
+			return;
+		}
+
+		Assert.isInstanceOf(LocalStagingRepository.class, localStaging);
+
+		List<Path> artifacts;
+		try (Stream<Path> files = Files.walk(((LocalStagingRepository) localStaging).getFile().toPath())) {
+			artifacts = files.filter(Files::isRegularFile).filter(ArtifactSigner::isArtifact).toList();
+		}
+
+		logger.log(iteration, "🔏 Signing %d staged artifacts…", artifacts.size());
+
+		ArtifactSigner signer = ArtifactSigner.of(gpg);
+		int files = ExecutionUtils.runAndReturn(executor, Streamable.of(artifacts), it -> signer.sign(it).size(),
+				Collectors.summingInt(Integer::intValue));
+
+		logger.log(iteration, "🔏 Signed %d staged artifacts (%d signature and checksum files)", artifacts.size(), files);
+	}
+
 	/**
 	 * Upload a compressed version of the staged artifacts to Maven Publisher.
 	 *
@@ -166,33 +216,44 @@ public class MavenPublisher {
 		Assert.isTrue(localStaging.isPresent(), "Local StagingRepository must be present");
 		Assert.isInstanceOf(LocalStagingRepository.class, localStaging);
 
-		File zipFile = compressStagedArtifacts(iteration.getTrainIteration(), (LocalStagingRepository) localStaging);
+		LocalStagingRepository staging = (LocalStagingRepository) localStaging;
 
-		return uploadStagingFile(iteration, deploymentName, zipFile);
-	}
+		if (properties.getMavenCentral().isStreamingUpload()) {
 
-	private StagingRepository uploadStagingFile(ModuleIteration iteration, String deploymentName, File zipFile) {
+			Path root = staging.getFile().toPath();
+			List<Path> files = getStagedFiles(staging);
 
-		HttpHeaders headers = new HttpHeaders();
-		headers.setContentType(MediaType.MULTIPART_FORM_DATA);
-		headers.setAccept(Collections.singletonList(MediaType.TEXT_PLAIN));
+			logger.log(iteration, "🗜️ Streaming %d staged files…", files.size());
 
-		MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-		body.add("bundle", new FileSystemResource(zipFile));
+			return uploader.upload(iteration, deploymentName, () -> openStreamingBundle(root, files), -1);
+		}
 
-		logger.log(iteration, "🚛 Uploading staging file …");
-		ResponseEntity<String> upload = restTemplate.postForEntity(UPLOAD_URI, new HttpEntity<>(body, headers),
-				String.class, Collections.singletonMap("deploymentName", deploymentName));
+		File zipFile = compressStagedArtifacts(iteration.getTrainIteration(), staging);
 
-		if (upload.getStatusCode().is2xxSuccessful()) {
+		return uploader.upload(iteration, deploymentName, new FileSystemResource(zipFile), zipFile.length());
+	}
 
-			String deploymentId = upload.getBody();
-			logger.log(iteration, "📦 Staging file uploaded successfully. Created deploymentId '%s'", deploymentId);
-			return StagingRepository.of(deploymentId);
-		}
+	/**
+	 * Open a stream of the bundle of the staged artifacts while compressing them. The bundle is written to a pipe that is
+	 * consumed by the (chunked) multipart request so that compression and network transfer overlap and no intermediate
+	 * zip file is required.
+	 */
+	private InputStream openStreamingBundle(Path root, List<Path> files) throws IOException {
 
-		throw new IllegalStateException(
-				String.format("😵‍💫 Staging upload of '%s' failed: %s %s", zipFile, upload.getStatusCode(), upload.getBody()));
+		PipedInputStream pipe = new PipedInputStream(PIPE_SIZE);
+		PipedOutputStream sink = new PipedOutputStream(pipe);
+
+		// dedicated thread as the I/O executor may run tasks in the calling thread that consumes the pipe
+		CompletableFuture<Integer> writer = CompletableFuture.supplyAsync(() -> {
+
+			try (WritableByteChannel channel = Channels.newChannel(sink)) {
+				return new BundleWriter(executor).write(root, files, channel);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}, runnable -> new Thread(runnable, "central-bundle-writer").start());
+
+		return new BundleInputStream(pipe, writer);
 	}
 
 	/**
@@ -252,107 +313,61 @@ public class MavenPublisher {
 		File zipFile = getStagingFile();
 
 		logger.log(iteration, "🗜️ Creating staging file '%s'…", zipFile);
-		FileOutputStream zip = new FileOutputStream(zipFile);
-		ZipOutputStream zos = new ZipOutputStream(new BufferedOutputStream(zip));
-
-		AtomicLong counter = new AtomicLong();
-		Path root = stagingDirectory.getFile().toPath();
-		Files.walkFileTree(root, new FileVisitor<Path>() {
-
-			@Override
-			public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
-				return FileVisitResult.CONTINUE;
-			}
 
-			@Override
-			public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+		int count = new BundleWriter(executor).write(stagingDirectory.getFile().toPath(),
+				getStagedFiles(stagingDirectory), zipFile.toPath());
 
-				if (file.getFileName().toString().contains("maven-metadata.")
-						|| file.getFileName().toString().startsWith(".")) {
-					return FileVisitResult.CONTINUE;
-				}
-
-				String entry = root.relativize(file).toString();
-				zos.putNextEntry(new ZipEntry(entry));
-				Files.copy(file, zos);
-				zos.closeEntry();
-
-				counter.incrementAndGet();
-
-				return FileVisitResult.CONTINUE;
-			}
-
-			@Override
-			public FileVisitResult visitFileFailed(Path file, IOException exc) throws IOException {
-				throw exc;
-			}
-
-			@Override
-			public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
-
-				if (exc != null) {
-					throw exc;
-				}
-				return FileVisitResult.CONTINUE;
-			}
-		});
-
-		zos.close();
-
-		if (counter.get() == 0) {
-			throw new IllegalStateException(String.format("Staging directory '%s' empty", stagingDirectory));
-		}
-
-		logger.log(iteration, "🗜️ Created staging file '%s' with %d files", zipFile, counter.get());
+		logger.log(iteration, "🗜️ Created staging file '%s' with %d files", zipFile, count);
 
 		return zipFile;
 	}
 
 	/**
-	 * Validate the deployment.
+	 * Validate the deployment by polling its status asynchronously. Polling starts with a short interval that grows for
+	 * long-running validations. The returned future completes exceptionally with {@link IllegalStateException} if
+	 * validation fails or with {@link java.util.concurrent.TimeoutException} if the validation timeout is exceeded.
 	 *
 	 * @param iteration
 	 * @param deploymentId
 	 * @return
-	 * @throws TimeoutException
 	 */
-	public DeploymentStatus validate(TrainIteration iteration, StagingRepository deploymentId)
-			throws TimeoutException, InterruptedException {
-
-		long maxWaitSeconds = TimeUnit.MILLISECONDS
-				.toSeconds(properties.getMavenCentral().getValidationTimeout().toMillis());
-
-		Instant start = Instant.now();
-		boolean validating = false;
-		while (Duration.between(start, Instant.now()).get(ChronoUnit.SECONDS) < maxWaitSeconds) {
+	public CompletableFuture<DeploymentStatus> validate(TrainIteration iteration, StagingRepository deploymentId) {
+		return validator.validate(iteration, deploymentId);
+	}
 
-			DeploymentStatus status = getStatus(deploymentId);
+	/**
+	 * Validate multiple deployments concurrently.
+	 *
+	 * @param iteration
+	 * @param deploymentIds
+	 * @return
+	 * @see #validate(TrainIteration, StagingRepository)
+	 */
+	public CompletableFuture<List<DeploymentStatus>> validate(TrainIteration iteration,
+			List<StagingRepository> deploymentIds) {
+		return validator.validate(iteration, deploymentIds);
+	}
 
-			switch (status.getDeploymentState()) {
+	/**
+	 * Returns the files to bundle in a stable order excluding Maven metadata and hidden files.
+	 */
+	private static List<Path> getStagedFiles(LocalStagingRepository stagingDirectory) throws IOException {
 
-				case PENDING:
-				case VALIDATING:
-					if (!validating) {
-						logger.log(iteration, "⏳ Validation. Waiting for completion…");
-						validating = true;
-					}
-					break;
+		List<Path> files;
 
-				case VALIDATED:
-				case PUBLISHED:
-					logger.log(iteration, "✅ Validation successful.");
-					return status;
+		try (Stream<Path> stream = Files.walk(stagingDirectory.getFile().toPath())) {
+			files = stream.filter(Files::isRegularFile).filter(it -> {
 
-				case FAILED:
-					logger.log(iteration, "⚠️ Validation failed: %s", status.getErrorDetail());
-					throw new IllegalStateException("Deployment Validation failed");
-			}
+				String name = it.getFileName().toString();
+				return !name.contains("maven-metadata.") && !name.startsWith(".");
+			}).sorted().toList();
+		}
 
-			TimeUnit.SECONDS.sleep(5);
+		if (files.isEmpty()) {
+			throw new IllegalStateException(String.format("Staging directory '%s' empty", stagingDirectory));
 		}
 
-		throw new TimeoutException(String.format("Validation timeout '%d seconds' exceeded: %d seconds", maxWaitSeconds,
-				Duration.between(start, Instant.now()).get(ChronoUnit.SECONDS)));
+		return files;
 	}
 
 	File getStagingDirectory() {
@@ -397,6 +412,45 @@ public class MavenPublisher {
 
 	}
 
+	/**
+	 * Pipe end that reports a failure of the bundle writer instead of signalling a regular end of the stream that would
+	 * result in uploading a truncated bundle. Closing the stream unblocks the writer if the upload fails.
+	 */
+	private static class BundleInputStream extends FilterInputStream {
+
+		private final CompletableFuture<?> writer;
+
+		BundleInputStream(InputStream in, CompletableFuture<?> writer) {
+			super(in);
+			this.writer = writer;
+		}
+
+		@Override
+		public int read() throws IOException {
+			return checkWriter(super.read());
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			return checkWriter(super.read(b, off, len));
+		}
+
+		private int checkWriter(int read) throws IOException {
+
+			if (read != -1) {
+				return read;
+			}
+
+			try {
+				writer.join();
+			} catch (CompletionException e) {
+				throw new BundleUploader.BundleException("Cannot create staging bundle", e.getCause());
+			}
+
+			return read;
+		}
+	}
+
 	@Getter
 	static class LocalStagingRepository extends StagingRepository {
 
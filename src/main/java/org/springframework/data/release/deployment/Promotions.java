@@ -0,0 +1,181 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.deployment;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.springframework.data.release.model.ModuleIteration;
+import org.springframework.data.release.utils.ExecutionUtils.ConsumerWithException;
+import org.springframework.data.release.utils.Logger;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.Assert;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * Runs Artifactory operations (promotions, release bundle creation) for multiple modules concurrently with bounded
+ * parallelism. Operations failing with a server error, a throttling response or an I/O error are retried as the
+ * operations are idempotent. Failures of all modules are collected as {@link Errors} and reported once all operations
+ * have completed.
+ *
+ * @author Mark Paluch
+ */
+class Promotions {
+
+	private final Logger logger;
+	private final DeploymentProperties.Promotion properties;
+	private final Executor executor;
+
+	/**
+	 * Creates a new {@link Promotions}.
+	 *
+	 * @param logger must not be {@literal null}.
+	 * @param properties must not be {@literal null}.
+	 * @param executor must not be {@literal null}.
+	 */
+	Promotions(Logger logger, DeploymentProperties.Promotion properties, Executor executor) {
+
+		Assert.notNull(logger, "Logger must not be null!");
+		Assert.notNull(properties, "Promotion properties must not be null!");
+		Assert.notNull(executor, "Executor must not be null!");
+
+		this.logger = logger;
+		this.properties = properties;
+		this.executor = executor;
+	}
+
+	/**
+	 * Runs {@code action} for each element using at most {@link DeploymentProperties.Promotion#getConcurrency()}
+	 * concurrent executions and waits for all executions to complete.
+	 *
+	 * @param operation name of the operation for logging, must not be {@literal null}.
+	 * @param elements must not be {@literal null}.
+	 * @param module function to obtain the module of an element, must not be {@literal null}.
+	 * @param action must not be {@literal null}.
+	 * @throws IllegalStateException if the operation failed for at least one element.
+	 */
+	<T> void run(String operation, Collection<T> elements, Function<T, ModuleIteration> module,
+			ConsumerWithException<T> action) {
+
+		Assert.hasText(operation, "Operation must not be empty!");
+		Assert.notNull(elements, "Elements must not be null!");
+		Assert.notNull(module, "Module function must not be null!");
+		Assert.notNull(action, "Action must not be null!");
+
+		List<T> list = new ArrayList<>(elements);
+		AtomicInteger next = new AtomicInteger();
+		AtomicReferenceArray<Errors> failures = new AtomicReferenceArray<>(list.size());
+
+		int workers = Math.max(1, Math.min(properties.getConcurrency(), list.size()));
+
+		// each worker takes the next element once done so that at most `workers` requests are in flight
+		CompletableFuture<?>[] futures = IntStream.range(0, workers).mapToObj(worker -> CompletableFuture.runAsync(() -> {
+
+			for (int index = next.getAndIncrement(); index < list.size(); index = next.getAndIncrement()) {
+
+				T element = list.get(index);
+
+				try {
+					runWithRetry(operation, element, module.apply(element), action);
+				} catch (Exception o_O) {
+					failures.set(index, toErrors(o_O));
+				}
+			}
+		}, executor)).toArray(CompletableFuture[]::new);
+
+		CompletableFuture.allOf(futures).join();
+
+		List<ModuleIteration> failed = new ArrayList<>();
+
+		for (int i = 0; i < list.size(); i++) {
+
+			Errors errors = failures.get(i);
+
+			if (errors == null) {
+				continue;
+			}
+
+			ModuleIteration failedModule = module.apply(list.get(i));
+			failed.add(failedModule);
+
+			logger.warn(failedModule, "%s failed!", operation);
+			errors.getErrors().forEach(it -> logger.warn(failedModule, "  %s", it));
+			errors.getMessages().forEach(it -> logger.warn(failedModule, "  %s", it));
+		}
+
+		if (!failed.isEmpty()) {
+			throw new IllegalStateException(String.format("%s failed for %d of %d modules: %s", operation, failed.size(),
+					list.size(), failed.stream().map(ModuleIteration::toString).collect(Collectors.joining(", "))));
+		}
+	}
+
+	private <T> void runWithRetry(String operation, T element, ModuleIteration module, ConsumerWithException<T> action)
+			throws Exception {
+
+		Duration backoff = properties.getBackoff();
+
+		for (int attempt = 1;; attempt++) {
+
+			try {
+				action.accept(element);
+				return;
+			} catch (Exception o_O) {
+
+				if (attempt > properties.getRetries() || !isRetryable(o_O)) {
+					throw o_O;
+				}
+
+				logger.warn(module, "⚠️ %s failed (%s). Retrying in %s…", operation, o_O.getMessage(), backoff);
+
+				TimeUnit.MILLISECONDS.sleep(backoff.toMillis());
+				backoff = backoff.multipliedBy(2);
+			}
+		}
+	}
+
+	/**
+	 * Returns whether the failure is transient.
+	 */
+	static boolean isRetryable(Exception o_O) {
+
+		if (o_O instanceof HttpStatusCodeException status) {
+			return status.getStatusCode().is5xxServerError()
+					|| status.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS);
+		}
+
+		return o_O instanceof ResourceAccessException;
+	}
+
+	private static Errors toErrors(Exception o_O) {
+
+		if (o_O instanceof HttpStatusCodeException status) {
+			return Errors.from(status);
+		}
+
+		return Errors.of(0, o_O.getMessage() != null ? o_O.getMessage() : o_O.getClass().getName());
+	}
+}
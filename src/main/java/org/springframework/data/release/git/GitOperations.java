@@ -66,6 +66,7 @@ import org.eclipse.jgit.transport.RemoteRefUpdate;
 import org.eclipse.jgit.transport.TagOpt;
 import org.eclipse.jgit.transport.URIish;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.release.io.Workspace;
 import org.springframework.data.release.issues.IssueTracker;
 import org.springframework.data.release.issues.Ticket;
@@ -100,7 +101,7 @@ public class GitOperations {
 	}
 
 	GitServer server = new GitServer();
-	Executor executor;
+	@Qualifier("ioExecutor") Executor executor;
 	Workspace workspace;
 	Logger logger;
 	PluginRegistry<IssueTracker, SupportedProject> issueTracker;
@@ -228,27 +229,43 @@ public class GitOperations {
 
 	public void prepare(TrainIteration iteration) {
 
-		ExecutionUtils.run(executor, iteration, module -> {
+		ExecutionUtils.run(executor, iteration, this::pull);
 
-			SupportedProject project = module.getSupportedProject();
-			Branch branch = Branch.from(module);
+		reset(iteration);
+	}
 
-			update(project, branch);
-			checkout(project, branch);
+	/**
+	 * Prepares the repository of the given {@link ModuleIteration} by checking out and updating its branch and resetting
+	 * the branch to its remote state.
+	 *
+	 * @param module must not be {@literal null}.
+	 */
+	public void prepare(ModuleIteration module) {
 
-			logger.log(project, "Pulling latest updates for branch %s…", branch);
+		Assert.notNull(module, "Module iteration must not be null!");
 
-			doWithGit(project, git -> {
+		pull(module);
+		reset(module.getSupportedProject(), Branch.from(module));
+	}
 
-				logger.log(project, "git pull origin %s", branch);
+	private void pull(ModuleIteration module) {
 
-				call(git.pull().setRebase(true));
-			});
+		SupportedProject project = module.getSupportedProject();
+		Branch branch = Branch.from(module);
+
+		update(project, branch);
+		checkout(project, branch);
+
+		logger.log(project, "Pulling latest updates for branch %s…", branch);
+
+		doWithGit(project, git -> {
+
+			logger.log(project, "git pull origin %s", branch);
 
-			logger.log(project, "Pulling updates done!", branch);
+			call(git.pull().setRebase(true));
 		});
 
-		reset(iteration);
+		logger.log(project, "Pulling updates done!", branch);
 	}
 
 	public void update(Train train) {
@@ -711,22 +728,31 @@ public class GitOperations {
 
 		Assert.notNull(iteration, "Train iteration must not be null!");
 
-		ExecutionUtils.run(executor, iteration, module -> {
+		ExecutionUtils.run(executor, iteration, this::tagRelease);
+	}
 
-			SupportedProject project = module.getSupportedProject();
-			ObjectId hash = getReleaseHash(module);
-			Tag tag = getTags(project).createTag(module);
+	/**
+	 * Tags the release commit for the given {@link ModuleIteration}.
+	 *
+	 * @param module must not be {@literal null}.
+	 */
+	public void tagRelease(ModuleIteration module) {
 
-			doWithGit(project, git -> {
+		Assert.notNull(module, "Module iteration must not be null!");
+
+		SupportedProject project = module.getSupportedProject();
+		ObjectId hash = getReleaseHash(module);
+		Tag tag = getTags(project).createTag(module);
 
-				try (RevWalk walk = new RevWalk(git.getRepository())) {
+		doWithGit(project, git -> {
 
-					RevCommit commit = walk.parseCommit(hash);
+			try (RevWalk walk = new RevWalk(git.getRepository())) {
 
-					logger.log(module, "git tag %s %s", tag, hash.getName());
-					git.tag().setName(tag.toString()).setObjectId(commit).call();
-				}
-			});
+				RevCommit commit = walk.parseCommit(hash);
+
+				logger.log(module, "git tag %s %s", tag, hash.getName());
+				git.tag().setName(tag.toString()).setObjectId(commit).call();
+			}
 		});
 	}
 
@@ -759,6 +785,24 @@ public class GitOperations {
 				module -> commit(module, expandSummary(summary, module, iteration), details));
 	}
 
+	/**
+	 * Commits all changes currently made to the given {@link ModuleIteration} as part of the given
+	 * {@link TrainIteration}. Like {@link #commit(TrainIteration, String)}, the summary can contain a single {@code %s}
+	 * placeholder which the version of the module will get replace into.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @param iteration must not be {@literal null}.
+	 * @param summary must not be {@literal null} or empty.
+	 */
+	public void commit(ModuleIteration module, TrainIteration iteration, String summary) {
+
+		Assert.notNull(module, "Module iteration must not be null!");
+		Assert.notNull(iteration, "Train iteration must not be null!");
+		Assert.hasText(summary, "Summary must not be null or empty!");
+
+		commit(module, expandSummary(summary, module, iteration), Optional.empty());
+	}
+
 	/**
 	 * Commits the given files for the given {@link ModuleIteration} using the given summary for the commit message. If no
 	 * files are given, all pending changes are committed.
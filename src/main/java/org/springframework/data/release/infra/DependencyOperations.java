@@ -46,6 +46,7 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.release.build.Pom;
 import org.springframework.data.release.git.GitOperations;
 import org.springframework.data.release.io.Workspace;
@@ -94,7 +95,7 @@ public class DependencyOperations {
 	private final GitOperations gitOperations;
 	private final Workspace workspace;
 	private final TicketOperations tickets;
-	private final ExecutorService executor;
+	private final @Qualifier("ioExecutor") ExecutorService executor;
 	private final RestOperations restOperations;
 	private final Logger logger;
 
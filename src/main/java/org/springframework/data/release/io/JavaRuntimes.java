@@ -40,6 +40,7 @@ import org.springframework.boot.system.SystemProperties;
 import org.springframework.data.release.model.JavaVersion;
 import org.springframework.data.release.model.Version;
 import org.springframework.data.util.Lazy;
+import org.springframework.lang.Nullable;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.StreamUtils;
 
@@ -59,9 +60,10 @@ public class JavaRuntimes {
 			new JavaHomeJdkDetector());
 	private static final Lazy<List<JdkInstallation>> JDKS = Lazy.of(() -> {
 
-		List<JdkInstallation> jdks = DETECTORS.stream() //
+		// detectors run in parallel as a cold cache requires directory scans and external processes
+		List<JdkInstallation> jdks = DETECTORS.parallelStream() //
 				.filter(JdkDetector::isAvailable) //
-				.flatMap(it -> it.detect().stream()) //
+				.flatMap(it -> detect(it, RuntimeCache.getDefault()).stream()) //
 				.sorted() //
 				.collect(Collectors.toList());
 
@@ -108,6 +110,31 @@ public class JavaRuntimes {
 		return file.exists() && file.isDirectory();
 	}
 
+	/**
+	 * Detects JDK installations using the given {@link JdkDetector} considering cached installations if the detector
+	 * scans a {@link JdkDetector#getLocation() location}.
+	 *
+	 * @param detector
+	 * @param cache
+	 * @return
+	 */
+	static List<JdkInstallation> detect(JdkDetector detector, RuntimeCache cache) {
+
+		File location = detector.getLocation();
+
+		if (location == null) {
+			return detector.detect();
+		}
+
+		return cache.get("jdk." + detector.getClass().getSimpleName(), location, detector::detect,
+				it -> String.join("|", it.getVersion().toString(), it.getName(), it.getImplementor(), it.getHome().getPath()),
+				it -> {
+
+					String[] parts = it.split("\\|", 4);
+					return new JdkInstallation(Version.parse(parts[0]), parts[1], parts[2], new File(parts[3]));
+				}, JdkInstallation::getHome);
+	}
+
 	/**
 	 * JDK detection strategy.
 	 */
@@ -123,6 +150,15 @@ public class JavaRuntimes {
 		 */
 		List<JdkInstallation> detect();
 
+		/**
+		 * @return the directory scanned by this detector whose modification time validates cached installations or
+		 *         {@literal null} if detection is not cached.
+		 */
+		@Nullable
+		default File getLocation() {
+			return null;
+		}
+
 	}
 
 	/**
@@ -206,6 +242,11 @@ public class JavaRuntimes {
 			return isDirectory(sdkManJavaHome);
 		}
 
+		@Override
+		public File getLocation() {
+			return sdkManJavaHome;
+		}
+
 		@Override
 		public List<JdkInstallation> detect() {
 
@@ -298,6 +339,11 @@ public class JavaRuntimes {
 					&& javaHomeBinary.exists() && SystemProperties.get("os.name").contains("Mac");
 		}
 
+		@Override
+		public File getLocation() {
+			return nativeInstallationDirectory;
+		}
+
 		@Override
 		@SneakyThrows
 		public List<JdkInstallation> detect() {
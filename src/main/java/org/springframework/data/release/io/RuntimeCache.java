@@ -0,0 +1,210 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.io;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.io.FileUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Persistent cache for detected JDK and Maven installations to avoid scanning installation directories and running
+ * {@code mvn -v} on each start. Entries are stored per key and scanned directory and remain valid as long as the
+ * modification times of the directory and of the cached installations are unchanged. Adding or removing an installation
+ * modifies the scanned directory while updating an installation in place modifies its home, {@code bin} or {@code lib}
+ * directory so that either invalidates the entry.
+ *
+ * @author Mark Paluch
+ */
+@Slf4j
+public class RuntimeCache {
+
+	private static final RuntimeCache DEFAULT = new RuntimeCache(
+			new File(FileUtils.getUserDirectoryPath(), ".spring-data-release/runtimes.properties"));
+
+	private static final String SEPARATOR = "\n";
+
+	private final File file;
+	private final Properties properties = new Properties();
+	private boolean loaded;
+
+	/**
+	 * Creates a new {@link RuntimeCache} persisting its entries in the given file.
+	 *
+	 * @param file must not be {@literal null}.
+	 */
+	public RuntimeCache(File file) {
+
+		Assert.notNull(file, "File must not be null!");
+
+		this.file = file;
+	}
+
+	/**
+	 * Returns the cache persisted in {@code ~/.spring-data-release/runtimes.properties}.
+	 *
+	 * @return
+	 */
+	public static RuntimeCache getDefault() {
+		return DEFAULT;
+	}
+
+	/**
+	 * Returns the cached value for {@code key} and {@code directory} or obtains it from the {@link Supplier loader} if
+	 * the entry is absent or the directory has been modified since the value was cached. The directory is considered
+	 * the installation the value was obtained from.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param directory must not be {@literal null}.
+	 * @param loader must not be {@literal null}.
+	 * @return
+	 */
+	public String get(String key, File directory, Supplier<String> loader) {
+		return get(key, directory, () -> List.of(loader.get()), Function.identity(), Function.identity(), it -> directory)
+				.get(0);
+	}
+
+	/**
+	 * Returns the cached values for {@code key} and {@code directory} or obtains them from the {@link Supplier loader}
+	 * if the entry is absent or if the directory or one of the installations has been modified since the values were
+	 * cached. Values are stored in their {@code String} representation and must not contain line breaks.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param directory must not be {@literal null}.
+	 * @param loader must not be {@literal null}.
+	 * @param writer function to obtain the {@code String} representation of a value.
+	 * @param reader function to restore a value from its {@code String} representation.
+	 * @param installation function to obtain the installation directory of a value.
+	 * @return
+	 */
+	public <T> List<T> get(String key, File directory, Supplier<List<T>> loader, Function<T, String> writer,
+			Function<String, T> reader, Function<T, File> installation) {
+
+		Assert.hasText(key, "Key must not be empty!");
+		Assert.notNull(directory, "Directory must not be null!");
+		Assert.notNull(installation, "Installation function must not be null!");
+
+		String prefix = key + "@" + directory.getAbsolutePath();
+		String[] cached = getProperty(prefix);
+
+		if (cached != null) {
+
+			try {
+
+				List<T> values = Arrays.stream(cached[1].split(SEPARATOR)).filter(StringUtils::hasText).map(reader)
+						.collect(Collectors.toList());
+
+				if (cached[0].equals(getModified(directory, values, installation))) {
+					return values;
+				}
+			} catch (RuntimeException e) {
+				log.debug(String.format("Discarding cached runtimes for %s", prefix), e);
+			}
+		}
+
+		// obtain values without holding the lock as detection may run external processes
+		List<T> values = loader.get();
+
+		setProperty(prefix, getModified(directory, values, installation),
+				values.stream().map(writer).collect(Collectors.joining(SEPARATOR)));
+
+		return values;
+	}
+
+	/**
+	 * Returns the modification times of the scanned directory and of the home, {@code bin} and {@code lib} directories
+	 * of each installation.
+	 */
+	private static <T> String getModified(File directory, List<T> values, Function<T, File> installation) {
+
+		Stream<File> installations = values.stream().map(installation)
+				.flatMap(it -> Stream.of(it, new File(it, "bin"), new File(it, "lib")));
+
+		return Stream.concat(Stream.of(directory), installations).map(it -> Long.toString(it.lastModified()))
+				.collect(Collectors.joining(","));
+	}
+
+	@Nullable
+	private synchronized String[] getProperty(String prefix) {
+
+		load();
+
+		String modified = properties.getProperty(prefix + ".modified");
+		String values = properties.getProperty(prefix + ".values");
+
+		return modified != null && values != null ? new String[] { modified, values } : null;
+	}
+
+	private synchronized void setProperty(String prefix, String modified, String values) {
+
+		load();
+
+		properties.setProperty(prefix + ".modified", modified);
+		properties.setProperty(prefix + ".values", values);
+
+		try {
+
+			Files.createDirectories(file.getParentFile().toPath());
+
+			File temp = new File(file.getParentFile(), file.getName() + ".tmp");
+
+			try (OutputStream os = new FileOutputStream(temp)) {
+				properties.store(os, "Detected JDK and Maven installations");
+			}
+
+			Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			log.warn(String.format("Cannot write runtime cache %s: %s", file, e.getMessage()));
+		}
+	}
+
+	private void load() {
+
+		if (loaded) {
+			return;
+		}
+
+		loaded = true;
+
+		if (!file.exists()) {
+			return;
+		}
+
+		try (InputStream is = new FileInputStream(file)) {
+			properties.load(is);
+		} catch (IOException e) {
+			log.warn(String.format("Cannot read runtime cache %s: %s", file, e.getMessage()));
+		}
+	}
+}
@@ -24,11 +24,15 @@ import lombok.experimental.FieldDefaults;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.release.CliComponent;
 import org.springframework.data.release.TimedCommand;
 import org.springframework.data.release.model.Module;
@@ -37,7 +41,9 @@ import org.springframework.data.release.model.Project;
 import org.springframework.data.release.model.Projects;
 import org.springframework.data.release.model.SupportedProject;
 import org.springframework.data.release.model.TrainIteration;
+import org.springframework.data.release.utils.ExecutionProgress;
 import org.springframework.data.release.utils.ExecutionUtils;
+import org.springframework.data.release.utils.Logger;
 import org.springframework.data.util.Streamable;
 import org.springframework.plugin.core.PluginRegistry;
 import org.springframework.shell.core.annotation.CliCommand;
@@ -54,7 +60,8 @@ import org.springframework.util.StringUtils;
 public class IssueTrackerCommands extends TimedCommand {
 
 	@NonNull PluginRegistry<IssueTracker, SupportedProject> tracker;
-	@NonNull Executor executor;
+	@NonNull @Qualifier("ioExecutor") Executor executor;
+	@NonNull Logger logger;
 
 	@CliCommand("tracker evict")
 	public void evict() {
@@ -86,9 +93,30 @@ public class IssueTrackerCommands extends TimedCommand {
 	@CliCommand(value = "tracker prepare")
 	public String trackerPrepare(@CliOption(key = "", mandatory = true) TrainIteration iteration) {
 
-		jiraSelfAssignReleaseTickets(iteration);
+		ExecutionProgress progress = ExecutionProgress.logging(logger, "Self-assign release tickets");
 
-		return jiraStartProgress(iteration);
+		Map<ModuleIteration, CompletableFuture<Ticket>> started = new ConcurrentHashMap<>();
+
+		try {
+
+			// start progress for each ticket as soon as it is assigned instead of waiting for all assignments
+			stream(executor, iteration, module -> {
+
+				getTrackerFor(module).assignReleaseTicketToMe(module);
+				return module;
+			}, progress).forEach(module -> started.put(module, CompletableFuture
+					.supplyAsync(() -> getTrackerFor(module).startReleaseTicketProgress(module), executor)));
+
+			return iteration.stream() //
+					.map(started::get) //
+					.map(CompletableFuture::join) //
+					.collect(Tickets.toTicketsCollector()).toString();
+
+		} catch (RuntimeException e) {
+
+			started.values().forEach(it -> it.cancel(false));
+			throw e;
+		}
 	}
 
 	/**
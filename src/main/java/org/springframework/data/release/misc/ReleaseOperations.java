@@ -20,6 +20,7 @@ import lombok.RequiredArgsConstructor;
 import java.util.Optional;
 
 import org.springframework.data.release.io.Workspace;
+import org.springframework.data.release.model.ModuleIteration;
 import org.springframework.data.release.model.TrainIteration;
 import org.springframework.data.release.utils.Logger;
 import org.springframework.stereotype.Component;
@@ -36,15 +37,16 @@ public class ReleaseOperations {
 	private final Logger logger;
 
 	public void updateResources(TrainIteration iteration) {
+		iteration.stream().forEach(this::updateResources);
+	}
 
-		iteration.stream().forEach(module -> {
+	public void updateResources(ModuleIteration module) {
 
-			boolean processed = workspace.processFile("src/main/resources/notice.txt", module.getSupportedProject(),
-					(line, number) -> Optional.of(number != 0 ? line : module.toString()));
+		boolean processed = workspace.processFile("src/main/resources/notice.txt", module.getSupportedProject(),
+				(line, number) -> Optional.of(number != 0 ? line : module.toString()));
 
-			if (processed) {
-				logger.log(module, "Updated notice.txt.");
-			}
-		});
+		if (processed) {
+			logger.log(module, "Updated notice.txt.");
+		}
 	}
 }
@@ -43,4 +43,14 @@ public class Gpg {
 	public boolean hasSecretKeyring() {
 		return !ObjectUtils.isEmpty(getSecretKeyring());
 	}
+
+	/**
+	 * Returns whether artifacts can be signed in-process which requires a secret keyring file to obtain the signing key
+	 * from.
+	 *
+	 * @return
+	 */
+	public boolean isInProcessSigningAvailable() {
+		return isGpgAvailable() && hasSecretKeyring();
+	}
 }
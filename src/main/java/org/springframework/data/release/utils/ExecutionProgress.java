@@ -0,0 +1,115 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.utils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.data.release.model.ProjectAware;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Tracks in-flight, completed and failed executions of {@link ExecutionUtils} and optionally reports each transition
+ * through {@link Logger}.
+ *
+ * @author Mark Paluch
+ */
+public class ExecutionProgress {
+
+	private final @Nullable Logger logger;
+	private final String context;
+
+	private final AtomicInteger running = new AtomicInteger();
+	private final AtomicInteger done = new AtomicInteger();
+	private final AtomicInteger failed = new AtomicInteger();
+
+	private ExecutionProgress(@Nullable Logger logger, String context) {
+		this.logger = logger;
+		this.context = context;
+	}
+
+	/**
+	 * Creates a new {@link ExecutionProgress} that tracks executions without reporting them.
+	 *
+	 * @return
+	 */
+	public static ExecutionProgress silent() {
+		return new ExecutionProgress(null, "");
+	}
+
+	/**
+	 * Creates a new {@link ExecutionProgress} reporting each transition using the given {@link Logger}.
+	 *
+	 * @param logger must not be {@literal null}.
+	 * @param context must not be {@literal null} or empty.
+	 * @return
+	 */
+	public static ExecutionProgress logging(Logger logger, String context) {
+
+		Assert.notNull(logger, "Logger must not be null!");
+		Assert.hasText(context, "Context must not be null or empty!");
+
+		return new ExecutionProgress(logger, context);
+	}
+
+	public int getRunning() {
+		return running.get();
+	}
+
+	public int getDone() {
+		return done.get();
+	}
+
+	public int getFailed() {
+		return failed.get();
+	}
+
+	void started(Object element) {
+
+		running.incrementAndGet();
+		report(element, "⏳ started");
+	}
+
+	void succeeded(Object element) {
+
+		running.decrementAndGet();
+		done.incrementAndGet();
+		report(element, "🆗 done");
+	}
+
+	void failed(Object element, Throwable cause) {
+
+		running.decrementAndGet();
+		failed.incrementAndGet();
+		report(element, "🧨 failed: " + cause.getMessage());
+	}
+
+	private void report(Object element, String status) {
+
+		if (logger != null) {
+			logger.log(context, "%s %s (%s)", getName(element), status, this);
+		}
+	}
+
+	private static String getName(Object element) {
+		return element instanceof ProjectAware it ? it.getProject().getName() : element.toString();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%d running, %d done, %d failed", getRunning(), getDone(), getFailed());
+	}
+}
@@ -17,13 +17,18 @@ package org.springframework.data.release.utils;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.function.Function;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.data.util.Streamable;
 import org.springframework.util.Assert;
@@ -92,6 +97,95 @@ public class ExecutionUtils {
 				collect(collector);
 	}
 
+	/**
+	 * Runs the given {@link Function} for each element in the given {@link Streamable} in parallel and returns a
+	 * {@link Stream} emitting the results in completion order. Consuming the {@link Stream} blocks until the next result
+	 * is available so that early results can be processed while remaining executions are still in flight. A failed
+	 * execution cancels all executions that did not start yet and surfaces as
+	 * {@link java.util.concurrent.CompletionException} once it is reached in the {@link Stream}.
+	 *
+	 * @param executor must not be {@literal null}.
+	 * @param streamable must not be {@literal null}.
+	 * @param function must not be {@literal null}.
+	 * @return
+	 */
+	public static <T, S> Stream<S> stream(Executor executor, Streamable<T> streamable, Function<T, S> function) {
+		return stream(executor, streamable, function, ExecutionProgress.silent());
+	}
+
+	/**
+	 * Runs the given {@link Function} for each element in the given {@link Streamable} in parallel and returns a
+	 * {@link Stream} emitting the results in completion order while reporting to the given {@link ExecutionProgress}.
+	 *
+	 * @param executor must not be {@literal null}.
+	 * @param streamable must not be {@literal null}.
+	 * @param function must not be {@literal null}.
+	 * @param progress must not be {@literal null}.
+	 * @return
+	 * @see #stream(Executor, Streamable, Function)
+	 */
+	public static <T, S> Stream<S> stream(Executor executor, Streamable<T> streamable, Function<T, S> function,
+			ExecutionProgress progress) {
+
+		Assert.notNull(executor, "Executor must not be null!");
+		Assert.notNull(streamable, "Streamable must not be null!");
+		Assert.notNull(function, "Function must not be null!");
+		Assert.notNull(progress, "ExecutionProgress must not be null!");
+
+		List<T> elements = streamable.toList();
+		List<CompletableFuture<S>> futures = new ArrayList<>(elements.size());
+		BlockingQueue<CompletableFuture<S>> completed = new LinkedBlockingQueue<>();
+
+		for (T element : elements) {
+
+			CompletableFuture<S> future = CompletableFuture.supplyAsync(() -> {
+
+				progress.started(element);
+
+				try {
+
+					S result = function.apply(element);
+					progress.succeeded(element);
+
+					return result;
+				} catch (RuntimeException e) {
+
+					progress.failed(element, e);
+					throw e;
+				}
+			}, executor);
+
+			futures.add(future);
+		}
+
+		for (CompletableFuture<S> future : futures) {
+
+			future.whenComplete((result, e) -> {
+
+				// enqueue the failure before cancelling so that it surfaces instead of a CancellationException
+				completed.add(future);
+
+				if (e != null && !future.isCancelled()) {
+					futures.forEach(it -> it.cancel(false));
+				}
+			});
+		}
+
+		return Stream.generate(() -> take(completed)) //
+				.limit(elements.size()) //
+				.map(CompletableFuture::join);
+	}
+
+	private static <T> T take(BlockingQueue<T> queue) {
+
+		try {
+			return queue.take();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for results", e);
+		}
+	}
+
 	public static interface ConsumerWithException<T> {
 
 		void accept(T t) throws Exception;
@@ -23,12 +23,16 @@ import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.scheduling.concurrent.ThreadPoolExecutorFactoryBean;
 
 /**
@@ -39,6 +43,7 @@ import org.springframework.scheduling.concurrent.ThreadPoolExecutorFactoryBean;
 class ExecutorConfiguration {
 
 	@Bean
+	@Primary
 	@ConditionalOnProperty(prefix = "maven", name = "parallelize")
 	public ThreadPoolExecutorFactoryBean threadPoolExecutorFactoryBean() {
 
@@ -54,11 +59,52 @@ class ExecutorConfiguration {
 	}
 
 	@Bean
+	@Primary
 	@ConditionalOnProperty(prefix = "maven", name = "parallelize", matchIfMissing = true, havingValue = "false")
 	public ExecutorService executorService() {
 		return ImmediateExecutorService.INSTANCE;
 	}
 
+	/**
+	 * Executor for I/O-bound operations (Git, issue tracker, dependency lookups) running on virtual threads so that
+	 * network-bound fan-outs do not occupy the platform thread pool reserved for Maven invocations. Falls back to a
+	 * cached thread pool on Java versions without virtual thread support.
+	 *
+	 * @return
+	 */
+	@Bean
+	@ConditionalOnProperty(prefix = "maven", name = "parallelize", havingValue = "virtual")
+	public ExecutorService ioExecutor() {
+
+		if (Runtime.version().feature() >= 21) {
+
+			log.info("Setting up Executor Service with virtual threads for I/O-bound operations");
+
+			try {
+				return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+			} catch (ReflectiveOperationException e) {
+				throw new IllegalStateException("Cannot create virtual thread executor", e);
+			}
+		}
+
+		log.warn(String.format("Virtual threads require Java 21, running on Java %d. Using a cached thread pool instead",
+				Runtime.version().feature()));
+
+		return Executors.newCachedThreadPool(new CustomizableThreadFactory("io-"));
+	}
+
+	/**
+	 * Shares the primary {@link ExecutorService} for I/O-bound operations if not running with virtual threads.
+	 *
+	 * @param executorService the primary executor.
+	 * @return
+	 */
+	@Bean(name = "ioExecutor", destroyMethod = "")
+	@ConditionalOnExpression("'${maven.parallelize:false}' != 'virtual'")
+	public ExecutorService sharedIoExecutor(ExecutorService executorService) {
+		return executorService;
+	}
+
 	enum ImmediateExecutorService implements ExecutorService {
 		INSTANCE;
 
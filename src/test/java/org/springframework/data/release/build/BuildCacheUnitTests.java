@@ -0,0 +1,273 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.build;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.stream.Stream;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.data.release.model.Password;
+import org.springframework.data.release.model.Projects;
+
+/**
+ * Unit tests for {@link BuildCache}.
+ *
+ * @author Mark Paluch
+ */
+class BuildCacheUnitTests {
+
+	static final CommandLine INSTALL = CommandLine.of(CommandLine.Goal.CLEAN, CommandLine.Goal.INSTALL);
+
+	@TempDir File tempDir;
+
+	File cacheDir;
+	File repository;
+	File commons;
+	File jpa;
+	BuildCache cache;
+
+	@BeforeEach
+	void setUp() throws IOException {
+
+		cacheDir = new File(tempDir, "cache");
+		repository = new File(tempDir, "repository");
+		commons = checkout("spring-data-commons");
+		jpa = checkout("spring-data-jpa");
+		cache = new BuildCache(cacheDir, repository, new BuildConfiguration().projectionFactory());
+	}
+
+	@Test
+	void shouldIgnoreBuildOutputAndVcsMetadata() throws IOException {
+
+		String key = cache.getKey(Projects.COMMONS, commons, INSTALL, "JDK 17");
+
+		write(commons, "target/classes/Foo.class", "binary");
+		write(commons, ".git/HEAD", "ref: refs/heads/main");
+
+		assertThat(cache.getKey(Projects.COMMONS, commons, INSTALL, "JDK 17")).isEqualTo(key);
+	}
+
+	@Test
+	void shouldChangeKeyOnSourcesCommandLineAndRuntime() throws IOException {
+
+		String key = cache.getKey(Projects.COMMONS, commons, INSTALL, "JDK 17");
+
+		assertThat(cache.getKey(Projects.COMMONS, commons, INSTALL, "JDK 21")).isNotEqualTo(key);
+		assertThat(cache.getKey(Projects.COMMONS, commons, INSTALL.and(CommandLine.Argument.SKIP_TESTS), "JDK 17"))
+				.isNotEqualTo(key);
+
+		write(commons, "src/main/java/Foo.java", "class Foo { int bar; }");
+
+		assertThat(cache.getKey(Projects.COMMONS, commons, INSTALL, "JDK 17")).isNotEqualTo(key);
+	}
+
+	@Test
+	void shouldChangeKeyOnResolvedExternalSnapshots() throws IOException {
+
+		write(commons, "pom.xml", """
+				<project>
+					<artifactId>spring-data-commons</artifactId>
+					<parent>
+						<groupId>org.springframework.data.build</groupId>
+						<artifactId>spring-data-parent</artifactId>
+						<version>3.5.0-SNAPSHOT</version>
+					</parent>
+					<properties>
+						<springframework>6.2.0-SNAPSHOT</springframework>
+					</properties>
+					<dependencyManagement>
+						<dependencies>
+							<dependency>
+								<groupId>org.springframework</groupId>
+								<artifactId>spring-framework-bom</artifactId>
+								<version>${springframework}</version>
+								<type>pom</type>
+								<scope>import</scope>
+							</dependency>
+						</dependencies>
+					</dependencyManagement>
+				</project>
+				""");
+
+		String unresolved = cache.getKey(Projects.COMMONS, commons, INSTALL, "JDK 17");
+
+		write(repository, "org/springframework/data/build/spring-data-parent/3.5.0-SNAPSHOT/maven-metadata-spring.xml",
+				"<timestamp>20250101.101010</timestamp>");
+		String parent = cache.getKey(Projects.COMMONS, commons, INSTALL, "JDK 17");
+
+		write(repository, "org/springframework/spring-framework-bom/6.2.0-SNAPSHOT/maven-metadata-spring.xml",
+				"<timestamp>20250101.101010</timestamp>");
+		String bom = cache.getKey(Projects.COMMONS, commons, INSTALL, "JDK 17");
+
+		write(repository, "org/springframework/spring-framework-bom/6.2.0-SNAPSHOT/maven-metadata-spring.xml",
+				"<timestamp>20250102.101010</timestamp>");
+
+		assertThat(parent).isNotEqualTo(unresolved);
+		assertThat(bom).isNotEqualTo(parent);
+		assertThat(cache.getKey(Projects.COMMONS, commons, INSTALL, "JDK 17")).isNotEqualTo(bom);
+	}
+
+	@Test
+	void shouldIgnoreSnapshotsBuiltByCheckout() throws IOException {
+
+		write(commons, "pom.xml", """
+				<project>
+					<artifactId>spring-data-commons</artifactId>
+					<dependencies>
+						<dependency>
+							<groupId>org.springframework.data</groupId>
+							<artifactId>spring-data-commons-core</artifactId>
+							<version>3.5.0-SNAPSHOT</version>
+						</dependency>
+					</dependencies>
+				</project>
+				""");
+		write(commons, "core/pom.xml", """
+				<project>
+					<artifactId>spring-data-commons-core</artifactId>
+				</project>
+				""");
+
+		String key = cache.getKey(Projects.COMMONS, commons, INSTALL, "JDK 17");
+
+		write(repository, "org/springframework/data/spring-data-commons-core/3.5.0-SNAPSHOT/maven-metadata-local.xml",
+				"<lastUpdated>20250102101010</lastUpdated>");
+
+		assertThat(cache.getKey(Projects.COMMONS, commons, INSTALL, "JDK 17")).isEqualTo(key);
+	}
+
+	@Test
+	void shouldNotCacheReleaseBuildsAndDeployments() {
+
+		assertThat(cache.isEnabled(INSTALL)).isTrue();
+		assertThat(cache.isEnabled(CommandLine.of(CommandLine.Goal.CLEAN, CommandLine.Goal.VALIDATE,
+				CommandLine.Argument.profile("pre-release")))).isTrue();
+		assertThat(cache.isEnabled(INSTALL.and(CommandLine.Argument.profile("ci", "release")))).isFalse();
+		assertThat(cache.isEnabled(CommandLine.of(CommandLine.Goal.CLEAN, CommandLine.Goal.DEPLOY))).isFalse();
+		assertThat(new BuildCache(null, repository, new BuildConfiguration().projectionFactory()).isEnabled(INSTALL))
+				.isFalse();
+	}
+
+	@Test
+	void shouldNotHashSecrets() {
+
+		CommandLine first = INSTALL.and(CommandLine.Argument.profile("ci", "release"))
+				.and(CommandLine.Argument.arg("gpg.passphrase").withValue(Password.of("first")));
+		CommandLine second = INSTALL.and(CommandLine.Argument.profile("ci", "release"))
+				.and(CommandLine.Argument.arg("gpg.passphrase").withValue("second"));
+
+		assertThat(BuildCache.getCacheableCommandLine(second)).isEqualTo("clean install -Pci,release -Dgpg.passphrase");
+		assertThat(cache.getKey(Projects.COMMONS, commons, first, "JDK 17"))
+				.isEqualTo(cache.getKey(Projects.COMMONS, commons, second, "JDK 17"));
+	}
+
+	@Test
+	void shouldRestoreInstalledArtifacts() throws IOException {
+
+		write(commons, "target/spring-data-commons.jar", "jar");
+		write(repository, "spring-data-commons.jar", "jar");
+		File jar = new File(commons, "target/spring-data-commons.jar");
+		File installed = new File(repository, "spring-data-commons.jar");
+
+		String key = cache.getKey(Projects.COMMONS, commons, INSTALL, "JDK 17");
+		cache.put(Projects.COMMONS, INSTALL, key, Stream.of("[INFO] Installing " + jar + " to " + installed));
+
+		Files.delete(jar.toPath());
+		Files.writeString(installed.toPath(), "modified");
+
+		assertThat(cache.get(Projects.COMMONS, key)).isPresent();
+		assertThat(jar).hasContent("jar");
+		assertThat(installed).hasContent("jar");
+	}
+
+	@Test
+	void shouldMissIfArtifactsCannotBeRestored() throws IOException {
+
+		write(repository, "spring-data-commons.jar", "jar");
+		File installed = new File(repository, "spring-data-commons.jar");
+
+		String key = cache.getKey(Projects.COMMONS, commons, INSTALL, "JDK 17");
+		cache.put(Projects.COMMONS, INSTALL, key, Stream.of("[INFO] Installing pom.xml to " + installed));
+
+		Files.delete(installed.toPath());
+		FileUtils.deleteDirectory(new File(cacheDir, "artifacts"));
+
+		assertThat(cache.get(Projects.COMMONS, key)).isEmpty();
+	}
+
+	@Test
+	void shouldInvalidateDownstreamModulesOnUpstreamChange() throws IOException {
+
+		cache.put(Projects.COMMONS, INSTALL, cache.getKey(Projects.COMMONS, commons, INSTALL, "JDK 17"), Stream.empty());
+		String key = cache.getKey(Projects.JPA, jpa, INSTALL, "JDK 17");
+
+		write(commons, "src/main/java/Foo.java", "class Foo { int bar; }");
+		cache.put(Projects.COMMONS, INSTALL, cache.getKey(Projects.COMMONS, commons, INSTALL, "JDK 17"), Stream.empty());
+
+		assertThat(cache.getKey(Projects.JPA, jpa, INSTALL, "JDK 17")).isNotEqualTo(key);
+	}
+
+	@Test
+	void shouldReturnRecordedOutputAndTrackHitRate() {
+
+		String key = cache.getKey(Projects.COMMONS, commons, INSTALL, "JDK 17");
+
+		assertThat(cache.get(Projects.COMMONS, key)).isEmpty();
+
+		cache.put(Projects.COMMONS, INSTALL, key, Stream.of("[INFO] BUILD SUCCESS"));
+
+		BuildCache reloaded = new BuildCache(cacheDir, repository, new BuildConfiguration().projectionFactory());
+
+		assertThat(reloaded.get(Projects.COMMONS, key)).hasValueSatisfying(
+				it -> assertThat(it).content().isEqualToIgnoringNewLines("[INFO] BUILD SUCCESS"));
+		assertThat(reloaded.getStatistics()).singleElement().satisfies(it -> {
+			assertThat(it.getProject()).isEqualTo("Commons");
+			assertThat(it.getHits()).isOne();
+			assertThat(it.getMisses()).isOne();
+			assertThat(it.getHitRate()).isEqualTo(0.5);
+		});
+
+		reloaded.clear();
+
+		assertThat(reloaded.getStatistics()).isEmpty();
+		assertThat(cacheDir).doesNotExist();
+	}
+
+	private File checkout(String name) throws IOException {
+
+		File directory = new File(tempDir, name);
+
+		write(directory, "pom.xml", "<project/>");
+		write(directory, "src/main/java/Foo.java", "class Foo {}");
+
+		return directory;
+	}
+
+	private static void write(File directory, String path, String content) throws IOException {
+
+		File file = new File(directory, path);
+		file.getParentFile().mkdirs();
+		Files.writeString(file.toPath(), content);
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.build;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.data.release.model.Projects;
+
+/**
+ * Unit tests for {@link BuildDurations}.
+ *
+ * @author Mark Paluch
+ */
+class BuildDurationsUnitTests {
+
+	@TempDir File directory;
+
+	@Test
+	void shouldPersistRecordedDurations() {
+
+		File history = new File(directory, "history.properties");
+
+		BuildDurations durations = new BuildDurations(history);
+		durations.record(Projects.COMMONS, List.of(CommandLine.Goal.CLEAN, CommandLine.Goal.INSTALL),
+				Duration.ofSeconds(90));
+
+		assertThat(history).exists();
+
+		BuildDurations reloaded = new BuildDurations(history);
+
+		assertThat(reloaded.getDuration(Projects.COMMONS, List.of(CommandLine.Goal.CLEAN, CommandLine.Goal.INSTALL)))
+				.isEqualTo(Duration.ofSeconds(90));
+		assertThat(reloaded.getDuration(Projects.COMMONS, List.of(CommandLine.Goal.VALIDATE))).isZero();
+	}
+
+	@Test
+	void shouldSmoothDurations() {
+
+		BuildDurations durations = new BuildDurations((File) null);
+		durations.record(Projects.JPA, List.of(CommandLine.Goal.INSTALL), Duration.ofSeconds(100));
+		durations.record(Projects.JPA, List.of(CommandLine.Goal.INSTALL), Duration.ofSeconds(50));
+
+		assertThat(durations.getDuration(Projects.JPA, List.of(CommandLine.Goal.INSTALL))).isEqualTo(Duration.ofSeconds(75));
+	}
+
+	@Test
+	void shouldEstimateLongestRecordedDuration() {
+
+		BuildDurations durations = new BuildDurations((File) null);
+		durations.record(Projects.JPA, List.of(CommandLine.Goal.VALIDATE), Duration.ofSeconds(10));
+		durations.record(Projects.JPA, List.of(CommandLine.Goal.INSTALL), Duration.ofSeconds(300));
+
+		assertThat(durations.estimate(Projects.JPA)).isEqualTo(Duration.ofSeconds(300));
+		assertThat(durations.estimate(Projects.MONGO_DB)).isZero();
+	}
+}
@@ -0,0 +1,389 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.build;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.Mockito.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.data.release.io.IoProperties;
+import org.springframework.data.release.io.Workspace;
+import org.springframework.data.release.model.JavaVersion;
+import org.springframework.data.release.model.Project;
+import org.springframework.data.release.model.Projects;
+import org.springframework.data.release.model.SupportStatus;
+import org.springframework.data.release.model.SupportedProject;
+import org.springframework.data.release.utils.Logger;
+import org.springframework.data.util.Streamable;
+import org.springframework.plugin.core.PluginRegistry;
+
+/**
+ * Unit tests for {@link BuildExecutor}.
+ *
+ * @author Mark Paluch
+ */
+class BuildExecutorUnitTests {
+
+	static final List<Project> PROJECTS = List.of(Projects.BUILD, Projects.COMMONS, Projects.MONGO_DB, Projects.JPA,
+			Projects.NEO4J, Projects.CASSANDRA, Projects.KEY_VALUE, Projects.REST, Projects.LDAP);
+
+	@TempDir File workDir;
+
+	ExecutorService executorService = Executors.newFixedThreadPool(4);
+	BuildSystem buildSystem = mock(BuildSystem.class);
+	BuildDurations durations = new BuildDurations((File) null);
+	Streamable<SupportedProject> modules;
+	Workspace workspace;
+	BuildExecutor executor;
+
+	@BeforeEach
+	void setUp() throws IOException {
+
+		IoProperties io = new IoProperties();
+		io.setWorkDir(workDir.getAbsolutePath());
+
+		workspace = new Workspace(io, new Logger());
+
+		modules = Streamable.of(PROJECTS.stream().map(it -> SupportedProject.of(it, SupportStatus.OSS))
+				.collect(Collectors.toList()));
+
+		for (SupportedProject module : modules) {
+
+			File ciProperties = workspace.getFile("ci/pipeline.properties", module);
+			ciProperties.getParentFile().mkdirs();
+			Files.writeString(ciProperties.toPath(), "java.main.tag=17.0.9_9-jdk-focal");
+		}
+
+		when(buildSystem.supports(any())).thenReturn(true);
+		when(buildSystem.withJavaVersion(any())).thenReturn(buildSystem);
+
+		executor = new BuildExecutor(PluginRegistry.of(buildSystem),
+				new BuildScheduler(executorService, new MavenProperties()), workspace, durations);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executorService.shutdownNow();
+	}
+
+	@Test
+	void shouldNotBlockIndependentModulesOnSlowModule() {
+
+		CountDownLatch ldapDone = new CountDownLatch(1);
+
+		BuildExecutor.Summary<Project> summary = executor.doWithBuildSystemOrdered(modules, (system, module) -> {
+
+			if (module.getProject() == Projects.MONGO_DB) {
+				await(ldapDone);
+			}
+
+			if (module.getProject() == Projects.LDAP) {
+				ldapDone.countDown();
+			}
+
+			return module.getProject();
+		});
+
+		assertThat(summary.getExecutions()).extracting(BuildExecutor.ExecutionResult::getResult)
+				.containsExactlyElementsOf(PROJECTS);
+	}
+
+	@Test
+	void shouldFailModulesRejectedByExecutor() {
+
+		executorService.shutdown();
+
+		assertTimeoutPreemptively(Duration.ofSeconds(10), () -> assertThatExceptionOfType(RuntimeException.class)
+				.isThrownBy(() -> executor.doWithBuildSystemOrdered(modules, (system, module) -> module.getProject())));
+	}
+
+	@Test
+	void shouldStartModulesAfterTheirDependenciesCompleted() {
+
+		List<Project> completed = new CopyOnWriteArrayList<>();
+
+		executor.doWithBuildSystemOrdered(modules, (system, module) -> {
+
+			assertThat(completed).containsAll(module.getProject().getDependencies());
+			completed.add(module.getProject());
+
+			return module;
+		});
+
+		assertThat(completed).containsExactlyInAnyOrderElementsOf(PROJECTS);
+	}
+
+	@Test
+	void shouldNotRunModulesWithFailedDependencies() {
+
+		List<Project> executed = new CopyOnWriteArrayList<>();
+
+		assertThatExceptionOfType(BuildExecutor.BuildFailed.class)
+				.isThrownBy(() -> executor.doWithBuildSystemOrdered(modules, (system, module) -> {
+
+					executed.add(module.getProject());
+
+					if (module.getProject() == Projects.JPA) {
+						throw new IllegalStateException("Boom");
+					}
+
+					return module;
+				})) //
+				.withMessageContaining("Error: Boom") //
+				.withMessageMatching("(?s).*REST\\s+- ⏭️ Skipped \\(upstream JPA failed\\).*");
+
+		assertThat(executed).contains(Projects.JPA).doesNotContain(Projects.REST);
+	}
+
+	@Test
+	void shouldCompleteIndependentModulesOnFailure() {
+
+		CountDownLatch jpaFailed = new CountDownLatch(1);
+
+		assertThatExceptionOfType(BuildExecutor.BuildFailed.class)
+				.isThrownBy(() -> executor.doWithBuildSystemOrdered(modules, (system, module) -> {
+
+					if (module.getProject() == Projects.MONGO_DB) {
+						await(jpaFailed);
+					}
+
+					if (module.getProject() == Projects.JPA) {
+						jpaFailed.countDown();
+						throw new IllegalStateException("Boom");
+					}
+
+					if (module.getProject() == Projects.LDAP) {
+						throw new IllegalStateException("Bang");
+					}
+
+					return module;
+				})) //
+				.withMessageMatching("(?s).*JPA\\s+- 🧨 Error: Boom.*") //
+				.withMessageMatching("(?s).*LDAP\\s+- 🧨 Error: Bang.*") //
+				.withMessageMatching("(?s).*MongoDB\\s+- 🆗 Successful.*") //
+				.withMessageMatching("(?s).*KeyValue\\s+- 🆗 Successful.*") //
+				.withMessageMatching("(?s).*REST\\s+- ⏭️ Skipped \\(upstream JPA failed\\).*");
+	}
+
+	@Test
+	void shouldInterruptRunningDownstreamModulesOnFailure() {
+
+		CountDownLatch restStarted = new CountDownLatch(1);
+		CountDownLatch restInterrupted = new CountDownLatch(1);
+
+		Pipeline<SupportedProject> pipeline = Pipeline.<SupportedProject> create() //
+				.then("check", module -> {
+
+					if (module.getProject() == Projects.REST) {
+
+						restStarted.countDown();
+
+						try {
+							Thread.sleep(5000);
+						} catch (InterruptedException e) {
+							restInterrupted.countDown();
+							throw new IllegalStateException(e);
+						}
+					}
+
+					if (module.getProject() == Projects.JPA) {
+						await(restStarted);
+						throw new IllegalStateException("Boom");
+					}
+				});
+
+		assertThatExceptionOfType(BuildExecutor.BuildFailed.class)
+				.isThrownBy(() -> executor.doWithPipeline(modules, pipeline)) //
+				.withMessageMatching("(?s).*REST\\s+- ⏭️ Skipped \\(upstream JPA failed\\).*") //
+				.withMessageMatching("(?s).*MongoDB\\s+- 🆗 Successful.*");
+
+		await(restInterrupted);
+	}
+
+	@Test
+	void shouldRejectModulesWithMissingDependencies() {
+
+		Streamable<SupportedProject> incomplete = modules.filter(it -> it.getProject() != Projects.KEY_VALUE);
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> executor.doWithBuildSystemOrdered(incomplete, (system, module) -> module))
+				.withMessageContaining("KeyValue which is not part of the Iteration");
+	}
+
+	@Test
+	void shouldPassModulesThroughPipelineStagesIndividually() {
+
+		CountDownLatch buildVersionStarted = new CountDownLatch(1);
+		List<String> completed = new CopyOnWriteArrayList<>();
+
+		Pipeline<SupportedProject> pipeline = Pipeline.<SupportedProject> create() //
+				.then("check", module -> {
+
+					// would never complete with a barrier after each stage
+					if (module.getProject() == Projects.LDAP) {
+						await(buildVersionStarted);
+					}
+
+					completed.add(module.getProject().getName() + ".check");
+				}) //
+				.thenAfterUpstream("version", module -> {
+
+					if (module.getProject() == Projects.BUILD) {
+						buildVersionStarted.countDown();
+					}
+
+					module.getProject().getDependencies()
+							.forEach(it -> assertThat(completed).contains(it.getName() + ".version"));
+
+					completed.add(module.getProject().getName() + ".version");
+				});
+
+		BuildExecutor.Summary<SupportedProject> summary = executor.doWithPipeline(modules, pipeline);
+
+		assertThat(summary.getExecutions()).hasSize(PROJECTS.size());
+		assertThat(completed).hasSize(PROJECTS.size() * 2);
+	}
+
+	@Test
+	void shouldSkipRemainingStagesOfFailedModule() {
+
+		List<String> executed = new CopyOnWriteArrayList<>();
+
+		Pipeline<SupportedProject> pipeline = Pipeline.<SupportedProject> create() //
+				.then("check", module -> {
+
+					if (module.getProject() == Projects.LDAP) {
+						throw new IllegalStateException("Boom");
+					}
+				}) //
+				.then("version", module -> executed.add(module.getProject().getName()));
+
+		assertThatExceptionOfType(BuildExecutor.BuildFailed.class)
+				.isThrownBy(() -> executor.doWithPipeline(modules, pipeline)) //
+				.withMessageContaining("Error: Boom");
+
+		assertThat(executed).doesNotContain(Projects.LDAP.getName());
+	}
+
+	@Test
+	void shouldReportReactorOutcomePerModule() {
+
+		assertThatExceptionOfType(BuildExecutor.BuildFailed.class)
+				.isThrownBy(() -> executor.doWithReactor(modules,
+						(system, all) -> ReactorResult.of(Map.of(Projects.JPA, new IllegalStateException("Boom"))),
+						SupportedProject::getProject)) //
+				.withMessageMatching("(?s).*JPA\\s+- 🧨 Error: Boom.*") //
+				.withMessageMatching("(?s).*REST\\s+- ⏭️ Skipped \\(upstream JPA failed\\).*") //
+				.withMessageMatching("(?s).*LDAP\\s+- 🆗 Successful.*");
+	}
+
+	@Test
+	void shouldScheduleReactorAndRecordDurationsPerModule() {
+
+		List<CommandLine.Goal> goals = List.of(CommandLine.Goal.CLEAN, CommandLine.Goal.INSTALL);
+		AtomicReference<Thread> runner = new AtomicReference<>();
+
+		assertThatExceptionOfType(BuildExecutor.BuildFailed.class).isThrownBy(() -> executor.doWithReactor(modules,
+				(system, all) -> {
+
+					runner.set(Thread.currentThread());
+
+					return ReactorResult.of(Map.of(Projects.LDAP, new IllegalStateException("Boom")),
+							Map.of(Projects.COMMONS, Duration.ofMinutes(3), Projects.LDAP, Duration.ofMinutes(1)), goals);
+				}, SupportedProject::getProject));
+
+		assertThat(runner.get()).isNotSameAs(Thread.currentThread());
+		assertThat(durations.getDuration(Projects.COMMONS, goals)).isEqualTo(Duration.ofMinutes(3));
+		assertThat(durations.getDuration(Projects.LDAP, goals)).isZero();
+	}
+
+	@Test
+	void shouldRejectReactorWithDifferentJavaVersions() throws IOException {
+
+		SupportedProject ldap = SupportedProject.of(Projects.LDAP, SupportStatus.OSS);
+		Files.writeString(new File(workDir, ldap.getFolderName() + "/ci/pipeline.properties").toPath(),
+				"java.main.tag=21.0.1_12-jdk-jammy");
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> executor.doWithReactor(modules, (system, all) -> ReactorResult.of(Map.of()),
+						SupportedProject::getProject))
+				.withMessageContaining("different Java versions");
+		verifyNoInteractions(buildSystem);
+	}
+
+	@Test
+	void shouldCacheJavaVersionUntilCiPropertiesChange() throws IOException {
+
+		SupportedProject ldap = SupportedProject.of(Projects.LDAP, SupportStatus.OSS);
+		File ciProperties = workspace.getFile("ci/pipeline.properties", ldap);
+
+		JavaVersion javaVersion = executor.detectJavaVersion(ldap);
+
+		assertThat(executor.detectJavaVersion(ldap)).isSameAs(javaVersion);
+
+		Files.writeString(ciProperties.toPath(), "java.main.tag=21.0.1_12-jdk-jammy");
+
+		assertThat(executor.detectJavaVersion(ldap).getName()).isNotEqualTo(javaVersion.getName()).contains("21");
+	}
+
+	@Test
+	void shouldPrioritizeLongestDownstreamChain() {
+
+		durations.record(Projects.MONGO_DB, List.of(CommandLine.Goal.INSTALL), Duration.ofMinutes(10));
+		durations.record(Projects.REST, List.of(CommandLine.Goal.INSTALL), Duration.ofMinutes(5));
+		durations.record(Projects.LDAP, List.of(CommandLine.Goal.INSTALL), Duration.ofMinutes(1));
+
+		Map<Project, Duration> paths = executor.getCriticalPaths(PROJECTS);
+
+		assertThat(paths.get(Projects.REST)).isEqualTo(Duration.ofMinutes(5));
+		assertThat(paths.get(Projects.MONGO_DB)).isEqualTo(Duration.ofMinutes(15));
+		assertThat(paths.get(Projects.LDAP)).isEqualTo(Duration.ofMinutes(1));
+		assertThat(paths.get(Projects.COMMONS)).isEqualTo(Duration.ofMinutes(15).plusSeconds(1));
+		assertThat(paths.get(Projects.BUILD)).isEqualTo(Duration.ofMinutes(15).plusSeconds(2));
+		assertThat(paths.get(Projects.JPA)).isLessThan(paths.get(Projects.MONGO_DB));
+	}
+
+	private static void await(CountDownLatch latch) {
+
+		try {
+			if (!latch.await(5, TimeUnit.SECONDS)) {
+				throw new IllegalStateException("Timed out waiting for latch");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+}
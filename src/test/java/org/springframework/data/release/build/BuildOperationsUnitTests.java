@@ -0,0 +1,160 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.build;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import org.springframework.data.release.deployment.DeployedArtifacts;
+import org.springframework.data.release.deployment.DeploymentInformation;
+import org.springframework.data.release.deployment.DeploymentOperations;
+import org.springframework.data.release.deployment.DeploymentProperties;
+import org.springframework.data.release.deployment.MavenPublisher;
+import org.springframework.data.release.deployment.StagingRepository;
+import org.springframework.data.release.model.Iteration;
+import org.springframework.data.release.model.ModuleIteration;
+import org.springframework.data.release.model.Projects;
+import org.springframework.data.release.model.ReleaseTrains;
+import org.springframework.data.release.model.SupportStatus;
+import org.springframework.data.release.model.SupportedProject;
+import org.springframework.data.release.model.TrainIteration;
+import org.springframework.data.release.utils.Logger;
+import org.springframework.data.util.Streamable;
+import org.springframework.plugin.core.PluginRegistry;
+
+/**
+ * Unit tests for {@link BuildOperations}.
+ *
+ * @author Mark Paluch
+ */
+class BuildOperationsUnitTests {
+
+	static final TrainIteration ITERATION = ReleaseTrains.Z.getIteration(Iteration.GA);
+	static final StagingRepository LOCAL_STAGING = StagingRepository.of("central-staging");
+	static final StagingRepository RELEASE = StagingRepository.of("release");
+
+	BuildExecutor executor = mock(BuildExecutor.class);
+	MavenPublisher publisher = mock(MavenPublisher.class);
+	DeploymentOperations deployment = mock(DeploymentOperations.class);
+	BuildSystem buildSystem = mock(BuildSystem.class);
+	PluginRegistry<BuildSystem, SupportedProject> buildSystems = PluginRegistry.of(buildSystem);
+	DeploymentProperties deploymentProperties = new DeploymentProperties();
+
+	List<ModuleIteration> modules = ITERATION.getModulesExcept().stream().limit(2).toList();
+	BuildOperations operations;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() throws Exception {
+
+		deploymentProperties.setMavenCentral(new DeploymentProperties.MavenCentral());
+
+		when(buildSystem.supports(any())).thenReturn(true);
+		when(buildSystem.withJavaVersion(any())).thenReturn(buildSystem);
+		when(buildSystem.deploy(any(), any(), any())).thenReturn(mock(DeploymentInformation.class));
+		when(deployment.findDeployedArtifacts(ITERATION)).thenReturn(DeployedArtifacts.NONE);
+
+		when(executor.doWithBuildSystemOrdered(any(Streamable.class), any())).thenAnswer(invocation -> {
+
+			BiFunction<BuildSystem, ModuleIteration, DeploymentInformation> function = invocation.getArgument(1);
+
+			return new BuildExecutor.Summary<>(modules.stream()
+					.map(it -> new BuildExecutor.ExecutionResult<>(it.getProject(), function.apply(buildSystem, it)))
+					.toList());
+		});
+
+		when(publisher.initializeStagingRepository()).thenReturn(LOCAL_STAGING);
+		when(publisher.upload(any(), anyString(), any())).thenReturn(RELEASE);
+		when(publisher.validate(eq(ITERATION), any(StagingRepository.class)))
+				.thenReturn(CompletableFuture.completedFuture(new MavenPublisher.DeploymentStatus()));
+
+		operations = new BuildOperations(buildSystems, new Logger(), new MavenProperties(), executor, publisher,
+				deploymentProperties, deployment, null);
+	}
+
+	@Test
+	void releaseShouldUploadSingleDeploymentAndPublishAfterSmokeTests() throws Exception {
+
+		List<DeploymentInformation> result = operations.performRelease(ITERATION);
+
+		assertThat(result).hasSize(modules.size());
+
+		InOrder inOrder = inOrder(publisher, buildSystem);
+
+		modules.forEach(it -> inOrder.verify(buildSystem).deploy(it, LOCAL_STAGING, DeployedArtifacts.NONE));
+		inOrder.verify(publisher).signStagedArtifacts(ITERATION, LOCAL_STAGING);
+		inOrder.verify(publisher).upload(ITERATION.getModule(Projects.BOM), "Spring Data " + ITERATION.getName(),
+				LOCAL_STAGING);
+		inOrder.verify(publisher).validate(ITERATION, RELEASE);
+		inOrder.verify(buildSystem).smokeTests(ITERATION, RELEASE);
+		inOrder.verify(publisher).publish(ITERATION, RELEASE);
+
+		verify(publisher).upload(any(), anyString(), any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void releaseShouldReportPublicDeploymentsOncePublished() {
+
+		Consumer<DeploymentInformation> deploymentCompleted = mock(Consumer.class);
+
+		operations.performRelease(ITERATION, deploymentCompleted);
+
+		InOrder inOrder = inOrder(publisher, deploymentCompleted);
+
+		inOrder.verify(publisher).publish(ITERATION, RELEASE);
+		inOrder.verify(deploymentCompleted, times(modules.size())).accept(any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void releaseShouldReportArtifactoryDeploymentsPerModule() {
+
+		TrainIteration iteration = ReleaseTrains.Z.withSupportStatus(SupportStatus.COMMERCIAL).getIteration(Iteration.GA);
+		Consumer<DeploymentInformation> deploymentCompleted = mock(Consumer.class);
+
+		operations.performRelease(iteration, deploymentCompleted);
+
+		InOrder inOrder = inOrder(buildSystem, deploymentCompleted);
+
+		for (ModuleIteration module : modules) {
+			inOrder.verify(buildSystem).deploy(eq(module), eq(StagingRepository.EMPTY), any());
+			inOrder.verify(deploymentCompleted).accept(any());
+		}
+
+		verifyNoInteractions(publisher);
+	}
+
+	@Test
+	void releaseShouldNotPublishIfSmokeTestsFail() {
+
+		doThrow(new IllegalStateException("Smoke tests failed")).when(buildSystem).smokeTests(ITERATION, RELEASE);
+
+		assertThatIllegalStateException().isThrownBy(() -> operations.performRelease(ITERATION));
+
+		verify(publisher, never()).publish(any(), any());
+	}
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.build;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.release.model.Project;
+import org.springframework.data.release.model.Projects;
+
+/**
+ * Unit tests for {@link BuildScheduler}.
+ *
+ * @author Mark Paluch
+ */
+class BuildSchedulerUnitTests {
+
+	ExecutorService executorService = Executors.newFixedThreadPool(4);
+	MavenProperties properties = new MavenProperties();
+	BuildScheduler scheduler;
+
+	@BeforeEach
+	void setUp() {
+
+		properties.setBudget(4);
+		properties.setWeights(Map.of("cassandra", 4, "mongodb", 3, "jpa", 8));
+
+		scheduler = new BuildScheduler(executorService, properties);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executorService.shutdownNow();
+	}
+
+	@Test
+	void shouldNotExceedBudget() throws InterruptedException {
+
+		AtomicInteger inFlight = new AtomicInteger();
+		List<Integer> observed = new CopyOnWriteArrayList<>();
+		List<Project> projects = List.of(Projects.CASSANDRA, Projects.MONGO_DB, Projects.KEY_VALUE, Projects.LDAP,
+				Projects.REDIS, Projects.JPA);
+		CountDownLatch done = new CountDownLatch(projects.size());
+
+		for (Project project : projects) {
+
+			int weight = Math.min(properties.getWeight(project), properties.getBudget());
+
+			scheduler.submit(project, Duration.ZERO, () -> {
+
+				observed.add(inFlight.addAndGet(weight));
+				observed.add(scheduler.getUsed());
+				inFlight.addAndGet(-weight);
+				done.countDown();
+			});
+		}
+
+		assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(observed).hasSize(projects.size() * 2).allMatch(it -> it <= 4);
+
+		// weights are released after the task body completed
+		assertThat(scheduler.awaitIdle(Duration.ofSeconds(5))).isTrue();
+		assertThat(scheduler.getUsed()).isZero();
+	}
+
+	@Test
+	void shouldWeighMultipleProjectsCombined() throws InterruptedException {
+
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(1);
+		List<Integer> observed = new CopyOnWriteArrayList<>();
+
+		scheduler.submit(List.of(Projects.LDAP, Projects.REDIS), Duration.ZERO, () -> {
+			observed.add(scheduler.getUsed());
+			started.countDown();
+			await(release);
+		});
+
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+		scheduler.submit(List.of(Projects.MONGO_DB, Projects.JPA), Duration.ZERO, () -> {
+			observed.add(scheduler.getUsed());
+			done.countDown();
+		});
+
+		// the combined weight exceeds the budget so the second reactor runs exclusively
+		assertThat(done.await(200, TimeUnit.MILLISECONDS)).isFalse();
+
+		release.countDown();
+
+		assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(observed).containsExactly(2, 4);
+	}
+
+	@Test
+	void shouldAdmitSmallerTasksWhileLargerTaskWaits() throws InterruptedException {
+
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch admitted = new CountDownLatch(2);
+		CountDownLatch done = new CountDownLatch(3);
+		List<Project> started = new CopyOnWriteArrayList<>();
+
+		scheduler.submit(Projects.MONGO_DB, Duration.ofMinutes(3), () -> {
+			started.add(Projects.MONGO_DB);
+			admitted.countDown();
+			await(release);
+			done.countDown();
+		});
+
+		scheduler.submit(Projects.CASSANDRA, Duration.ofMinutes(2), () -> {
+			started.add(Projects.CASSANDRA);
+			done.countDown();
+		});
+
+		scheduler.submit(Projects.LDAP, Duration.ofMinutes(1), () -> {
+			started.add(Projects.LDAP);
+			admitted.countDown();
+			done.countDown();
+		});
+
+		// Cassandra cannot fit into the budget until MongoDB has completed
+		assertThat(admitted.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(started).containsExactlyInAnyOrder(Projects.MONGO_DB, Projects.LDAP);
+
+		release.countDown();
+
+		assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(started).containsExactlyInAnyOrder(Projects.MONGO_DB, Projects.LDAP, Projects.CASSANDRA);
+	}
+
+	@Test
+	void shouldRunEverythingWithoutBudget() throws InterruptedException {
+
+		properties.setBudget(0);
+
+		CountDownLatch started = new CountDownLatch(3);
+		CountDownLatch release = new CountDownLatch(1);
+
+		for (Project project : List.of(Projects.CASSANDRA, Projects.MONGO_DB, Projects.JPA)) {
+			scheduler.submit(project, Duration.ZERO, () -> {
+				started.countDown();
+				await(release);
+			});
+		}
+
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(scheduler.getUsed()).isEqualTo(15);
+
+		release.countDown();
+	}
+
+	@Test
+	void shouldNotWeighTasksWithoutBuilds() throws InterruptedException {
+
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch started = new CountDownLatch(2);
+
+		scheduler.submit(Projects.CASSANDRA, Duration.ZERO, () -> {
+			started.countDown();
+			await(release);
+		});
+
+		scheduler.submit(Duration.ZERO, started::countDown);
+
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(scheduler.getUsed()).isEqualTo(4);
+
+		release.countDown();
+
+		assertThat(scheduler.awaitIdle(Duration.ofSeconds(5))).isTrue();
+	}
+
+	@Test
+	void shouldReleaseWeightOfRejectedTasks() throws InterruptedException {
+
+		executorService.shutdown();
+
+		AtomicInteger runs = new AtomicInteger();
+		BuildScheduler.Submission submission = scheduler.submit(Projects.CASSANDRA, Duration.ZERO,
+				runs::incrementAndGet);
+
+		assertThat(submission.getCompletion()).failsWithin(Duration.ofSeconds(5))
+				.withThrowableOfType(ExecutionException.class)
+				.withCauseInstanceOf(RejectedExecutionException.class);
+		assertThat(scheduler.getUsed()).isZero();
+		assertThat(scheduler.awaitIdle(Duration.ofSeconds(5))).isTrue();
+		assertThat(runs).hasValue(0);
+	}
+
+	@Test
+	void shouldCompleteSubmission() {
+
+		BuildScheduler.Submission submission = scheduler.submit(Projects.CASSANDRA, Duration.ZERO, () -> {});
+
+		assertThat(submission.getCompletion()).succeedsWithin(Duration.ofSeconds(5));
+	}
+
+	@Test
+	void shouldFallBackToDefaultWeight() {
+
+		assertThat(properties.getWeight(Projects.CASSANDRA)).isEqualTo(4);
+		assertThat(properties.getWeight(Projects.KEY_VALUE)).isEqualTo(1);
+	}
+
+	private static void await(CountDownLatch latch) {
+
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
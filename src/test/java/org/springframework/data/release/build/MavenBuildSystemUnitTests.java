@@ -16,13 +16,29 @@
 package org.springframework.data.release.build;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
 
+import java.io.File;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
 
 import org.apache.commons.io.IOUtils;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.release.build.MavenBuildSystem.SmokeTestResult;
 import org.springframework.data.release.build.Pom.RepositoryElementFactory;
+import org.springframework.data.release.io.Workspace;
+import org.springframework.data.release.model.Iteration;
+import org.springframework.data.release.model.JavaVersion;
+import org.springframework.data.release.model.ModuleIteration;
+import org.springframework.data.release.model.Projects;
+import org.springframework.data.release.model.ReleaseTrains;
+import org.springframework.data.release.utils.Logger;
 import org.xmlbeam.XBProjector;
 
 /**
@@ -78,4 +94,64 @@ class MavenBuildSystemUnitTests {
 					"<enabled>true</enabled>", "<releases>", "<enabled>false</enabled>", "spring-milestone");
 		}
 	}
+
+	@Test
+	void shouldReadSmokeTestResultsFromSurefireReports(@TempDir File directory) throws Exception {
+
+		Files.writeString(directory.toPath().resolve("TEST-com.example.smoketests.MongoDbSmokeTests.xml"),
+				"<testsuite name=\"com.example.smoketests.MongoDbSmokeTests\" time=\"1.5\" tests=\"2\" errors=\"0\" "
+						+ "skipped=\"0\" failures=\"0\"/>");
+		Files.writeString(directory.toPath().resolve("TEST-com.example.smoketests.CassandraSmokeTests.xml"),
+				"<testsuite name=\"com.example.smoketests.CassandraSmokeTests\" time=\"1,002.25\" tests=\"2\" "
+						+ "errors=\"1\" skipped=\"0\" failures=\"0\"/>");
+		Files.writeString(directory.toPath().resolve("com.example.smoketests.MongoDbSmokeTests.txt"), "Tests run: 2");
+
+		MavenBuildSystem buildSystem = new MavenBuildSystem(null, projector, null, null, null, null, null, null, null);
+
+		List<SmokeTestResult> results = buildSystem.getSmokeTestResults(directory);
+
+		assertThat(results).extracting(SmokeTestResult::getGroup).containsExactly("CassandraSmokeTests",
+				"MongoDbSmokeTests");
+		assertThat(results).extracting(SmokeTestResult::isSuccessful).containsExactly(false, true);
+		assertThat(results).extracting(SmokeTestResult::getDuration).containsExactly(Duration.ofMillis(1002250),
+				Duration.ofMillis(1500));
+		assertThat(buildSystem.getSmokeTestResults(new File(directory, "missing"))).isEmpty();
+	}
+
+	@Test
+	void shouldMemoizeBuildSystemPerJavaVersion() {
+
+		MavenRuntime runtime = mock(MavenRuntime.class);
+		when(runtime.withJavaVersion(any())).thenReturn(runtime);
+
+		MavenBuildSystem buildSystem = new MavenBuildSystem(null, projector, null, runtime, null, null, null, null, null);
+
+		BuildSystem jdk17 = buildSystem.withJavaVersion(JavaVersion.fromDockerTag("17.0.9_9-jdk-focal"));
+
+		assertThat(buildSystem.withJavaVersion(JavaVersion.fromDockerTag("17.0.9_9-jdk-focal"))).isSameAs(jdk17);
+		assertThat(buildSystem.withJavaVersion(JavaVersion.fromDockerTag("21.0.1_12-jdk-jammy"))).isNotSameAs(jdk17);
+		verify(runtime, times(2)).withJavaVersion(any());
+	}
+
+	@Test
+	void shouldConsiderBuildReproducibleIfOutputTimestampIsConfigured(@TempDir Path directory) throws Exception {
+
+		ModuleIteration module = ReleaseTrains.ULLMAN.getModuleIteration(Projects.COMMONS, Iteration.SR1);
+		File pom = Files.writeString(directory.resolve("pom.xml"), "<project><properties/></project>").toFile();
+		File parent = directory.resolve("parent.xml").toFile();
+
+		Workspace workspace = mock(Workspace.class);
+		when(workspace.getFile(eq(MavenBuildSystem.POM_XML), any())).thenReturn(pom);
+		when(workspace.getFile(eq("parent/pom.xml"), any())).thenReturn(parent);
+
+		MavenBuildSystem buildSystem = new MavenBuildSystem(workspace, projector, null, null, null, null, null, null, null);
+
+		assertThat(buildSystem.isReproducible(module)).isFalse();
+
+		Files.writeString(parent.toPath(), "<project><properties>"
+				+ "<project.build.outputTimestamp>2025-01-01T00:00:00Z</project.build.outputTimestamp>"
+				+ "</properties></project>");
+
+		assertThat(buildSystem.isReproducible(module)).isTrue();
+	}
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.build;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.data.release.build.CommandLine.Argument.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.data.release.build.CommandLine.Goal;
+import org.springframework.data.release.model.Projects;
+import org.springframework.data.release.utils.Logger;
+
+/**
+ * Unit tests for {@link MavenDaemon}.
+ *
+ * @author Mark Paluch
+ */
+class MavenDaemonUnitTests {
+
+	@TempDir File directory;
+
+	@Test
+	void shouldInvokeDaemonWithProjectStorageAndSingleThread() {
+
+		MavenDaemon daemon = new MavenDaemon(new File(directory, "bin/mvnd"), new File(directory, "storage"), new Logger());
+
+		List<String> commandLine = daemon
+				.getCommandLine(Projects.COMMONS, CommandLine.of(Goal.CLEAN, Goal.INSTALL, SKIP_TESTS), false)
+				.toCommandLine(Goal::getGoal);
+
+		assertThat(commandLine).containsExactly("clean", "install", "-DskipTests",
+				"-Dmvnd.daemonStorage=" + new File(directory, "storage/Commons").getAbsolutePath(), "-Dmvnd.threads=1");
+	}
+
+	@Test
+	void shouldRetainReactorParallelism() {
+
+		MavenDaemon daemon = new MavenDaemon(new File(directory, "bin/mvnd"), new File(directory, "storage"), new Logger());
+
+		List<String> commandLine = daemon
+				.getCommandLine(Projects.COMMONS, CommandLine.of(Goal.INSTALL, threads("4")), true)
+				.toCommandLine(Goal::getGoal);
+
+		assertThat(commandLine).contains("-T 4").noneMatch(it -> it.startsWith("-Dmvnd.threads"));
+	}
+
+	@Test
+	@DisabledOnOs(OS.WINDOWS)
+	void shouldStopDaemonsOfCancelledProject() throws IOException {
+
+		File invocation = new File(directory, "invocation.txt");
+		File executable = new File(directory, "mvnd");
+		Files.writeString(executable.toPath(),
+				"#!/bin/sh\necho \"$JAVA_HOME $@\" > " + invocation.getAbsolutePath() + "\n");
+		executable.setExecutable(true);
+
+		MavenDaemon daemon = new MavenDaemon(executable, new File(directory, "storage"), new Logger());
+
+		Thread.currentThread().interrupt();
+
+		try {
+			daemon.stop(Projects.COMMONS, new File("/opt/jdk"));
+		} finally {
+			assertThat(Thread.interrupted()).isTrue();
+		}
+
+		assertThat(Files.readString(invocation.toPath())).isEqualTo("/opt/jdk --stop -Dmvnd.daemonStorage="
+				+ new File(directory, "storage/Commons").getAbsolutePath() + "\n");
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.build;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.release.build.MavenProfile.ModuleProfile;
+import org.springframework.data.release.build.MavenProfile.MojoProfile;
+import org.springframework.data.release.build.MavenProfile.TestSummary;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Unit tests for {@link MavenOutputParser}.
+ *
+ * @author Mark Paluch
+ */
+class MavenOutputParserUnitTests {
+
+	TickingClock clock = new TickingClock();
+
+	@Test
+	void shouldTimeMojosPerModule() {
+
+		MavenOutputParser parser = new MavenOutputParser(clock, false);
+
+		emit(parser, 0, "[INFO] ------------------< org.springframework.data:spring-data-commons >------------------");
+		emit(parser, 1, "[INFO] --- compiler:3.13.0:compile (default-compile) @ spring-data-commons ---");
+		emit(parser, 10, "[INFO] --- surefire:3.2.5:test (default-test) @ spring-data-commons ---");
+		emit(parser, 5, "[INFO] Tests run: 3, Failures: 0, Errors: 0, Skipped: 1, Time elapsed: 0.1 s -- in FooTests");
+		emit(parser, 15, "[INFO] Tests run: 12, Failures: 1, Errors: 0, Skipped: 2");
+		emit(parser, 0, "[INFO] --- javadoc:3.6.3:jar (attach-javadocs) @ spring-data-commons ---");
+		emit(parser, 40, "[INFO] --------------------< org.springframework.data:spring-data-jpa >--------------------");
+		emit(parser, 2, "[INFO] --- gpg:3.2.4:sign (sign-artifacts) @ spring-data-jpa ---");
+
+		clock.advance(7);
+		MavenProfile profile = parser.complete("Commons", "clean install");
+
+		assertThat(profile.getDuration()).isEqualTo(80_000);
+		assertThat(profile.getModules()).extracting(ModuleProfile::getModule).containsExactly("spring-data-commons",
+				"spring-data-jpa");
+
+		ModuleProfile commons = profile.getModules().get(0);
+		assertThat(commons.getMojos()).extracting(MojoProfile::getGoal).containsExactly("compile", "test", "jar");
+		assertThat(commons.getMojos()).extracting(MojoProfile::getDuration).containsExactly(10_000L, 20_000L, 40_000L);
+		assertThat(commons.getTests()).isEqualTo(new TestSummary(12, 1, 0, 2));
+		assertThat(commons.getDuration()).isEqualTo(71_000);
+
+		assertThat(profile.getModules().get(1).getMojos()).singleElement()
+				.satisfies(it -> assertThat(it.getDuration()).isEqualTo(7_000));
+		assertThat(profile.getDurationByGoal()).containsKeys("javadoc:jar").extractingByKey("javadoc:jar")
+				.isEqualTo(40_000L);
+	}
+
+	@Test
+	void shouldKeepMojosOfInterleavedModulesRunningInConcurrentBuilds() {
+
+		MavenOutputParser parser = new MavenOutputParser(clock, true);
+
+		emit(parser, 0, "[INFO] --- surefire:3.2.5:test (default-test) @ spring-data-commons ---");
+		emit(parser, 10, "[INFO] --------------------< org.springframework.data:spring-data-ldap >--------------------");
+		emit(parser, 0, "[INFO] --- compiler:3.13.0:compile (default-compile) @ spring-data-ldap ---");
+		emit(parser, 5, "[INFO] --- jar:3.4.1:jar (default-jar) @ spring-data-commons ---");
+
+		MavenProfile profile = parser.complete("Reactor", "clean install -T 1C");
+
+		assertThat(profile.getModules().get(0).getMojos()).extracting(MojoProfile::getDuration).containsExactly(15_000L,
+				0L);
+		assertThat(profile.getModules().get(1).getMojos()).extracting(MojoProfile::getDuration).containsExactly(5_000L);
+	}
+
+	@Test
+	void shouldCountDownloadsAndSerializeProfile() throws Exception {
+
+		MavenOutputParser parser = new MavenOutputParser(clock, false);
+
+		parser.accept("[INFO] Downloading from central: https://repo.maven.apache.org/maven2/foo/foo-1.0.pom");
+		parser.accept("[INFO] Downloaded from central: https://repo.maven.apache.org/maven2/foo/foo-1.0.pom (1.5 kB at 12 kB/s)");
+		parser.accept("[INFO] Downloaded from spring-snapshot: https://repo.spring.io/snapshot/bar/bar-1.0.jar (2.0 MB at 1 MB/s)");
+
+		MavenProfile profile = parser.complete("Commons", "clean install");
+
+		assertThat(profile.getDownloads().getCount()).isEqualTo(2);
+		assertThat(profile.getDownloads().getBytes()).isEqualTo(2_001_500);
+		assertThat(new ObjectMapper().writeValueAsString(profile)).contains("\"name\":\"Commons\"",
+				"\"downloads\":{\"count\":2,\"bytes\":2001500}");
+	}
+
+	private void emit(MavenOutputParser parser, int secondsBefore, String line) {
+
+		clock.advance(secondsBefore);
+		parser.accept(line);
+	}
+
+	static class TickingClock extends Clock {
+
+		private Instant instant = Instant.parse("2025-01-01T00:00:00Z");
+
+		void advance(int seconds) {
+			instant = instant.plus(Duration.ofSeconds(seconds));
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return instant;
+		}
+	}
+}
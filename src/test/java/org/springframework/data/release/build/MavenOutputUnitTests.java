@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.build;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.File;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.data.release.build.MavenRuntimeSupport.FileLogger;
+import org.springframework.data.release.build.MavenRuntimeSupport.SlfLogger;
+import org.springframework.data.release.build.MavenRuntimeSupport.MavenInvocationResult;
+import org.springframework.data.release.model.Projects;
+
+/**
+ * Unit tests for {@link MavenOutput} and its use through {@link FileLogger}.
+ *
+ * @author Mark Paluch
+ */
+class MavenOutputUnitTests {
+
+	@TempDir File logsDirectory;
+
+	@Test
+	void shouldKeepBoundedTailAndErrors() {
+
+		MavenOutput output = new MavenOutput(3, 2);
+
+		for (int i = 0; i < 10; i++) {
+			output.add(i % 4 == 0 ? "[ERROR] line " + i : "[INFO] line " + i);
+		}
+
+		assertThat(output.getLines()).isEqualTo(10);
+		assertThat(output.getTail()).containsExactly("[INFO] line 7", "[ERROR] line 8", "[INFO] line 9");
+		assertThat(output.getErrors()).containsExactly("[ERROR] line 0", "[ERROR] line 4");
+	}
+
+	@Test
+	void shouldStreamFullLogOfInvocationFromFile() throws Exception {
+
+		List<CommandLine.Goal> goals = List.of(CommandLine.Goal.INSTALL);
+
+		try (FileLogger previous = new FileLogger(LoggerFactory.getLogger(getClass()), Projects.COMMONS, logsDirectory,
+				goals)) {
+			previous.info("[INFO] previous invocation");
+		}
+
+		FileLogger logger = new FileLogger(LoggerFactory.getLogger(getClass()), Projects.COMMONS, logsDirectory, goals);
+
+		try (logger) {
+			for (int i = 0; i < 1000; i++) {
+				logger.info("[INFO] line " + i);
+			}
+			logger.warn("[ERROR] Failed to execute goal on project spring-data-commons: Boom");
+		}
+
+		MavenInvocationResult result = new MavenInvocationResult(1, null, logger);
+
+		assertThat(result.getTail()).hasSize(MavenOutput.DEFAULT_TAIL)
+				.endsWith("[ERROR] Failed to execute goal on project spring-data-commons: Boom");
+		assertThat(result.getErrors()).hasSize(1);
+
+		try (Stream<String> lines = result.streamLog()) {
+			assertThat(lines).hasSize(1001).startsWith("[INFO] line 0").doesNotContain("[INFO] previous invocation");
+		}
+	}
+
+	@Test
+	void shouldCaptureFullUnprefixedLogWhenForwardingToConsole() throws Exception {
+
+		FileLogger file = new FileLogger(LoggerFactory.getLogger(getClass()), Projects.COMMONS, logsDirectory,
+				List.of(CommandLine.Goal.INSTALL));
+		SlfLogger logger = new SlfLogger(LoggerFactory.getLogger(getClass()), Projects.COMMONS, file);
+
+		try (logger) {
+			for (int i = 0; i < 1000; i++) {
+				logger.info("[INFO] line " + i);
+			}
+		}
+
+		MavenInvocationResult result = new MavenInvocationResult(0, null, logger);
+
+		assertThat(result.getTail()).hasSize(MavenOutput.DEFAULT_TAIL).endsWith("[INFO] line 999");
+
+		try (Stream<String> lines = result.streamLog()) {
+			assertThat(lines).hasSize(1000).startsWith("[INFO] line 0");
+		}
+	}
+}
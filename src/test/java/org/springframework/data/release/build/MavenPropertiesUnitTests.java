@@ -17,6 +17,7 @@ package org.springframework.data.release.build;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.io.File;
 import java.util.Collections;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -54,4 +55,26 @@ class MavenPropertiesUnitTests {
 	void doesNotExpandGoalWithoutColon() {
 		assertThat(properties.getFullyQualifiedPlugin("versions-set")).isEqualTo("versions-set");
 	}
+
+	@Test
+	void usesMavenHomeExecutableByDefault() {
+		assertThat(properties.getMavenExecutable()).isNull();
+	}
+
+	@Test
+	void resolvesDaemonExecutable() {
+
+		properties.setBackend(MavenProperties.Backend.DAEMON);
+		properties.setDaemonHome("/opt/mvnd");
+
+		assertThat(properties.getMavenExecutable()).isEqualTo(new File("/opt/mvnd/bin/mvnd"));
+	}
+
+	@Test
+	void daemonBackendRequiresDaemonHome() {
+
+		properties.setBackend(MavenProperties.Backend.DAEMON);
+
+		assertThatIllegalStateException().isThrownBy(properties::getMavenExecutable);
+	}
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.build;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.data.release.build.MavenRuntimes.MavenInstallation;
+import org.springframework.data.release.io.JavaRuntimes.JdkInstallation;
+import org.springframework.data.release.io.RuntimeCache;
+import org.springframework.data.release.model.Version;
+
+/**
+ * Unit tests for {@link MavenRuntimes}.
+ *
+ * @author Mark Paluch
+ */
+class MavenRuntimesUnitTests {
+
+	@TempDir File tempDir;
+
+	@Test
+	void shouldCacheInstallationsPerJdk() {
+
+		File candidates = new File(tempDir, "candidates");
+		File home = new File(candidates, "3.9.9");
+		home.mkdirs();
+
+		RuntimeCache cache = new RuntimeCache(new File(tempDir, "runtimes.properties"));
+		JdkInstallation jdk17 = new JdkInstallation(Version.parse("17.0.9"), "Temurin", "Eclipse Temurin",
+				new File(tempDir, "17"));
+		JdkInstallation jdk21 = new JdkInstallation(Version.parse("21.0.2"), "Temurin", "Eclipse Temurin",
+				new File(tempDir, "21"));
+		AtomicInteger detections = new AtomicInteger();
+
+		MavenRuntimes.MavenDetector detector = new MavenRuntimes.MavenDetector() {
+
+			@Override
+			public boolean isAvailable() {
+				return true;
+			}
+
+			@Override
+			public List<MavenInstallation> detect(JdkInstallation jdk) {
+
+				detections.incrementAndGet();
+				return List.of(new MavenInstallation(Version.parse("3.9.9"), home));
+			}
+
+			@Override
+			public File getLocation() {
+				return candidates;
+			}
+		};
+
+		assertThat(MavenRuntimes.detect(detector, jdk17, cache)).extracting(MavenInstallation::getHome)
+				.containsExactly(home);
+		assertThat(MavenRuntimes.detect(detector, jdk17, cache)).hasSize(1);
+		assertThat(detections).hasValue(1);
+
+		assertThat(MavenRuntimes.detect(detector, jdk21, cache)).hasSize(1);
+		assertThat(detections).hasValue(2);
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.build;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.data.release.io.Workspace;
+import org.springframework.data.release.model.ProjectAware;
+import org.springframework.data.util.Streamable;
+import org.springframework.plugin.core.PluginRegistry;
+
+/**
+ * Runs {@link Pipeline}s through a {@link BuildExecutor} for tests outside of the build package.
+ *
+ * @author Mark Paluch
+ */
+public class Pipelines {
+
+	/**
+	 * Runs the given {@link Pipeline} for all modules using a {@link BuildExecutor} with the given parallelism.
+	 *
+	 * @param workspace must not be {@literal null}.
+	 * @param modules must not be {@literal null}.
+	 * @param pipeline must not be {@literal null}.
+	 * @param parallelism the number of modules that can run a stage concurrently.
+	 * @throws RuntimeException if a stage failed for at least one module.
+	 */
+	public static <M extends ProjectAware> void run(Workspace workspace, Streamable<M> modules, Pipeline<M> pipeline,
+			int parallelism) {
+
+		ExecutorService executorService = Executors.newFixedThreadPool(parallelism);
+
+		try {
+
+			BuildExecutor executor = new BuildExecutor(PluginRegistry.of(List.of()),
+					new BuildScheduler(executorService, new MavenProperties()), workspace, new BuildDurations((File) null));
+
+			executor.doWithPipeline(modules, pipeline);
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+}
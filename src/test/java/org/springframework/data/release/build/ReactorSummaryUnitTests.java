@@ -0,0 +1,71 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.build;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.release.build.ReactorSummary.Entry;
+import org.springframework.data.release.build.ReactorSummary.Status;
+
+/**
+ * Unit tests for {@link ReactorSummary}.
+ *
+ * @author Mark Paluch
+ */
+class ReactorSummaryUnitTests {
+
+	@Test
+	void shouldCollectReactorSummary() {
+
+		ReactorSummary summary = new ReactorSummary();
+
+		Stream.of("[INFO] Spring Data Core ... SUCCESS [ 1.000 s]", // not yet within the summary
+				"[INFO] ------------------------------------------------------------------------", //
+				"[INFO] Reactor Summary for spring-data-release-reactor 1.0.0:", //
+				"[INFO] ", //
+				"[INFO] Spring Data Core ................................... SUCCESS [ 42.125 s]", //
+				"[INFO] Spring Data JPA Parent ............................. SUCCESS [  0,500 s]", //
+				"[INFO] Spring Data JPA .................................... FAILURE [02:05 min]", //
+				"[INFO] Spring Data Envers ................................. SKIPPED", //
+				"[INFO] spring-data-release-reactor 1.0.0 .................. SUCCESS [01:10 h]", //
+				"[INFO] ------------------------------------------------------------------------", //
+				"[INFO] BUILD FAILURE", //
+				"[INFO] Spring Data Core ... FAILURE [ 1.000 s]") // after the summary
+				.forEach(summary);
+
+		assertThat(summary.getEntries()).containsExactly( //
+				new Entry("Spring Data Core", Status.SUCCESS, Duration.ofMillis(42125)), //
+				new Entry("Spring Data JPA Parent", Status.SUCCESS, Duration.ofMillis(500)), //
+				new Entry("Spring Data JPA", Status.FAILURE, Duration.ofSeconds(125)), //
+				new Entry("Spring Data Envers", Status.SKIPPED, Duration.ZERO), //
+				new Entry("spring-data-release-reactor 1.0.0", Status.SUCCESS, Duration.ofMinutes(70)));
+	}
+
+	@Test
+	void shouldReportNoEntriesWithoutSummary() {
+
+		ReactorSummary summary = new ReactorSummary();
+
+		Stream.of("[INFO] BUILD SUCCESS", "[INFO] Total time:  1.000 s").forEach(summary);
+
+		assertThat(summary.getEntries()).isEmpty();
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.build;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.release.build.ReactorSummary.Status;
+import org.springframework.data.release.model.Project;
+import org.springframework.data.release.model.Projects;
+
+/**
+ * Unit tests for {@link Reactor}.
+ *
+ * @author Mark Paluch
+ */
+class ReactorUnitTests {
+
+	File workDir = new File("/work");
+
+	Reactor reactor = new Reactor(directories(), Map.of("spring-data-commons", Projects.COMMONS, //
+			"Spring Data Core", Projects.COMMONS, //
+			"spring-data-jpa-parent", Projects.JPA, //
+			"Spring Data JPA Parent", Projects.JPA, //
+			"spring-data-envers", Projects.JPA, //
+			"Spring Data Envers", Projects.JPA));
+
+	@Test
+	void shouldListCheckoutsAsModules() {
+
+		String pom = reactor.toAggregatorPom(new File(workDir, "reactor"));
+
+		assertThat(pom).contains("<artifactId>spring-data-release-reactor</artifactId>", "<packaging>pom</packaging>",
+				"<maven.deploy.skip>true</maven.deploy.skip>")
+				.containsSubsequence("<module>../spring-data-commons</module>", "<module>../spring-data-jpa</module>");
+	}
+
+	@Test
+	void shouldAttributeFailuresToProjects() {
+
+		Map<Project, Throwable> failures = reactor.getFailures(List.of(entry("Spring Data Core", Status.SUCCESS),
+				entry("Spring Data JPA Parent", Status.SUCCESS), entry("Spring Data Envers", Status.FAILURE)));
+
+		assertThat(failures).containsOnlyKeys(Projects.JPA);
+		assertThat(failures.get(Projects.JPA)).hasMessageContaining("Spring Data Envers");
+	}
+
+	@Test
+	void shouldResolveModulesListedWithVersion() {
+
+		Map<Project, Throwable> failures = reactor
+				.getFailures(List.of(entry("Spring Data Envers 3.5.0", Status.FAILURE)));
+
+		assertThat(failures).containsOnlyKeys(Projects.JPA);
+	}
+
+	@Test
+	void shouldConsiderSkippedProjectWithoutFailedUpstreamFailed() {
+
+		Map<Project, Throwable> failures = reactor.getFailures(
+				List.of(entry("Spring Data Core", Status.FAILURE), entry("Spring Data JPA Parent", Status.SKIPPED)));
+
+		assertThat(failures).containsOnlyKeys(Projects.COMMONS);
+
+		failures = reactor.getFailures(List.of(entry("Spring Data Core", Status.SKIPPED)));
+
+		assertThat(failures).containsOnlyKeys(Projects.COMMONS);
+		assertThat(failures.get(Projects.COMMONS)).hasMessageContaining("not built");
+	}
+
+	@Test
+	void shouldIgnoreUnknownModules() {
+
+		Map<Project, Throwable> failures = reactor
+				.getFailures(List.of(entry("spring-data-release-reactor", Status.FAILURE)));
+
+		assertThat(failures).isEmpty();
+	}
+
+	@Test
+	void shouldSumUpDurationsPerProject() {
+
+		Map<Project, Duration> durations = reactor.getDurations(List.of(
+				new ReactorSummary.Entry("Spring Data Core", Status.SUCCESS, Duration.ofSeconds(30)),
+				new ReactorSummary.Entry("Spring Data JPA Parent", Status.SUCCESS, Duration.ofSeconds(1)),
+				new ReactorSummary.Entry("spring-data-envers", Status.SUCCESS, Duration.ofSeconds(20))));
+
+		assertThat(durations).containsEntry(Projects.COMMONS, Duration.ofSeconds(30)) //
+				.containsEntry(Projects.JPA, Duration.ofSeconds(21));
+	}
+
+	private static ReactorSummary.Entry entry(String name, Status status) {
+		return new ReactorSummary.Entry(name, status, Duration.ZERO);
+	}
+
+	private Map<Project, File> directories() {
+
+		Map<Project, File> directories = new LinkedHashMap<>();
+		directories.put(Projects.COMMONS, new File(workDir, "spring-data-commons"));
+		directories.put(Projects.JPA, new File(workDir, "spring-data-jpa"));
+
+		return directories;
+	}
+}
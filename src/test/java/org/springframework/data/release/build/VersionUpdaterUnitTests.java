@@ -0,0 +1,113 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.build;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import org.xmlbeam.XBProjector;
+
+/**
+ * Golden file tests for {@link VersionUpdater}. Expected files reflect the changes applied by
+ * {@code versions:set}/{@code versions:commit}.
+ *
+ * @author Mark Paluch
+ */
+class VersionUpdaterUnitTests {
+
+	XBProjector projector = new BuildConfiguration().projectionFactory();
+
+	@TempDir File directory;
+
+	@Test
+	void shouldUpdateReactorVersion() throws IOException {
+
+		File reactor = copy("jpa");
+
+		List<File> files = new VersionUpdater(projector, reactor).setProjectVersion("3.5.0");
+
+		assertThat(files).hasSize(4);
+		assertMatchesExpected("jpa", reactor);
+	}
+
+	@Test
+	void shouldUpdateBomModuleVersion() throws IOException {
+
+		File reactor = copy("bom");
+		VersionUpdater updater = new VersionUpdater(projector, reactor);
+
+		updater.setProjectVersion("2025.0.0");
+		List<File> files = updater.setModuleVersion("bom", "2025.0.0");
+
+		assertThat(files).containsOnly(new File(reactor, "bom/pom.xml").toPath().normalize().toFile());
+		assertMatchesExpected("bom", reactor);
+	}
+
+	@Test
+	void shouldUpdateArtifactByCoordinates() throws IOException {
+
+		File reactor = copy("jpa");
+
+		List<File> files = new VersionUpdater(projector, reactor).setArtifactVersion("org.springframework.data",
+				"spring-data-envers", "3.5.1-SNAPSHOT");
+
+		assertThat(files).extracting(File::getName).containsOnly("pom.xml");
+		assertThat(files).singleElement().satisfies(it -> {
+			assertThat(it.getParentFile()).hasName("spring-data-envers");
+			assertThat(it).content().contains("<artifactId>spring-data-envers</artifactId>",
+					"<version>3.5.1-SNAPSHOT</version>");
+		});
+	}
+
+	@Test
+	void shouldRejectUnknownModule() throws IOException {
+
+		VersionUpdater updater = new VersionUpdater(projector, copy("jpa"));
+
+		assertThatIllegalArgumentException().isThrownBy(() -> updater.setModuleVersion("bom", "3.5.0"));
+	}
+
+	private File copy(String scenario) throws IOException {
+
+		File reactor = new File(directory, scenario);
+		FileUtils.copyDirectory(new ClassPathResource("versions/" + scenario + "/input").getFile(), reactor);
+
+		return reactor;
+	}
+
+	private static void assertMatchesExpected(String scenario, File reactor) throws IOException {
+
+		Path expected = new ClassPathResource("versions/" + scenario + "/expected").getFile().toPath();
+
+		try (Stream<Path> files = Files.walk(expected)) {
+			files.filter(Files::isRegularFile).forEach(it -> {
+
+				File actual = reactor.toPath().resolve(expected.relativize(it)).toFile();
+				assertThat(actual).as(actual.toString()).hasSameTextualContentAs(it.toFile());
+			});
+		}
+	}
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.cli;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.stubbing.Answer;
+
+import org.springframework.data.release.build.BuildOperations;
+import org.springframework.data.release.build.Pipelines;
+import org.springframework.data.release.deployment.DeploymentOperations;
+import org.springframework.data.release.git.GitOperations;
+import org.springframework.data.release.io.IoProperties;
+import org.springframework.data.release.io.Workspace;
+import org.springframework.data.release.issues.IssueTrackerCommands;
+import org.springframework.data.release.issues.github.GitHubCommands;
+import org.springframework.data.release.misc.ReleaseOperations;
+import org.springframework.data.release.model.Iteration;
+import org.springframework.data.release.model.ModuleIteration;
+import org.springframework.data.release.model.Project;
+import org.springframework.data.release.model.ReleaseTrains;
+import org.springframework.data.release.model.TrainIteration;
+import org.springframework.data.release.utils.Logger;
+
+/**
+ * Unit tests for {@link ReleaseCommands}.
+ *
+ * @author Mark Paluch
+ */
+class ReleaseCommandsUnitTests {
+
+	@TempDir File workDir;
+
+	TrainIteration iteration = new TrainIteration(ReleaseTrains.Z, Iteration.M1);
+	List<String> events = new CopyOnWriteArrayList<>();
+
+	GitOperations git = mock(GitOperations.class);
+	ReleaseOperations misc = mock(ReleaseOperations.class);
+	BuildOperations build = mock(BuildOperations.class);
+	ReleaseCommands commands;
+
+	@BeforeEach
+	void setUp() {
+
+		IoProperties io = new IoProperties();
+		io.setWorkDir(workDir.getAbsolutePath());
+
+		Workspace workspace = new Workspace(io, new Logger());
+
+		commands = new ReleaseCommands(git, misc, mock(DeploymentOperations.class), build,
+				mock(IssueTrackerCommands.class), mock(GitHubCommands.class), new ReleaseJournal(workspace, new Logger()),
+				new Logger());
+
+		doAnswer(record("prepare")).when(git).prepare(any(ModuleIteration.class));
+		doAnswer(record("commit")).when(git).commit(any(ModuleIteration.class), eq(iteration), anyString());
+		doAnswer(record("resources")).when(misc).updateResources(any(ModuleIteration.class));
+		doAnswer(record("check")).when(build).runPreReleaseChecks(any(ModuleIteration.class));
+		doAnswer(record("descriptors")).when(build).updateProjectDescriptors(any(ModuleIteration.class), any());
+		doAnswer(record("version")).when(build).prepareVersion(any(ModuleIteration.class), any());
+		doAnswer(invocation -> {
+
+			Pipelines.run(workspace, invocation.getArgument(0), invocation.getArgument(1), 4);
+			return null;
+		}).when(build).doWithPipeline(any(), any());
+	}
+
+	@Test
+	void shouldRunPreReleaseChecksOfAllModulesBeforeChangingAnyModule() throws Exception {
+
+		commands.prepare(iteration);
+
+		int lastCheck = indexOfLast("check ");
+
+		assertThat(lastCheck).isLessThan(indexOfFirst("resources "));
+		assertThat(lastCheck).isLessThan(indexOfFirst("descriptors "));
+		assertThat(lastCheck).isLessThan(indexOfFirst("commit "));
+	}
+
+	@Test
+	void shouldUpdateDescriptorsAndVersionsAfterUpstreamModules() throws Exception {
+
+		commands.prepare(iteration);
+
+		for (ModuleIteration module : iteration) {
+
+			Project project = module.getProject();
+
+			assertThat(events).contains("commit " + project.getName(), "version " + project.getName());
+
+			for (Project dependency : project.getDependencies()) {
+
+				if (!iteration.contains(dependency)) {
+					continue;
+				}
+
+				assertThat(events.indexOf("descriptors " + dependency.getName()))
+						.isLessThan(events.indexOf("descriptors " + project.getName()));
+				assertThat(events.indexOf("version " + dependency.getName()))
+						.isLessThan(events.indexOf("version " + project.getName()));
+			}
+		}
+	}
+
+	@Test
+	void shouldNotChangeModulesIfPreReleaseCheckFails() {
+
+		ModuleIteration failing = iteration.iterator().next();
+
+		doAnswer(invocation -> {
+
+			ModuleIteration module = invocation.getArgument(0);
+
+			if (module.equals(failing)) {
+				throw new IllegalStateException("Boom");
+			}
+
+			events.add("check " + module.getProject().getName());
+			return module;
+		}).when(build).runPreReleaseChecks(any(ModuleIteration.class));
+
+		assertThatRuntimeException().isThrownBy(() -> commands.prepare(iteration));
+
+		assertThat(events).noneMatch(it -> it.startsWith("resources ") || it.startsWith("descriptors ")
+				|| it.startsWith("commit ") || it.startsWith("version "));
+	}
+
+	@Test
+	void shouldSkipModuleStepsCompletedByPreviousRun() throws Exception {
+
+		commands.prepare(iteration);
+		events.clear();
+
+		commands.prepare(iteration);
+
+		assertThat(events).isEmpty();
+	}
+
+	private Answer<Object> record(String event) {
+
+		return invocation -> {
+
+			ModuleIteration module = invocation.getArgument(0);
+			events.add(event + " " + module.getProject().getName());
+
+			return module;
+		};
+	}
+
+	private int indexOfFirst(String prefix) {
+
+		for (int i = 0; i < events.size(); i++) {
+			if (events.get(i).startsWith(prefix)) {
+				return i;
+			}
+		}
+
+		throw new AssertionError("No event " + prefix);
+	}
+
+	private int indexOfLast(String prefix) {
+
+		for (int i = events.size() - 1; i >= 0; i--) {
+			if (events.get(i).startsWith(prefix)) {
+				return i;
+			}
+		}
+
+		throw new AssertionError("No event " + prefix);
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.cli;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.data.release.cli.ReleaseJournal.Step;
+import org.springframework.data.release.io.IoProperties;
+import org.springframework.data.release.io.Workspace;
+import org.springframework.data.release.model.Iteration;
+import org.springframework.data.release.model.ModuleIteration;
+import org.springframework.data.release.model.Projects;
+import org.springframework.data.release.model.ReleaseTrains;
+import org.springframework.data.release.model.TrainIteration;
+import org.springframework.data.release.utils.Logger;
+
+/**
+ * Unit tests for {@link ReleaseJournal}.
+ *
+ * @author Mark Paluch
+ */
+class ReleaseJournalUnitTests {
+
+	@TempDir File workDir;
+
+	TrainIteration iteration = new TrainIteration(ReleaseTrains.DIJKSTRA, Iteration.M1);
+	Workspace workspace;
+	ReleaseJournal journal;
+
+	@BeforeEach
+	void setUp() {
+
+		IoProperties io = new IoProperties();
+		io.setWorkDir(workDir.getAbsolutePath());
+
+		workspace = new Workspace(io, new Logger());
+		journal = new ReleaseJournal(workspace, new Logger());
+	}
+
+	@Test
+	void shouldSkipCompletedSteps() throws Exception {
+
+		AtomicInteger invocations = new AtomicInteger();
+
+		journal.run(iteration, Step.PREPARED, invocations::incrementAndGet);
+		journal.run(iteration, Step.PREPARED, invocations::incrementAndGet);
+
+		assertThat(invocations).hasValue(1);
+		assertThat(journal.isCompleted(iteration, Step.PREPARED)).isTrue();
+		assertThat(journal.isCompleted(iteration, Step.TAGGED)).isFalse();
+	}
+
+	@Test
+	void shouldNotRecordFailedSteps() {
+
+		assertThatIllegalStateException().isThrownBy(() -> journal.run(iteration, Step.TAGGED, () -> {
+			throw new IllegalStateException("Boom");
+		}));
+
+		assertThat(journal.isCompleted(iteration, Step.TAGGED)).isFalse();
+	}
+
+	@Test
+	void shouldRecordModuleStepsPerModule() throws Exception {
+
+		ModuleIteration jpa = iteration.getModule(Projects.JPA);
+		ModuleIteration mongo = iteration.getModule(Projects.MONGO_DB);
+
+		journal.run(jpa, Step.PROMOTED, () -> {});
+
+		assertThat(journal.isCompleted(jpa, Step.PROMOTED)).isTrue();
+		assertThat(journal.isCompleted(mongo, Step.PROMOTED)).isFalse();
+		assertThat(journal.isCompleted(iteration, Step.PROMOTED)).isFalse();
+		assertThat(journal.getEntries(iteration)).containsKey("JPA.promoted");
+	}
+
+	@Test
+	void shouldRunPipelineStagesUntilModuleCompletedStep() {
+
+		ModuleIteration jpa = iteration.getModule(Projects.JPA);
+		ModuleIteration mongo = iteration.getModule(Projects.MONGO_DB);
+		List<String> invocations = new ArrayList<>();
+
+		Consumer<ModuleIteration> update = journal.unlessCompleted(Step.DESCRIPTORS_UPDATED,
+				it -> invocations.add("update " + it.getProject().getName()));
+		Consumer<ModuleIteration> commit = journal.completing(Step.DESCRIPTORS_UPDATED,
+				it -> invocations.add("commit " + it.getProject().getName()));
+
+		update.andThen(commit).accept(jpa);
+		update.andThen(commit).accept(jpa);
+		update.accept(mongo);
+
+		assertThat(invocations).containsExactly("update JPA", "commit JPA", "update MongoDB");
+		assertThat(journal.isCompleted(jpa, Step.DESCRIPTORS_UPDATED)).isTrue();
+		assertThat(journal.isCompleted(mongo, Step.DESCRIPTORS_UPDATED)).isFalse();
+	}
+
+	@Test
+	void shouldRecordStepDetailsPerModule() {
+
+		ModuleIteration jpa = iteration.getModule(Projects.JPA);
+		ModuleIteration mongo = iteration.getModule(Projects.MONGO_DB);
+
+		journal.complete(jpa, Step.DEPLOYED, "spring-data-jpa-main-release-42");
+
+		ReleaseJournal other = new ReleaseJournal(workspace, new Logger());
+
+		assertThat(other.isCompleted(jpa, Step.DEPLOYED)).isTrue();
+		assertThat(other.getDetail(jpa, Step.DEPLOYED)).contains("spring-data-jpa-main-release-42");
+		assertThat(other.getDetail(mongo, Step.DEPLOYED)).isEmpty();
+	}
+
+	@Test
+	void shouldPersistAcrossInstancesUntilReset() throws Exception {
+
+		journal.run(iteration, Step.TRACKER_PREPARED, () -> {});
+
+		ReleaseJournal other = new ReleaseJournal(workspace, new Logger());
+
+		assertThat(other.isCompleted(iteration, Step.TRACKER_PREPARED)).isTrue();
+		assertThat(other.isCompleted(new TrainIteration(ReleaseTrains.DIJKSTRA, Iteration.M2), Step.TRACKER_PREPARED))
+				.isFalse();
+
+		other.reset(iteration);
+
+		assertThat(journal.isCompleted(iteration, Step.TRACKER_PREPARED)).isFalse();
+	}
+}
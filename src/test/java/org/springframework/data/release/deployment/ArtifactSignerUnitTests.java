@@ -0,0 +1,163 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.deployment;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Date;
+import java.util.HexFormat;
+
+import org.bouncycastle.bcpg.ArmoredOutputStream;
+import org.bouncycastle.bcpg.HashAlgorithmTags;
+import org.bouncycastle.bcpg.PublicKeyAlgorithmTags;
+import org.bouncycastle.bcpg.PublicKeyPacket;
+import org.bouncycastle.bcpg.SymmetricKeyAlgorithmTags;
+import org.bouncycastle.crypto.generators.RSAKeyPairGenerator;
+import org.bouncycastle.crypto.params.RSAKeyGenerationParameters;
+import org.bouncycastle.openpgp.PGPKeyRingGenerator;
+import org.bouncycastle.openpgp.PGPPublicKey;
+import org.bouncycastle.openpgp.PGPSecretKeyRing;
+import org.bouncycastle.openpgp.PGPSignature;
+import org.bouncycastle.openpgp.PGPSignatureList;
+import org.bouncycastle.openpgp.PGPUtil;
+import org.bouncycastle.openpgp.bc.BcPGPObjectFactory;
+import org.bouncycastle.openpgp.operator.PGPDigestCalculator;
+import org.bouncycastle.openpgp.operator.bc.BcPBESecretKeyEncryptorBuilder;
+import org.bouncycastle.openpgp.operator.bc.BcPGPContentSignerBuilder;
+import org.bouncycastle.openpgp.operator.bc.BcPGPContentVerifierBuilderProvider;
+import org.bouncycastle.openpgp.operator.bc.BcPGPDigestCalculatorProvider;
+import org.bouncycastle.openpgp.operator.bc.BcPGPKeyPair;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.data.release.model.Gpg;
+import org.springframework.data.release.model.Password;
+
+/**
+ * Unit tests for {@link ArtifactSigner}.
+ *
+ * @author Mark Paluch
+ */
+class ArtifactSignerUnitTests {
+
+	static final String USER_ID = "Spring Data Release <release@example.com>";
+
+	static @TempDir File keyDirectory;
+	static File keyring;
+	static PGPPublicKey publicKey;
+
+	@TempDir Path directory;
+
+	@BeforeAll
+	static void generateKeyring() throws Exception {
+
+		RSAKeyPairGenerator generator = new RSAKeyPairGenerator();
+		generator.init(new RSAKeyGenerationParameters(BigInteger.valueOf(0x10001), new SecureRandom(), 2048, 12));
+
+		BcPGPKeyPair keyPair = new BcPGPKeyPair(PublicKeyPacket.VERSION_4, PublicKeyAlgorithmTags.RSA_GENERAL,
+				generator.generateKeyPair(), new Date());
+		PGPDigestCalculator sha1 = new BcPGPDigestCalculatorProvider().get(HashAlgorithmTags.SHA1);
+
+		PGPSecretKeyRing ring = new PGPKeyRingGenerator(PGPSignature.POSITIVE_CERTIFICATION, keyPair, USER_ID, sha1, null,
+				null, new BcPGPContentSignerBuilder(PublicKeyAlgorithmTags.RSA_GENERAL, HashAlgorithmTags.SHA256),
+				new BcPBESecretKeyEncryptorBuilder(SymmetricKeyAlgorithmTags.AES_256, sha1).build("secret".toCharArray()))
+				.generateSecretKeyRing();
+
+		keyring = new File(keyDirectory, "secring.asc");
+		publicKey = ring.getPublicKey();
+
+		try (OutputStream os = new ArmoredOutputStream(Files.newOutputStream(keyring.toPath()))) {
+			ring.encode(os);
+		}
+	}
+
+	@Test
+	void shouldSignAndChecksumArtifact() throws Exception {
+
+		Path artifact = directory.resolve("spring-data-commons-3.5.0.jar");
+		Files.writeString(artifact, "Hello, World");
+
+		ArtifactSigner signer = ArtifactSigner.of(gpg(USER_ID, "secret"));
+
+		assertThat(signer.sign(artifact)).extracting(File::getName).containsExactly("spring-data-commons-3.5.0.jar.asc",
+				"spring-data-commons-3.5.0.jar.md5", "spring-data-commons-3.5.0.jar.sha1",
+				"spring-data-commons-3.5.0.jar.sha256", "spring-data-commons-3.5.0.jar.sha512");
+
+		byte[] content = Files.readAllBytes(artifact);
+
+		assertThat(directory.resolve("spring-data-commons-3.5.0.jar.sha1"))
+				.hasContent(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-1").digest(content)));
+		assertThat(directory.resolve("spring-data-commons-3.5.0.jar.sha512"))
+				.hasContent(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-512").digest(content)));
+
+		try (InputStream stream = PGPUtil
+				.getDecoderStream(Files.newInputStream(directory.resolve("spring-data-commons-3.5.0.jar.asc")))) {
+
+			PGPSignature signature = ((PGPSignatureList) new BcPGPObjectFactory(stream).nextObject()).get(0);
+			signature.init(new BcPGPContentVerifierBuilderProvider(), publicKey);
+			signature.update(content);
+
+			assertThat(signature.verify()).isTrue();
+		}
+	}
+
+	@Test
+	void shouldFindKeyByKeyId() {
+
+		String keyId = String.format("%016X", publicKey.getKeyID());
+
+		assertThatNoException().isThrownBy(() -> ArtifactSigner.of(gpg(keyId.substring(8), "secret")));
+		assertThatNoException().isThrownBy(() -> ArtifactSigner.of(gpg("0x" + keyId, "secret")));
+	}
+
+	@Test
+	void shouldRejectUnknownKeyOrWrongPassphrase() {
+
+		assertThatIllegalStateException().isThrownBy(() -> ArtifactSigner.of(gpg("Someone Else", "secret")))
+				.withMessageContaining("Cannot find signing key");
+		assertThatIllegalStateException().isThrownBy(() -> ArtifactSigner.of(gpg(USER_ID, "wrong")))
+				.withMessageContaining("Cannot unlock signing key");
+	}
+
+	@Test
+	void shouldSignArtifactsOnly() {
+
+		assertThat(ArtifactSigner.isArtifact(Path.of("spring-data-commons-3.5.0.pom"))).isTrue();
+		assertThat(ArtifactSigner.isArtifact(Path.of("spring-data-commons-3.5.0.jar.asc"))).isFalse();
+		assertThat(ArtifactSigner.isArtifact(Path.of("spring-data-commons-3.5.0.jar.sha256"))).isFalse();
+		assertThat(ArtifactSigner.isArtifact(Path.of("maven-metadata.xml"))).isFalse();
+		assertThat(ArtifactSigner.isArtifact(Path.of(".DS_Store"))).isFalse();
+	}
+
+	private static Gpg gpg(String keyname, String passphrase) {
+
+		Gpg gpg = new Gpg();
+		gpg.setKeyname(keyname);
+		gpg.setPassphrase(Password.of(passphrase));
+		gpg.setSecretKeyring(keyring.getAbsolutePath());
+
+		return gpg;
+	}
+}
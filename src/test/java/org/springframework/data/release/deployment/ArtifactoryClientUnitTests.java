@@ -0,0 +1,148 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.deployment;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.release.model.Iteration;
+import org.springframework.data.release.model.Projects;
+import org.springframework.data.release.model.ReleaseTrains;
+import org.springframework.data.release.utils.Logger;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestOperations;
+
+/**
+ * Unit tests for {@link ArtifactoryClient}.
+ *
+ * @author Mark Paluch
+ */
+class ArtifactoryClientUnitTests {
+
+	static final URI PROMOTION = URI.create("https://artifactory/api/build/promote/spring-data-commons/1");
+	static final ArtifactoryReleaseBundle RELEASE_BUNDLE = new ArtifactoryReleaseBundle("spring-data-commons", "3.5.0",
+			"spring", "release-bundles", "aql", Map.of());
+
+	RestOperations operations = mock(RestOperations.class);
+	DeploymentInformation information = mock(DeploymentInformation.class);
+	DeploymentProperties.Authentication authentication = new DeploymentProperties.Authentication();
+	ArtifactoryClient client;
+
+	@BeforeEach
+	void setUp() {
+
+		DeploymentProperties.Server server = new DeploymentProperties.Server();
+		server.setUri("https://artifactory");
+
+		authentication.setServer(server);
+		authentication.setStagingRepository("libs-staging-local");
+		authentication.setTargetRepository("libs-release-local");
+
+		DeploymentProperties properties = new DeploymentProperties();
+		properties.setOpensource(authentication);
+		properties.setCommercial(authentication);
+
+		when(information.getModule())
+				.thenReturn(ReleaseTrains.Z.getIteration(Iteration.GA).getModule(Projects.COMMONS));
+		when(information.getPromotionResource()).thenReturn(PROMOTION);
+
+		client = new ArtifactoryClient(new Logger(), properties, operations);
+	}
+
+	@Test
+	void shouldConsiderAlreadyPromotedBuildPromoted() {
+
+		when(operations.postForEntity(eq(PROMOTION), any(), eq(String.class)))
+				.thenThrow(clientError(HttpStatus.BAD_REQUEST, "{\"errors\":[{\"message\":\"Build already promoted\"}]}"));
+
+		assertThatNoException().isThrownBy(() -> client.promote(information));
+	}
+
+	@Test
+	void shouldConsiderConflictingPromotionPromoted() {
+
+		when(operations.postForEntity(eq(PROMOTION), any(), eq(String.class)))
+				.thenThrow(clientError(HttpStatus.CONFLICT, ""));
+
+		assertThatNoException().isThrownBy(() -> client.promote(information));
+	}
+
+	@Test
+	void shouldPropagatePromotionFailure() {
+
+		when(operations.postForEntity(eq(PROMOTION), any(), eq(String.class)))
+				.thenThrow(clientError(HttpStatus.FORBIDDEN, "{\"errors\":[{\"message\":\"Forbidden\"}]}"));
+
+		assertThatExceptionOfType(HttpClientErrorException.class).isThrownBy(() -> client.promote(information));
+	}
+
+	@Test
+	void shouldConsiderExistingReleaseBundleCreated() {
+
+		when(operations.postForEntity(anyString(), any(), eq(Map.class))).thenThrow(
+				clientError(HttpStatus.CONFLICT, "{\"errors\":[{\"message\":\"Release Bundle already exists\"}]}"));
+
+		assertThatNoException()
+				.isThrownBy(() -> client.createRelease("Artifactory", RELEASE_BUNDLE, authentication));
+	}
+
+	@Test
+	void shouldPropagateReleaseBundleFailure() {
+
+		when(operations.postForEntity(anyString(), any(), eq(Map.class)))
+				.thenThrow(clientError(HttpStatus.BAD_REQUEST, "{\"errors\":[{\"message\":\"Invalid AQL\"}]}"));
+
+		assertThatExceptionOfType(HttpClientErrorException.class)
+				.isThrownBy(() -> client.createRelease("Artifactory", RELEASE_BUNDLE, authentication));
+	}
+
+	@Test
+	void shouldReportExistingBuildInfo() {
+
+		when(information.getBuildInfoParameters())
+				.thenReturn(Map.of("buildName", "spring-data-commons", "buildNumber", "1", "project", "spring"));
+
+		assertThat(client.hasBuildInfo(information)).isTrue();
+		verify(operations).getForEntity(URI.create("https://artifactory/api/build/spring-data-commons/1?project=spring"),
+				String.class);
+	}
+
+	@Test
+	void shouldReportMissingBuildInfo() {
+
+		when(information.getBuildInfoParameters())
+				.thenReturn(Map.of("buildName", "spring-data-commons", "buildNumber", "1", "project", "spring"));
+		when(operations.getForEntity(any(URI.class), eq(String.class)))
+				.thenThrow(clientError(HttpStatus.NOT_FOUND, "{\"errors\":[{\"message\":\"No build was found\"}]}"));
+
+		assertThat(client.hasBuildInfo(information)).isFalse();
+	}
+
+	private static HttpClientErrorException clientError(HttpStatus status, String body) {
+		return HttpClientErrorException.create(status, status.getReasonPhrase(), HttpHeaders.EMPTY,
+				body.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+	}
+}
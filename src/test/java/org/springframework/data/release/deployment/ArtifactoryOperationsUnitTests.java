@@ -28,6 +28,7 @@ import org.springframework.data.release.model.ModuleIteration;
 import org.springframework.data.release.model.Projects;
 import org.springframework.data.release.model.ReleaseTrains;
 import org.springframework.data.release.model.TrainIteration;
+import org.springframework.data.release.utils.Logger;
 
 /**
  * Unit tests for {@link ArtifactoryOperations}.
@@ -49,7 +50,7 @@ class ArtifactoryOperationsUnitTests {
 
 		properties.setCommercial(authentication);
 
-		operations = new ArtifactoryOperations(properties, mock(ArtifactoryClient.class));
+		operations = new ArtifactoryOperations(properties, mock(ArtifactoryClient.class), new Logger(), Runnable::run);
 	}
 
 	@Test
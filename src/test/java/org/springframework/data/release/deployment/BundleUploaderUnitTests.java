@@ -0,0 +1,257 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.deployment;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.data.release.model.Iteration;
+import org.springframework.data.release.model.ModuleIteration;
+import org.springframework.data.release.model.Projects;
+import org.springframework.data.release.model.ReleaseTrains;
+import org.springframework.data.release.utils.Logger;
+import org.springframework.http.converter.FormHttpMessageConverter;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Unit tests for {@link BundleUploader} using a local HTTP server injecting failures.
+ *
+ * @author Mark Paluch
+ */
+class BundleUploaderUnitTests {
+
+	static final ModuleIteration BOM = ReleaseTrains.Z.getModuleIteration(Projects.BOM, Iteration.M1);
+	static final byte[] BUNDLE = "PK-bundle-content".repeat(1000).getBytes(StandardCharsets.UTF_8);
+
+	Queue<Response> responses = new ConcurrentLinkedQueue<>();
+	List<String> requests = new CopyOnWriteArrayList<>();
+	DeploymentProperties.MavenCentral properties = new DeploymentProperties.MavenCentral();
+
+	HttpServer server;
+	BundleUploader uploader;
+
+	@BeforeEach
+	void setUp() throws IOException {
+
+		server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext("/api/v1/publisher/upload", exchange -> {
+
+			String request = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.ISO_8859_1);
+			requests.add(request);
+
+			// requests aborted by the client do not consume a response
+			if (!request.contains(new String(BUNDLE, StandardCharsets.ISO_8859_1))) {
+				Response.connectionDropped().send(exchange);
+				return;
+			}
+
+			Response response = responses.poll();
+			(response != null ? response : Response.ok("deployment-id")).send(exchange);
+		});
+		server.start();
+
+		properties.setUploadBackoff(Duration.ofMillis(1));
+
+		uploader = new BundleUploader(new RestTemplateBuilder()
+				.additionalMessageConverters(new FormHttpMessageConverter(), new StringHttpMessageConverter())
+				.uriTemplateHandler(new DefaultUriBuilderFactory("http://localhost:" + server.getAddress().getPort()))
+				.build(), new Logger(), properties);
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.stop(0);
+	}
+
+	@Test
+	void shouldRetryRejectionsAndConnectionFailures() {
+
+		AtomicInteger opened = new AtomicInteger();
+		InputStreamSource bundle = () -> {
+
+			// the first attempt fails while sending the bundle
+			if (opened.incrementAndGet() > 1) {
+				return new ByteArrayInputStream(BUNDLE);
+			}
+
+			return new InputStream() {
+				@Override
+				public int read() throws IOException {
+					throw new IOException("Connection reset");
+				}
+			};
+		};
+
+		properties.setUploadRetries(3);
+		responses.add(Response.status(503));
+		responses.add(Response.status(429));
+
+		StagingRepository deployment = uploader.upload(BOM, "Spring Data Z-M1", bundle, BUNDLE.length);
+
+		assertThat(deployment.getId()).isEqualTo("deployment-id");
+		assertThat(opened).hasValue(4);
+		assertThat(requests).filteredOn(it -> it.contains(new String(BUNDLE))).hasSize(3);
+	}
+
+	@Test
+	void shouldNotRetryAmbiguousFailuresOnceBundleWasSent() {
+
+		responses.add(Response.connectionDropped());
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> uploader.upload(BOM, "Spring Data Z-M1", new ByteArrayResource(BUNDLE), BUNDLE.length))
+				.withMessageContaining("Check for a deployment named 'Spring Data Z-M1'");
+		assertThat(requests).hasSize(1);
+
+		responses.add(Response.status(500));
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> uploader.upload(BOM, "Spring Data Z-M1", new ByteArrayResource(BUNDLE), BUNDLE.length));
+		assertThat(requests).hasSize(2);
+	}
+
+	@Test
+	void shouldNotRetryClientErrors() {
+
+		responses.add(Response.status(400));
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> uploader.upload(BOM, "Spring Data Z-M1", new ByteArrayResource(BUNDLE), BUNDLE.length))
+				.withCauseInstanceOf(HttpClientErrorException.BadRequest.class);
+		assertThat(requests).hasSize(1);
+	}
+
+	@Test
+	void shouldFailAfterExhaustingRetries() {
+
+		properties.setUploadRetries(2);
+
+		for (int i = 0; i < 3; i++) {
+			responses.add(Response.status(503));
+		}
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> uploader.upload(BOM, "Spring Data Z-M1", new ByteArrayResource(BUNDLE), BUNDLE.length))
+				.withMessageContaining("after 3 attempt(s)");
+		assertThat(requests).hasSize(3);
+	}
+
+	@Test
+	void shouldNotRetryBundleFailures() {
+
+		AtomicInteger opened = new AtomicInteger();
+		InputStreamSource bundle = () -> {
+
+			opened.incrementAndGet();
+
+			return new InputStream() {
+				@Override
+				public int read() throws IOException {
+					throw new BundleUploader.BundleException("Cannot create staging bundle", new IOException("Disk full"));
+				}
+			};
+		};
+
+		assertThatIllegalStateException().isThrownBy(() -> uploader.upload(BOM, "Spring Data Z-M1", bundle, -1))
+				.withMessageContaining("after 1 attempt(s)");
+		assertThat(opened).hasValue(1);
+	}
+
+	@Test
+	void shouldRejectIncompleteUploadAndDropDeployment() {
+
+		List<String> dropped = new CopyOnWriteArrayList<>();
+		server.createContext("/api/v1/publisher/deployment/", exchange -> {
+
+			dropped.add(exchange.getRequestMethod() + " " + exchange.getRequestURI().getPath());
+			Response.status(204).send(exchange);
+		});
+
+		InputStreamSource bundle = () -> new ByteArrayInputStream(BUNDLE);
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> uploader.upload(BOM, "Spring Data Z-M1", bundle, BUNDLE.length + 1))
+				.withMessageContaining("but the bundle has");
+		assertThat(dropped).containsExactly("DELETE /api/v1/publisher/deployment/deployment-id");
+	}
+
+	@Test
+	void shouldConsiderTransientFailuresRetryable() {
+
+		assertThat(BundleUploader.isRetryable(new IOException("Connection reset"))).isTrue();
+		assertThat(BundleUploader.isRetryable(new IOException("Connection reset"), true)).isFalse();
+		assertThat(BundleUploader.isRetryable(
+				new BundleUploader.BundleException("Cannot create staging bundle", new IOException("Disk full")))).isFalse();
+	}
+
+	interface Response {
+
+		void send(HttpExchange exchange) throws IOException;
+
+		static Response ok(String body) {
+
+			return exchange -> {
+
+				byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+				exchange.sendResponseHeaders(200, bytes.length);
+				exchange.getResponseBody().write(bytes);
+				exchange.close();
+			};
+		}
+
+		static Response status(int status) {
+
+			return exchange -> {
+				exchange.sendResponseHeaders(status, -1);
+				exchange.close();
+			};
+		}
+
+		/**
+		 * Closes the connection without sending a response.
+		 */
+		static Response connectionDropped() {
+
+			return exchange -> {
+				throw new IOException("Connection dropped");
+			};
+		}
+	}
+}
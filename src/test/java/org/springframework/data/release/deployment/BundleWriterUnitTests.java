@@ -0,0 +1,181 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.deployment;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link BundleWriter}.
+ *
+ * @author Mark Paluch
+ */
+class BundleWriterUnitTests {
+
+	ExecutorService executor = Executors.newFixedThreadPool(4);
+	BundleWriter writer = new BundleWriter(executor);
+
+	@TempDir Path directory;
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void shouldWriteBundleReadableByZipFileAndZipInputStream() throws IOException {
+
+		Path root = directory.resolve("staging");
+		Path pom = write(root.resolve("org/springframework/data/spring-data-commons/3.5.0/spring-data-commons-3.5.0.pom"),
+				"<project>".repeat(1000).getBytes());
+		Path jar = write(root.resolve("org/springframework/data/spring-data-commons/3.5.0/spring-data-commons-3.5.0.jar"),
+				"PK-jar-content".repeat(1000).getBytes());
+		Path empty = write(root.resolve("org/springframework/data/spring-data-commons/3.5.0/empty.txt"), new byte[0]);
+		Path bundle = directory.resolve("bundle.zip");
+
+		assertThat(writer.write(root, List.of(pom, jar, empty), bundle)).isEqualTo(3);
+
+		try (ZipFile zip = new ZipFile(bundle.toFile())) {
+
+			ZipEntry pomEntry = zip.getEntry("org/springframework/data/spring-data-commons/3.5.0/spring-data-commons-3.5.0.pom");
+			ZipEntry jarEntry = zip.getEntry("org/springframework/data/spring-data-commons/3.5.0/spring-data-commons-3.5.0.jar");
+
+			assertThat(zip.size()).isEqualTo(3);
+			assertThat(pomEntry.getMethod()).isEqualTo(ZipEntry.DEFLATED);
+			assertThat(pomEntry.getCompressedSize()).isLessThan(pomEntry.getSize());
+			assertThat(jarEntry.getMethod()).isEqualTo(ZipEntry.STORED);
+
+			try (InputStream stream = zip.getInputStream(pomEntry)) {
+				assertThat(stream.readAllBytes()).isEqualTo(Files.readAllBytes(pom));
+			}
+		}
+
+		Map<String, byte[]> entries = new HashMap<>();
+
+		try (ZipInputStream stream = new ZipInputStream(Files.newInputStream(bundle))) {
+
+			ZipEntry entry;
+			while ((entry = stream.getNextEntry()) != null) {
+				entries.put(entry.getName(), stream.readAllBytes());
+			}
+		}
+
+		assertThat(entries).hasSize(3);
+		assertThat(entries.get("org/springframework/data/spring-data-commons/3.5.0/spring-data-commons-3.5.0.jar"))
+				.isEqualTo(Files.readAllBytes(jar));
+		assertThat(entries.get("org/springframework/data/spring-data-commons/3.5.0/empty.txt")).isEmpty();
+	}
+
+	@Test
+	void shouldWriteManyEntriesExceedingBufferSize() throws IOException {
+
+		Path root = directory.resolve("staging");
+		byte[] random = new byte[300 * 1024];
+		new Random(42).nextBytes(random);
+
+		List<Path> files = new ArrayList<>();
+
+		for (int i = 0; i < 20; i++) {
+			files.add(write(root.resolve("module-" + i + "/artifact-" + i + ".jar"), random));
+		}
+
+		Path bundle = directory.resolve("bundle.zip");
+		writer.write(root, files, bundle);
+
+		try (ZipFile zip = new ZipFile(bundle.toFile())) {
+
+			assertThat(zip.size()).isEqualTo(20);
+
+			try (InputStream stream = zip.getInputStream(zip.getEntry("module-13/artifact-13.jar"))) {
+				assertThat(stream.readAllBytes()).isEqualTo(random);
+			}
+		}
+	}
+
+	@Test
+	void shouldStreamLargeEntries() throws IOException {
+
+		Path root = directory.resolve("staging");
+		byte[] random = new byte[3 * 1024 * 1024];
+		new Random(42).nextBytes(random);
+
+		Path text = write(root.resolve("docs/reference.html"), "<p>Spring Data</p>".repeat(200_000).getBytes());
+		Path binary = write(root.resolve("docs/images.bin"), random);
+		Path bundle = directory.resolve("bundle.zip");
+
+		writer.write(root, List.of(text, binary), bundle);
+
+		try (ZipFile zip = new ZipFile(bundle.toFile())) {
+
+			ZipEntry textEntry = zip.getEntry("docs/reference.html");
+			ZipEntry binaryEntry = zip.getEntry("docs/images.bin");
+
+			assertThat(textEntry.getMethod()).isEqualTo(ZipEntry.DEFLATED);
+			assertThat(textEntry.getCompressedSize()).isLessThan(textEntry.getSize());
+			assertThat(binaryEntry.getMethod()).isEqualTo(ZipEntry.STORED);
+
+			try (InputStream stream = zip.getInputStream(textEntry)) {
+				assertThat(stream.readAllBytes()).isEqualTo(Files.readAllBytes(text));
+			}
+
+			try (InputStream stream = zip.getInputStream(binaryEntry)) {
+				assertThat(stream.readAllBytes()).isEqualTo(random);
+			}
+		}
+
+		try (ZipInputStream stream = new ZipInputStream(Files.newInputStream(bundle))) {
+
+			assertThat(stream.getNextEntry().getName()).isEqualTo("docs/reference.html");
+			assertThat(stream.readAllBytes()).isEqualTo(Files.readAllBytes(text));
+			assertThat(stream.getNextEntry().getName()).isEqualTo("docs/images.bin");
+			assertThat(stream.readAllBytes()).isEqualTo(random);
+		}
+	}
+
+	@Test
+	void shouldPropagateIOException() {
+
+		Path root = directory.resolve("staging");
+
+		assertThatExceptionOfType(NoSuchFileException.class)
+				.isThrownBy(() -> writer.write(root, List.of(root.resolve("missing.pom")), directory.resolve("bundle.zip")));
+	}
+
+	private static Path write(Path file, byte[] content) throws IOException {
+
+		Files.createDirectories(file.getParent());
+		return Files.write(file, content);
+	}
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.deployment;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.data.release.deployment.DeployedArtifacts.Artifact;
+import org.springframework.data.release.model.Iteration;
+import org.springframework.data.release.model.ModuleIteration;
+import org.springframework.data.release.model.Projects;
+import org.springframework.data.release.model.ReleaseTrains;
+import org.springframework.data.release.model.TrainIteration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Unit tests for {@link DeployedArtifacts}.
+ *
+ * @author Mark Paluch
+ */
+class DeployedArtifactsUnitTests {
+
+	static final TrainIteration ITERATION = ReleaseTrains.ULLMAN.getIteration(Iteration.SR1);
+	static final String COMMONS_PATH = "org/springframework/data/spring-data-commons/3.1.1";
+	static final String POM = "spring-data-commons-3.1.1.pom";
+
+	@TempDir Path directory;
+
+	@Test
+	void shouldCreateChecksumAqlStatementForTrain() {
+
+		DeploymentProperties.Authentication authentication = new DeploymentProperties.Authentication();
+		authentication.setStagingRepository("spring-enterprise-maven-stage-local");
+
+		String aql = new AqlWriter(authentication, new ObjectMapper()).createChecksumAqlStatement(ITERATION);
+
+		assertThat(aql).startsWith("items.find({\"repo\":\"spring-enterprise-maven-stage-local\"}, {\"$or\":[");
+		assertThat(aql).contains("\"$match\":\"" + COMMONS_PATH + "\"");
+		assertThat(aql).contains("\"$match\":\"org/springframework/data/spring-data-jdbc/3.1.1\"");
+		assertThat(aql).contains("\"$match\":\"org/springframework/data/spring-data-bom/2023.0.1\"");
+		assertThat(aql).endsWith(".include(\"repo\", \"path\", \"name\", \"sha256\", \"@build.number\")");
+	}
+
+	@Test
+	void shouldSelectArtifactsOfModule() {
+
+		DeployedArtifacts artifacts = new DeployedArtifacts(List.of(
+				new Artifact(COMMONS_PATH, "spring-data-commons-3.1.1.jar", "abc", "1"),
+				new Artifact("org/springframework/data/spring-data-jpa/3.1.1", "spring-data-jpa-3.1.1.jar", "def", "2")));
+
+		ModuleIteration commons = ITERATION.getModule(Projects.COMMONS);
+		ModuleIteration redis = ITERATION.getModule(Projects.REDIS);
+
+		assertThat(artifacts.forModule(commons).isEmpty()).isFalse();
+		assertThat(artifacts.forModule(redis).isEmpty()).isTrue();
+	}
+
+	@Test
+	void shouldReuseBuildNumberIfAllChecksumsMatch() throws IOException {
+
+		File jar = write("spring-data-commons-3.1.1.jar", "jar");
+		File pom = write("pom.xml", "pom");
+
+		DeployedArtifacts artifacts = new DeployedArtifacts(List.of(
+				new Artifact(COMMONS_PATH, jar.getName(), DeployedArtifacts.sha256(jar), "build-1"),
+				new Artifact(COMMONS_PATH, jar.getName() + ".asc", "asc", "build-1"),
+				new Artifact(COMMONS_PATH, POM, DeployedArtifacts.sha256(pom).toUpperCase(), "build-1"),
+				new Artifact(COMMONS_PATH, POM + ".asc", "asc", "build-1")));
+
+		assertThat(artifacts.getReusableBuildNumber(Map.of(jar.getName(), jar, POM, pom))).contains("build-1");
+	}
+
+	@Test
+	void shouldNotReuseBuildNumberIfChecksumDiffers() throws IOException {
+
+		File jar = write("spring-data-commons-3.1.1.jar", "jar");
+
+		DeployedArtifacts artifacts = new DeployedArtifacts(
+				List.of(new Artifact(COMMONS_PATH, jar.getName(), DeployedArtifacts.sha256(jar) + "0", "build-1"),
+						new Artifact(COMMONS_PATH, jar.getName() + ".asc", "asc", "build-1")));
+
+		assertThat(artifacts.getReusableBuildNumber(Map.of(jar.getName(), jar))).isEmpty();
+	}
+
+	@Test
+	void shouldNotReuseBuildNumberIfArtifactIsMissing() throws IOException {
+
+		File jar = write("spring-data-commons-3.1.1.jar", "jar");
+		File sources = write("spring-data-commons-3.1.1-sources.jar", "sources");
+
+		DeployedArtifacts artifacts = new DeployedArtifacts(
+				List.of(new Artifact(COMMONS_PATH, jar.getName(), DeployedArtifacts.sha256(jar), "build-1"),
+						new Artifact(COMMONS_PATH, jar.getName() + ".asc", "asc", "build-1")));
+
+		assertThat(artifacts.getReusableBuildNumber(Map.of(jar.getName(), jar, sources.getName(), sources))).isEmpty();
+		assertThat(DeployedArtifacts.NONE.getReusableBuildNumber(Map.of(jar.getName(), jar))).isEmpty();
+	}
+
+	@Test
+	void shouldNotReuseBuildNumberIfDeployedArtifactIsNotBuiltLocally() throws IOException {
+
+		File jar = write("spring-data-commons-3.1.1.jar", "jar");
+
+		DeployedArtifacts artifacts = new DeployedArtifacts(List.of(
+				new Artifact(COMMONS_PATH, jar.getName(), DeployedArtifacts.sha256(jar), "build-1"),
+				new Artifact(COMMONS_PATH, jar.getName() + ".asc", "asc", "build-1"),
+				new Artifact(COMMONS_PATH, POM, "def", "build-1"), new Artifact(COMMONS_PATH, POM + ".asc", "asc", "build-1")));
+
+		assertThat(artifacts.getReusableBuildNumber(Map.of(jar.getName(), jar))).isEmpty();
+	}
+
+	@Test
+	void shouldNotReuseBuildNumberIfSignatureIsMissing() throws IOException {
+
+		File jar = write("spring-data-commons-3.1.1.jar", "jar");
+
+		DeployedArtifacts artifacts = new DeployedArtifacts(
+				List.of(new Artifact(COMMONS_PATH, jar.getName(), DeployedArtifacts.sha256(jar), "build-1")));
+
+		assertThat(artifacts.getReusableBuildNumber(Map.of(jar.getName(), jar))).isEmpty();
+	}
+
+	@Test
+	void shouldNotReuseBuildNumberOfDifferentBuilds() throws IOException {
+
+		File jar = write("spring-data-commons-3.1.1.jar", "jar");
+
+		DeployedArtifacts artifacts = new DeployedArtifacts(
+				List.of(new Artifact(COMMONS_PATH, jar.getName(), DeployedArtifacts.sha256(jar), "build-1"),
+						new Artifact(COMMONS_PATH, jar.getName() + ".asc", "asc", "build-2")));
+
+		assertThat(artifacts.getReusableBuildNumber(Map.of(jar.getName(), jar))).isEmpty();
+	}
+
+	@Test
+	void shouldRemoveArtifactsOfBuilds() {
+
+		DeployedArtifacts artifacts = new DeployedArtifacts(
+				List.of(new Artifact(COMMONS_PATH, "spring-data-commons-3.1.1.jar", "abc", "build-1"),
+						new Artifact(COMMONS_PATH, POM, "def", "build-2")));
+
+		assertThat(artifacts.getBuildNumbers()).containsExactly("build-1", "build-2");
+		assertThat(artifacts.withoutBuildNumbers(List.of("build-2")).getBuildNumbers()).containsExactly("build-1");
+	}
+
+	private File write(String name, String content) throws IOException {
+		return Files.writeString(directory.resolve(name), content).toFile();
+	}
+}
@@ -15,13 +15,18 @@
  */
 package org.springframework.data.release.deployment;
 
+import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
+import org.springframework.data.release.deployment.DeployedArtifacts.Artifact;
 import org.springframework.data.release.model.Iteration;
 import org.springframework.data.release.model.ModuleIteration;
 import org.springframework.data.release.model.Projects;
 import org.springframework.data.release.model.ReleaseTrains;
+import org.springframework.data.release.model.TrainIteration;
 import org.springframework.data.release.utils.Logger;
 
 /**
@@ -36,7 +41,7 @@ class DeploymentOperationsUnitTests {
 
 		Logger logger = mock(Logger.class);
 		ArtifactoryClient client = mock(ArtifactoryClient.class);
-		DeploymentOperations operations = new DeploymentOperations(client, logger);
+		DeploymentOperations operations = new DeploymentOperations(client, logger, new DeploymentProperties(), Runnable::run);
 
 		ModuleIteration module = ReleaseTrains.MOORE.getModuleIteration(Projects.COMMONS, Iteration.GA);
 
@@ -47,4 +52,32 @@ class DeploymentOperationsUnitTests {
 		verify(logger).log(eq(module), anyString());
 		verifyNoInteractions(client);
 	}
+
+	@Test
+	void excludesDeployedArtifactsOfBuildsWithoutBuildInfo() {
+
+		TrainIteration iteration = ReleaseTrains.ULLMAN.getIteration(Iteration.SR1);
+		ModuleIteration commons = iteration.getModule(Projects.COMMONS);
+
+		DeploymentProperties.Authentication authentication = new DeploymentProperties.Authentication();
+		authentication.setStagingRepository("spring-enterprise-maven-stage-local");
+
+		DeploymentProperties properties = new DeploymentProperties();
+		properties.setCommercial(authentication);
+
+		ArtifactoryClient client = mock(ArtifactoryClient.class);
+		when(client.findArtifacts(any(), anyString())).thenReturn(new DeployedArtifacts(List.of(
+				new Artifact("org/springframework/data/spring-data-commons/3.1.1", "spring-data-commons-3.1.1.jar", "abc",
+						"complete"),
+				new Artifact("org/springframework/data/spring-data-commons/3.1.1", "spring-data-commons-3.1.1.pom", "def",
+						"incomplete"))));
+		when(client.hasBuildInfo(any()))
+				.thenAnswer(invocation -> invocation.<DeploymentInformation> getArgument(0).getBuildNumber().equals("complete"));
+
+		DeploymentOperations operations = new DeploymentOperations(client, mock(Logger.class), properties, Runnable::run);
+
+		DeployedArtifacts artifacts = operations.findDeployedArtifacts(iteration);
+
+		assertThat(artifacts.forModule(commons).getBuildNumbers()).containsExactly("complete");
+	}
 }
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.deployment;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.release.deployment.MavenPublisher.DeploymentStatus;
+import org.springframework.data.release.deployment.MavenPublisher.DeploymentStatus.DeploymentState;
+import org.springframework.data.release.model.Iteration;
+import org.springframework.data.release.model.ReleaseTrains;
+import org.springframework.data.release.model.TrainIteration;
+import org.springframework.data.release.utils.Logger;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Unit tests for {@link DeploymentValidator}.
+ *
+ * @author Mark Paluch
+ */
+class DeploymentValidatorUnitTests {
+
+	static final TrainIteration ITERATION = ReleaseTrains.Z.getIteration(Iteration.M1);
+
+	Map<String, List<DeploymentState>> states = new ConcurrentHashMap<>();
+	Map<String, AtomicInteger> polls = new ConcurrentHashMap<>();
+	Map<String, String> threads = new ConcurrentHashMap<>();
+	ScheduledExecutorService scheduler = Executors
+			.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("timer-"));
+	ExecutorService executor = Executors.newCachedThreadPool(new CustomizableThreadFactory("lookup-"));
+	DeploymentProperties.MavenCentral properties = new DeploymentProperties.MavenCentral();
+	DeploymentValidator validator;
+
+	@BeforeEach
+	void setUp() {
+
+		properties.setValidationPollInterval(Duration.ofMillis(1));
+		properties.setValidationMaxPollInterval(Duration.ofMillis(5));
+
+		validator = new DeploymentValidator(deployment -> {
+
+			threads.put(deployment.getId(), Thread.currentThread().getName());
+			int poll = polls.computeIfAbsent(deployment.getId(), it -> new AtomicInteger()).getAndIncrement();
+			List<DeploymentState> deploymentStates = states.get(deployment.getId());
+
+			DeploymentStatus status = new DeploymentStatus();
+			status.setDeploymentId(deployment.getId());
+			status.setDeploymentState(deploymentStates.get(Math.min(poll, deploymentStates.size() - 1)));
+
+			return status;
+		}, new Logger(), properties, scheduler, executor);
+	}
+
+	@AfterEach
+	void tearDown() {
+
+		scheduler.shutdownNow();
+		executor.shutdownNow();
+	}
+
+	@Test
+	void shouldPollUntilValidated() throws Exception {
+
+		states.put("a", List.of(DeploymentState.PENDING, DeploymentState.VALIDATING, DeploymentState.VALIDATED));
+
+		DeploymentStatus status = validator.validate(ITERATION, StagingRepository.of("a")).get(5, TimeUnit.SECONDS);
+
+		assertThat(status.getDeploymentState()).isEqualTo(DeploymentState.VALIDATED);
+		assertThat(polls.get("a")).hasValue(3);
+	}
+
+	@Test
+	void shouldRunLookupsOutsideOfSchedulerThread() throws Exception {
+
+		states.put("a", List.of(DeploymentState.VALIDATING, DeploymentState.VALIDATED));
+
+		validator.validate(ITERATION, StagingRepository.of("a")).get(5, TimeUnit.SECONDS);
+
+		assertThat(threads.get("a")).startsWith("lookup-");
+	}
+
+	@Test
+	void shouldFailWhenLookupCannotBeSubmitted() {
+
+		executor.shutdownNow();
+		states.put("a", List.of(DeploymentState.VALIDATED));
+
+		assertThatExceptionOfType(ExecutionException.class)
+				.isThrownBy(() -> validator.validate(ITERATION, StagingRepository.of("a")).get(5, TimeUnit.SECONDS))
+				.withCauseInstanceOf(RejectedExecutionException.class);
+	}
+
+	@Test
+	void shouldShutDownOwnThreadsOnDestroy() {
+
+		DeploymentValidator owner = new DeploymentValidator(deployment -> new DeploymentStatus(), new Logger(),
+				properties);
+		owner.destroy();
+		validator.destroy();
+
+		assertThatExceptionOfType(ExecutionException.class)
+				.isThrownBy(() -> owner.validate(ITERATION, StagingRepository.of("a")).get(5, TimeUnit.SECONDS))
+				.withCauseInstanceOf(RejectedExecutionException.class);
+		assertThat(scheduler.isShutdown()).isFalse();
+		assertThat(executor.isShutdown()).isFalse();
+	}
+
+	@Test
+	void shouldFailOnValidationFailure() {
+
+		states.put("a", List.of(DeploymentState.VALIDATING, DeploymentState.FAILED));
+
+		assertThatExceptionOfType(ExecutionException.class)
+				.isThrownBy(() -> validator.validate(ITERATION, StagingRepository.of("a")).get(5, TimeUnit.SECONDS))
+				.withCauseInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void shouldTimeOut() {
+
+		properties.setValidationTimeout(Duration.ofMillis(50));
+		states.put("a", List.of(DeploymentState.VALIDATING));
+
+		assertThatExceptionOfType(ExecutionException.class)
+				.isThrownBy(() -> validator.validate(ITERATION, StagingRepository.of("a")).get(5, TimeUnit.SECONDS))
+				.withCauseInstanceOf(TimeoutException.class);
+	}
+
+	@Test
+	void shouldValidateMultipleDeploymentsConcurrently() throws Exception {
+
+		states.put("a", List.of(DeploymentState.VALIDATING, DeploymentState.VALIDATING, DeploymentState.VALIDATED));
+		states.put("b", List.of(DeploymentState.PUBLISHED));
+
+		List<DeploymentStatus> statuses = validator
+				.validate(ITERATION, List.of(StagingRepository.of("a"), StagingRepository.of("b")))
+				.get(5, TimeUnit.SECONDS);
+
+		assertThat(statuses).extracting(DeploymentStatus::getDeploymentId).containsExactly("a", "b");
+	}
+
+	@Test
+	void shouldStopPollingOtherDeploymentsOnFailure() throws Exception {
+
+		states.put("a", List.of(DeploymentState.VALIDATING));
+		states.put("b", List.of(DeploymentState.VALIDATING, DeploymentState.FAILED));
+
+		CompletableFuture<List<DeploymentStatus>> result = validator.validate(ITERATION,
+				List.of(StagingRepository.of("a"), StagingRepository.of("b")));
+
+		assertThatExceptionOfType(ExecutionException.class).isThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+				.withCauseInstanceOf(IllegalStateException.class);
+
+		Thread.sleep(50);
+		int pollsAfterFailure = polls.get("a").get();
+		Thread.sleep(50);
+
+		assertThat(polls.get("a")).hasValueLessThanOrEqualTo(pollsAfterFailure + 1);
+	}
+
+	@Test
+	void shouldGrowPollIntervalUpToMaximum() {
+
+		Duration max = Duration.ofSeconds(15);
+
+		assertThat(DeploymentValidator.nextInterval(Duration.ofSeconds(1), max)).isEqualTo(Duration.ofMillis(1500));
+		assertThat(DeploymentValidator.nextInterval(Duration.ofSeconds(12), max)).isEqualTo(max);
+	}
+}
@@ -17,15 +17,23 @@ package org.springframework.data.release.deployment;
 
 import static org.assertj.core.api.Assertions.*;
 
+import lombok.Value;
+
 import java.io.File;
 import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -33,10 +41,17 @@ import org.junit.jupiter.api.io.TempDir;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.data.release.io.IoProperties;
 import org.springframework.data.release.io.Workspace;
+import org.springframework.data.release.model.Gpg;
 import org.springframework.data.release.model.Iteration;
+import org.springframework.data.release.model.ModuleIteration;
 import org.springframework.data.release.model.Password;
+import org.springframework.data.release.model.Projects;
 import org.springframework.data.release.model.ReleaseTrains;
 import org.springframework.data.release.utils.Logger;
+import org.springframework.http.MediaType;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpServer;
 
 /**
  * Tests for {@link MavenPublisher}.
@@ -46,10 +61,26 @@ import org.springframework.data.release.utils.Logger;
 class MavenPublisherTests {
 
 	@TempDir File stagingDir;
+	private DeploymentProperties.MavenCentral central;
 	private MavenPublisher publisher;
 
+	private final List<RecordedUpload> uploads = new CopyOnWriteArrayList<>();
+	private HttpServer server;
+
 	@BeforeEach
-	void setUp() {
+	void setUp() throws IOException {
+
+		server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext("/api/v1/publisher/upload", exchange -> {
+
+			uploads.add(new RecordedUpload(exchange.getRequestHeaders(), exchange.getRequestBody().readAllBytes()));
+
+			byte[] response = "deployment-id".getBytes(StandardCharsets.UTF_8);
+			exchange.sendResponseHeaders(200, response.length);
+			exchange.getResponseBody().write(response);
+			exchange.close();
+		});
+		server.start();
 
 		IoProperties io = new IoProperties();
 		io.setStagingDir(stagingDir.getAbsolutePath());
@@ -57,12 +88,21 @@ class MavenPublisherTests {
 		Workspace workspace = new Workspace(io, new Logger());
 		DeploymentProperties deploymentProperties = new DeploymentProperties();
 
-		DeploymentProperties.MavenCentral central = new DeploymentProperties.MavenCentral();
+		central = new DeploymentProperties.MavenCentral();
+		central.setCentralApiBaseUrl("http://localhost:" + server.getAddress().getPort());
 		central.setUsername("foo");
 		central.setPassword(Password.of("bar"));
 		deploymentProperties.setMavenCentral(central);
 
-		publisher = new MavenPublisher(new Logger(), workspace, deploymentProperties, new RestTemplateBuilder());
+		publisher = new MavenPublisher(new Logger(), workspace, deploymentProperties, new RestTemplateBuilder(), new Gpg(),
+				Runnable::run);
+	}
+
+	@AfterEach
+	void tearDown() {
+
+		publisher.destroy();
+		server.stop(0);
 	}
 
 	@Test
@@ -111,4 +151,72 @@ class MavenPublisherTests {
 
 		assertThat(entries).hasSize(1).contains("foo/bar/baz.txt");
 	}
+
+	@Test
+	void streamingUploadShouldSendStagingFileContent() throws IOException {
+
+		StagingRepository stagingRepository = publisher.initializeStagingRepository();
+
+		File directory = new File(publisher.getStagingDirectory(), "org/springframework/data/spring-data-bom/2025.0.0");
+		directory.mkdirs();
+
+		Files.writeString(new File(directory, "spring-data-bom-2025.0.0.pom").toPath(), "<project/>".repeat(100));
+		Files.writeString(new File(directory, "spring-data-bom-2025.0.0.pom.asc").toPath(), "signature");
+		Files.write(new File(directory, "spring-data-bom-2025.0.0.jar").toPath(), new byte[64 * 1024]);
+		Files.writeString(new File(directory, "maven-metadata.xml").toPath(), "<metadata/>");
+
+		ModuleIteration bom = ReleaseTrains.Z.getModuleIteration(Projects.BOM, Iteration.M1);
+
+		central.setStreamingUpload(true);
+		assertThat(publisher.upload(bom, "Spring Data Z-M1", stagingRepository).getId()).isEqualTo("deployment-id");
+		assertThat(publisher.getStagingFile()).doesNotExist();
+
+		central.setStreamingUpload(false);
+		publisher.upload(bom, "Spring Data Z-M1", stagingRepository);
+
+		assertThat(uploads).hasSize(2);
+
+		RecordedUpload streamed = uploads.get(0);
+		RecordedUpload file = uploads.get(1);
+
+		assertThat(streamed.getHeaders().getFirst("Transfer-Encoding")).isEqualTo("chunked");
+		assertThat(streamed.getBundlePart()).contains("filename=\"central-staging.zip\"");
+		assertThat(streamed.getBundle()).isEqualTo(file.getBundle())
+				.isEqualTo(Files.readAllBytes(publisher.getStagingFile().toPath()));
+	}
+
+	/**
+	 * Upload request captured by the local HTTP server.
+	 */
+	@Value
+	static class RecordedUpload {
+
+		Headers headers;
+		byte[] body;
+
+		/**
+		 * Returns the part headers of the {@code bundle} part.
+		 */
+		String getBundlePart() {
+
+			String content = new String(body, StandardCharsets.ISO_8859_1);
+			int start = content.indexOf("name=\"bundle\"");
+
+			return content.substring(content.lastIndexOf("\r\n", start), content.indexOf("\r\n\r\n", start));
+		}
+
+		/**
+		 * Returns the content of the {@code bundle} part.
+		 */
+		byte[] getBundle() {
+
+			String content = new String(body, StandardCharsets.ISO_8859_1);
+			String boundary = MediaType.parseMediaType(headers.getFirst("Content-Type")).getParameter("boundary");
+
+			int start = content.indexOf("\r\n\r\n", content.indexOf("name=\"bundle\"")) + 4;
+			int end = content.indexOf("\r\n--" + boundary, start);
+
+			return Arrays.copyOfRange(body, start, end);
+		}
+	}
 }
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.deployment;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.release.model.Iteration;
+import org.springframework.data.release.model.ModuleIteration;
+import org.springframework.data.release.model.Projects;
+import org.springframework.data.release.model.ReleaseTrains;
+import org.springframework.data.release.model.TrainIteration;
+import org.springframework.data.release.utils.Logger;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * Unit tests for {@link Promotions}.
+ *
+ * @author Mark Paluch
+ */
+class PromotionsUnitTests {
+
+	static final TrainIteration TRAIN = ReleaseTrains.Z.getIteration(Iteration.GA);
+
+	ExecutorService executor = Executors.newFixedThreadPool(8);
+	DeploymentProperties.Promotion properties = new DeploymentProperties.Promotion();
+	Map<ModuleIteration, AtomicInteger> invocations = new ConcurrentHashMap<>();
+	Promotions promotions;
+
+	@BeforeEach
+	void setUp() {
+
+		properties.setBackoff(Duration.ofMillis(1));
+		promotions = new Promotions(new Logger(), properties, executor);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void shouldLimitConcurrency() {
+
+		properties.setConcurrency(2);
+
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		List<ModuleIteration> modules = TRAIN.stream().toList();
+
+		promotions.run("Promotion", modules, it -> it, module -> {
+
+			invoked(module);
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			Thread.sleep(10);
+			running.decrementAndGet();
+		});
+
+		assertThat(invocations).hasSize(modules.size());
+		assertThat(maxRunning).hasValueBetween(1, 2);
+	}
+
+	@Test
+	void shouldRetryTransientFailures() {
+
+		ModuleIteration jpa = TRAIN.getModule(Projects.JPA);
+		ModuleIteration mongo = TRAIN.getModule(Projects.MONGO_DB);
+
+		promotions.run("Promotion", List.of(jpa, mongo), it -> it, module -> {
+
+			int invocation = invoked(module);
+
+			if (module == jpa && invocation == 1) {
+				throw new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE);
+			}
+
+			if (module == mongo && invocation == 1) {
+				throw new ResourceAccessException("Connection reset");
+			}
+		});
+
+		assertThat(invocations.get(jpa)).hasValue(2);
+		assertThat(invocations.get(mongo)).hasValue(2);
+	}
+
+	@Test
+	void shouldReportAllFailuresAfterRunningRemainingPromotions() {
+
+		properties.setRetries(1);
+
+		ModuleIteration jpa = TRAIN.getModule(Projects.JPA);
+		ModuleIteration mongo = TRAIN.getModule(Projects.MONGO_DB);
+		ModuleIteration redis = TRAIN.getModule(Projects.REDIS);
+
+		assertThatIllegalStateException().isThrownBy(() -> {
+			promotions.run("Promotion", List.of(jpa, mongo, redis), it -> it, module -> {
+
+				invoked(module);
+
+				if (module == jpa) {
+					throw badRequest("{\"errors\":[{\"status\":400,\"message\":\"Build not found\"}]}");
+				}
+
+				if (module == redis) {
+					throw new HttpServerErrorException(HttpStatus.BAD_GATEWAY);
+				}
+			});
+		}).withMessageContaining("Promotion failed for 2 of 3 modules").withMessageContaining(jpa.toString())
+				.withMessageContaining(redis.toString());
+
+		assertThat(invocations.get(jpa)).hasValue(1);
+		assertThat(invocations.get(mongo)).hasValue(1);
+		assertThat(invocations.get(redis)).hasValue(2);
+	}
+
+	@Test
+	void shouldCreateErrorsFromResponse() {
+
+		Errors errors = Errors.from(badRequest("{\"errors\":[{\"status\":400,\"message\":\"Build not found\"}]}"));
+		Errors fallback = Errors.from(badRequest("Not JSON"));
+
+		assertThat(errors.getErrors()).extracting(Errors.Error::toString).containsExactly("400 - Build not found");
+		assertThat(fallback.getErrors()).extracting(Errors.Error::toString).containsExactly("400 - Not JSON");
+	}
+
+	private int invoked(ModuleIteration module) {
+		return invocations.computeIfAbsent(module, it -> new AtomicInteger()).incrementAndGet();
+	}
+
+	private static HttpClientErrorException badRequest(String body) {
+		return HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "Bad Request", new HttpHeaders(),
+				body.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.io;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.data.release.io.JavaRuntimes.JdkInstallation;
+import org.springframework.data.release.model.Version;
+
+/**
+ * Unit tests for {@link RuntimeCache}.
+ *
+ * @author Mark Paluch
+ */
+class RuntimeCacheUnitTests {
+
+	@TempDir File tempDir;
+
+	File file;
+	File candidates;
+
+	@BeforeEach
+	void setUp() {
+
+		file = new File(tempDir, "cache/runtimes.properties");
+		candidates = new File(tempDir, "candidates");
+		candidates.mkdirs();
+	}
+
+	@Test
+	void shouldPersistValuesUntilDirectoryIsModified() {
+
+		AtomicInteger loads = new AtomicInteger();
+
+		assertThat(new RuntimeCache(file).get("maven.version", candidates, () -> "3.9." + loads.incrementAndGet()))
+				.isEqualTo("3.9.1");
+		assertThat(new RuntimeCache(file).get("maven.version", candidates, () -> "3.9." + loads.incrementAndGet()))
+				.isEqualTo("3.9.1");
+
+		candidates.setLastModified(candidates.lastModified() - 10_000);
+
+		assertThat(new RuntimeCache(file).get("maven.version", candidates, () -> "3.9." + loads.incrementAndGet()))
+				.isEqualTo("3.9.2");
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	void shouldRestoreCachedJdkInstallations() {
+
+		AtomicInteger detections = new AtomicInteger();
+		JdkInstallation jdk = new JdkInstallation(Version.parse("21.0.2"), "Eclipse Temurin 21.0.2", "Eclipse Temurin",
+				new File(candidates, "21.0.2-tem"));
+
+		JavaRuntimes.JdkDetector detector = new JavaRuntimes.JdkDetector() {
+
+			@Override
+			public boolean isAvailable() {
+				return true;
+			}
+
+			@Override
+			public List<JdkInstallation> detect() {
+				detections.incrementAndGet();
+				return List.of(jdk);
+			}
+
+			@Override
+			public File getLocation() {
+				return candidates;
+			}
+		};
+
+		assertThat(JavaRuntimes.detect(detector, new RuntimeCache(file))).containsExactly(jdk);
+		assertThat(JavaRuntimes.detect(detector, new RuntimeCache(file))).containsExactly(jdk);
+		assertThat(detections).hasValue(1);
+	}
+
+	@Test
+	void shouldReloadInstallationsUpdatedInPlace() {
+
+		AtomicInteger detections = new AtomicInteger();
+		File home = new File(candidates, "21-tem");
+		File lib = new File(home, "lib");
+		lib.mkdirs();
+
+		JavaRuntimes.JdkDetector detector = new JavaRuntimes.JdkDetector() {
+
+			@Override
+			public boolean isAvailable() {
+				return true;
+			}
+
+			@Override
+			public List<JdkInstallation> detect() {
+				return List.of(new JdkInstallation(Version.parse("21.0." + detections.incrementAndGet()),
+						"Eclipse Temurin", "Eclipse Temurin", home));
+			}
+
+			@Override
+			public File getLocation() {
+				return candidates;
+			}
+		};
+
+		long candidatesModified = candidates.lastModified();
+
+		assertThat(JavaRuntimes.detect(detector, new RuntimeCache(file))).extracting(JdkInstallation::getVersion)
+				.containsExactly(Version.parse("21.0.1"));
+
+		lib.setLastModified(lib.lastModified() - 10_000);
+
+		assertThat(candidates.lastModified()).isEqualTo(candidatesModified);
+		assertThat(JavaRuntimes.detect(detector, new RuntimeCache(file))).extracting(JdkInstallation::getVersion)
+				.containsExactly(Version.parse("21.0.2"));
+	}
+
+	@Test
+	void shouldReloadUnreadableEntries() {
+
+		RuntimeCache cache = new RuntimeCache(file);
+		cache.get("maven.version", candidates, () -> "not-a-version");
+
+		List<Version> versions = new RuntimeCache(file).get("maven.version", candidates, () -> List.of(Version.of(3, 9)),
+				Version::toString, Version::parse, it -> candidates);
+
+		assertThat(versions).containsExactly(Version.of(3, 9));
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.issues;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.release.model.Iteration;
+import org.springframework.data.release.model.ModuleIteration;
+import org.springframework.data.release.model.ReleaseTrains;
+import org.springframework.data.release.model.TrainIteration;
+import org.springframework.data.release.utils.Logger;
+import org.springframework.plugin.core.PluginRegistry;
+
+/**
+ * Unit tests for {@link IssueTrackerCommands}.
+ *
+ * @author Mark Paluch
+ */
+class IssueTrackerCommandsUnitTests {
+
+	TrainIteration iteration = new TrainIteration(ReleaseTrains.Z, Iteration.M1);
+	ExecutorService executor = Executors.newCachedThreadPool();
+	IssueTracker tracker = mock(IssueTracker.class);
+
+	IssueTrackerCommands commands = new IssueTrackerCommands(PluginRegistry.of(tracker), executor, new Logger());
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void shouldReportPreparedTicketsInModuleOrder() throws Exception {
+
+		List<ModuleIteration> modules = iteration.toList();
+		ModuleIteration first = modules.get(0);
+		ModuleIteration last = modules.get(modules.size() - 1);
+		CountDownLatch lastAssigned = new CountDownLatch(1);
+
+		when(tracker.supports(any())).thenReturn(true);
+		when(tracker.assignReleaseTicketToMe(any())).thenAnswer(invocation -> {
+
+			ModuleIteration module = invocation.getArgument(0);
+
+			// complete the first module last
+			if (module.equals(first)) {
+				lastAssigned.await(5, TimeUnit.SECONDS);
+			}
+
+			if (module.equals(last)) {
+				lastAssigned.countDown();
+			}
+
+			return null;
+		});
+		when(tracker.startReleaseTicketProgress(any())).thenAnswer(invocation -> {
+
+			ModuleIteration module = invocation.getArgument(0);
+			return new Ticket(module.getProject().getName(), "Release", mock(TicketStatus.class));
+		});
+
+		String tickets = commands.trackerPrepare(iteration);
+
+		assertThat(tickets).containsSubsequence(modules.stream().map(it -> it.getProject().getName()).toList());
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.utils;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.util.Streamable;
+
+/**
+ * Unit tests for {@link ExecutionUtils}.
+ *
+ * @author Mark Paluch
+ */
+class ExecutionUtilsUnitTests {
+
+	ExecutorService executor = Executors.newFixedThreadPool(4);
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void shouldEmitResultsInCompletionOrder() {
+
+		CountDownLatch fastConsumed = new CountDownLatch(1);
+
+		Iterator<String> results = ExecutionUtils.stream(executor, Streamable.of("slow", "fast"), it -> {
+
+			if (it.equals("slow")) {
+				await(fastConsumed);
+			}
+
+			return it;
+		}).iterator();
+
+		assertThat(results.next()).isEqualTo("fast");
+		fastConsumed.countDown();
+
+		assertThat(results.next()).isEqualTo("slow");
+		assertThat(results.hasNext()).isFalse();
+	}
+
+	@Test
+	void shouldReportProgress() {
+
+		ExecutionProgress progress = ExecutionProgress.silent();
+
+		List<Integer> results = ExecutionUtils
+				.stream(executor, Streamable.of(1, 2, 3), it -> it * 2, progress) //
+				.collect(Collectors.toList());
+
+		assertThat(results).containsExactlyInAnyOrder(2, 4, 6);
+		assertThat(progress.getRunning()).isZero();
+		assertThat(progress.getDone()).isEqualTo(3);
+		assertThat(progress.getFailed()).isZero();
+		assertThat(progress).hasToString("0 running, 3 done, 0 failed");
+	}
+
+	@Test
+	void shouldSurfaceFailureWhenReached() {
+
+		ExecutionProgress progress = ExecutionProgress.silent();
+
+		assertThatExceptionOfType(CompletionException.class)
+				.isThrownBy(() -> ExecutionUtils.stream(executor, Streamable.of(1, 2), it -> {
+
+					if (it == 2) {
+						throw new IllegalStateException("Boom");
+					}
+
+					return it;
+				}, progress).collect(Collectors.toList())) //
+				.withCauseInstanceOf(IllegalStateException.class);
+
+		assertThat(progress.getFailed()).isOne();
+	}
+
+	@Test
+	void shouldCancelOutstandingExecutionsOnFailure() {
+
+		ExecutorService single = Executors.newSingleThreadExecutor();
+		List<Integer> invoked = new CopyOnWriteArrayList<>();
+
+		try {
+
+			assertThatExceptionOfType(CompletionException.class)
+					.isThrownBy(() -> ExecutionUtils.stream(single, Streamable.of(1, 2, 3), it -> {
+
+						invoked.add(it);
+
+						if (it == 1) {
+							throw new IllegalStateException("Boom");
+						}
+
+						return it;
+					}).collect(Collectors.toList())) //
+					.withCauseInstanceOf(IllegalStateException.class);
+		} finally {
+			single.shutdownNow();
+		}
+
+		assertThat(invoked).containsExactly(1);
+	}
+
+	private static void await(CountDownLatch latch) {
+
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.utils;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+/**
+ * Unit tests for {@link ExecutorConfiguration}.
+ *
+ * @author Mark Paluch
+ */
+class ExecutorConfigurationUnitTests {
+
+	ApplicationContextRunner runner = new ApplicationContextRunner().withUserConfiguration(ExecutorConfiguration.class);
+
+	@Test
+	void shouldRunSequentiallyByDefault() {
+
+		runner.run(context -> {
+
+			assertThat(context.getBean(ExecutorService.class)).isSameAs(ExecutorConfiguration.ImmediateExecutorService.INSTANCE);
+			assertThat(context.getBean("ioExecutor")).isSameAs(ExecutorConfiguration.ImmediateExecutorService.INSTANCE);
+		});
+	}
+
+	@Test
+	void shouldShareThreadPoolForIo() {
+
+		runner.withPropertyValues("maven.parallelize=true").run(context -> {
+
+			assertThat(context.getBean(ExecutorService.class)).isInstanceOf(ThreadPoolExecutor.class);
+			assertThat(context.getBean("ioExecutor")).isSameAs(context.getBean(ExecutorService.class));
+		});
+	}
+
+	@Test
+	void shouldUseSeparateExecutorForIoInVirtualMode() {
+
+		runner.withPropertyValues("maven.parallelize=virtual").run(context -> {
+
+			ExecutorService primary = context.getBean(ExecutorService.class);
+			ExecutorService io = context.getBean("ioExecutor", ExecutorService.class);
+
+			assertThat(primary).isInstanceOf(ThreadPoolExecutor.class);
+			assertThat(io).isNotSameAs(primary);
+			assertThat(io.submit(() -> "done").get()).isEqualTo("done");
+		});
+	}
+}